@@ -17,6 +17,7 @@ package org.finos.legend.engine.repl.core.legend;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.pure.generated.Root_meta_pure_executionPlan_ExecutionPlan;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionDefinition;
 
 import java.net.URL;
 
@@ -33,8 +34,16 @@ public interface LegendInterface
 
     PureModel compile(PureModelContextData model);
 
+    /**
+     * Compiles the model without the REPL run function, so that queries (i.e. the body of the run function) can be compiled
+     * on top of it. The compiled model is reused as long as the rest of the model does not change.
+     */
+    PureModel compileBaseModel(PureModelContextData model);
+
     Root_meta_pure_executionPlan_ExecutionPlan generatePlan(PureModel pureModel, boolean debug);
 
+    Root_meta_pure_executionPlan_ExecutionPlan generatePlan(PureModel pureModel, FunctionDefinition<?> function, boolean debug);
+
     String executePlan(String plan);
 
     void loadCSV(URL content);
@@ -14,8 +14,11 @@
 
 package org.finos.legend.engine.repl.core.legend;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.Compiler;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
@@ -25,13 +28,20 @@ import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposerConte
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.platform.PlanPlatform;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
 import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.pure.generated.Root_meta_pure_executionPlan_ExecutionPlan;
 import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionDefinition;
 
+import java.io.IOException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.concurrent.ForkJoinPool;
 
 import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCTION_QUALIFIED_PATH;
@@ -39,6 +49,8 @@ import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCT
 public class LocalLegendInterface implements LegendInterface
 {
     private final ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private volatile BaseModelSnapshot baseModelSnapshot;
 
     @Override
     public PureModelContextData parse(String txt, boolean returnSourceInformation)
@@ -92,11 +104,55 @@ public class LocalLegendInterface implements LegendInterface
         return Compiler.compile(pureModelContextData, DeploymentMode.PROD, Identity.getAnonymousIdentity().getName(), null, PureModelProcessParameter.newBuilder().withForkJoinPool(this.forkJoinPool).build());
     }
 
+    @Override
+    public PureModel compileBaseModel(PureModelContextData pureModelContextData)
+    {
+        MutableList<PackageableElement> elements = ListIterate.reject(pureModelContextData.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH));
+        BaseModelSnapshot snapshot = this.baseModelSnapshot;
+        // the elements are usually the very same instances from one query to the next, only the run function being replaced
+        if (snapshot != null && snapshot.hasSameElements(elements))
+        {
+            return snapshot.pureModel;
+        }
+        String digest = digest(elements);
+        if (snapshot != null && snapshot.digest.equals(digest))
+        {
+            this.baseModelSnapshot = new BaseModelSnapshot(elements, digest, snapshot.pureModel);
+            return snapshot.pureModel;
+        }
+        PureModel pureModel = this.compile(PureModelContextData.newBuilder()
+                .withOrigin(pureModelContextData.getOrigin())
+                .withSerializer(pureModelContextData.getSerializer())
+                .withElements(elements)
+                .build());
+        this.baseModelSnapshot = new BaseModelSnapshot(elements, digest, pureModel);
+        return pureModel;
+    }
+
+    private String digest(MutableList<PackageableElement> elements)
+    {
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(this.objectMapper.writeValueAsBytes(elements));
+            return Base64.getEncoder().encodeToString(hash);
+        }
+        catch (NoSuchAlgorithmException | IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public Root_meta_pure_executionPlan_ExecutionPlan generatePlan(PureModel pureModel, boolean debug)
+    {
+        return this.generatePlan(pureModel, pureModel.getConcreteFunctionDefinition_safe(REPL_RUN_FUNCTION_QUALIFIED_PATH), debug);
+    }
+
+    @Override
+    public Root_meta_pure_executionPlan_ExecutionPlan generatePlan(PureModel pureModel, FunctionDefinition<?> function, boolean debug)
     {
         RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
-        Pair<Root_meta_pure_executionPlan_ExecutionPlan, String> res = PlanGenerator.generateExecutionPlanAsPure(pureModel.getConcreteFunctionDefinition_safe(REPL_RUN_FUNCTION_QUALIFIED_PATH), null, pureModel, PlanPlatform.JAVA, "", debug, extensions);
+        Pair<Root_meta_pure_executionPlan_ExecutionPlan, String> res = PlanGenerator.generateExecutionPlanAsPure(function, null, pureModel, PlanPlatform.JAVA, "", debug, extensions);
         if (debug)
         {
             System.out.println(res.getTwo());
@@ -115,4 +171,23 @@ public class LocalLegendInterface implements LegendInterface
     {
 
     }
+
+    private static class BaseModelSnapshot
+    {
+        private final MutableList<PackageableElement> elements;
+        private final String digest;
+        private final PureModel pureModel;
+
+        private BaseModelSnapshot(MutableList<PackageableElement> elements, String digest, PureModel pureModel)
+        {
+            this.elements = elements;
+            this.digest = digest;
+            this.pureModel = pureModel;
+        }
+
+        private boolean hasSameElements(MutableList<PackageableElement> otherElements)
+        {
+            return this.elements.size() == otherElements.size() && this.elements.zip(otherElements).allSatisfy(pair -> pair.getOne() == pair.getTwo());
+        }
+    }
 }
@@ -20,16 +20,16 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.RelationTypeHelper;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.language.pure.grammar.to.DEPRECATED_PureGrammarComposerCore;
-import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposer;
-import org.finos.legend.engine.language.pure.grammar.to.PureGrammarComposerContext;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToColumnarJsonSerializer;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -39,7 +39,9 @@ import org.finos.legend.engine.protocol.pure.m3.multiplicity.Multiplicity;
 import org.finos.legend.engine.protocol.pure.m3.type.generics.GenericType;
 import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.PackageableType;
 import org.finos.legend.engine.protocol.pure.m3.relation.RelationType;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.AppliedFunction;
 import org.finos.legend.engine.protocol.pure.m3.valuespecification.ValueSpecification;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.datatype.primitive.CInteger;
 import org.finos.legend.engine.protocol.pure.m3.function.LambdaFunction;
 import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
 import org.finos.legend.engine.repl.autocomplete.Completer;
@@ -58,6 +60,7 @@ import org.finos.legend.pure.m3.navigation.M3Paths;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 
 import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCTION_QUALIFIED_PATH;
@@ -65,6 +68,64 @@ import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCT
 public class DataCubeHelpers
 {
     public static DataCubeExecutionResult executeQuery(Client client, LegendInterface legendInterface, PlanExecutor planExecutor, PureModelContextData data, boolean debug) throws IOException
+    {
+        return executeQuery(client, legendInterface, planExecutor, data, debug, (relationalResult, result) ->
+        {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            relationalResult.getSerializer(SerializationFormat.DEFAULT).stream(byteArrayOutputStream);
+            result.result = byteArrayOutputStream.toString();
+            return result;
+        });
+    }
+
+    /**
+     * Streams a window of the rows of the query result in columnar chunks (see {@link RelationalResultToColumnarJsonSerializer})
+     * to the output stream opened once the query has been executed, so that the client can render the first rows before
+     * the whole result has been fetched. The window is applied by the query, so that only its rows are fetched.
+     *
+     * @param limit maximum number of rows to stream, a non-positive value meaning all the rows after the offset
+     */
+    public static DataCubeExecutionResult streamQuery(Client client, LegendInterface legendInterface, PlanExecutor planExecutor, PureModelContextData data, boolean debug, long offset, long limit, long maxBufferedBytes, ResultStreamOpener streamOpener) throws IOException
+    {
+        return executeQuery(client, legendInterface, planExecutor, applyWindow(data, offset, limit), debug, (relationalResult, result) ->
+        {
+            try (OutputStream outputStream = streamOpener.open(result))
+            {
+                new RelationalResultToColumnarJsonSerializer(relationalResult, offset, limit, maxBufferedBytes).stream(outputStream);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Slices the result of the query to the window, fetching one more row than the limit to tell whether the window
+     * reaches the end of the result
+     */
+    private static PureModelContextData applyWindow(PureModelContextData data, long offset, long limit)
+    {
+        if (offset <= 0 && limit <= 0)
+        {
+            return data;
+        }
+        Function func = (Function) ListIterate.select(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
+        AppliedFunction window = new AppliedFunction();
+        ValueSpecification query = func.body.get(func.body.size() - 1);
+        if (limit > 0)
+        {
+            window.function = "slice";
+            window.parameters = Lists.mutable.with(query, new CInteger(Math.max(0, offset)), new CInteger(Math.max(0, offset) + limit + 1));
+        }
+        else
+        {
+            window.function = "drop";
+            window.parameters = Lists.mutable.with(query, new CInteger(offset));
+        }
+        LambdaFunction lambda = new LambdaFunction();
+        lambda.body = Lists.mutable.withAll(func.body.subList(0, func.body.size() - 1)).with(window);
+        return injectNewFunction(data, lambda).getOne();
+    }
+
+    private static DataCubeExecutionResult executeQuery(Client client, LegendInterface legendInterface, PlanExecutor planExecutor, PureModelContextData data, boolean debug, ResultConsumer consumer) throws IOException
     {
         Function func = (Function) ListIterate.select(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
         String queryCode = getQueryCode(func.body.get(0), false);
@@ -76,7 +137,8 @@ public class DataCubeHelpers
             client.println("Function: " + queryCode);
         }
 
-        PureModel pureModel = legendInterface.compile(data);
+        PureModel pureModel = legendInterface.compileBaseModel(data);
+        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction<?> query = compileQuery(pureModel, func);
         RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
 
         // Plan
@@ -86,7 +148,7 @@ public class DataCubeHelpers
         }
         // TODO: Since H2 does not support pivot(), when pivot() is used, the debugger will fail as it defaults to use H2
         // when we switch out to use DuckDB as the core testing DB, then this issue should be resolved
-        Root_meta_pure_executionPlan_ExecutionPlan _plan = legendInterface.generatePlan(pureModel, false);
+        Root_meta_pure_executionPlan_ExecutionPlan _plan = legendInterface.generatePlan(pureModel, query, false);
         String planStr = PlanGenerator.serializeToJSON(_plan, "vX_X_X", pureModel, extensions, LegendPlanTransformers.transformers);
         if (client != null && debug)
         {
@@ -118,12 +180,9 @@ public class DataCubeHelpers
                 }
 
                 DataCubeExecutionResult result = new DataCubeExecutionResult();
-                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-                ((RelationalResult) execResult).getSerializer(SerializationFormat.DEFAULT).stream(byteArrayOutputStream);
-                result.result = byteArrayOutputStream.toString();
                 result.executedQuery = queryCode;
                 result.executedSQL = ((RelationalResult) execResult).executedSQl;
-                return result;
+                return consumer.accept((RelationalResult) execResult, result);
             }
             throw new RuntimeException("Expected execution result of type 'RelationalResult', but got '" + execResult.getClass().getName() + "'");
         }
@@ -141,7 +200,8 @@ public class DataCubeHelpers
             client.println("Function: " + queryCode);
         }
 
-        PureModel pureModel = legendInterface.compile(data);
+        PureModel pureModel = legendInterface.compileBaseModel(data);
+        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction<?> query = compileQuery(pureModel, func);
         RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
 
         // Plan
@@ -151,7 +211,7 @@ public class DataCubeHelpers
         }
         // TODO: Since H2 does not support pivot(), when pivot() is used, the debugger will fail as it defaults to use H2
         // when we switch out to use DuckDB as the core testing DB, then this issue should be resolved
-        Root_meta_pure_executionPlan_ExecutionPlan _plan = legendInterface.generatePlan(pureModel, false);
+        Root_meta_pure_executionPlan_ExecutionPlan _plan = legendInterface.generatePlan(pureModel, query, false);
         String planStr = PlanGenerator.serializeToJSON(_plan, "vX_X_X", pureModel, extensions, LegendPlanTransformers.transformers);
         if (client != null && debug)
         {
@@ -170,8 +230,18 @@ public class DataCubeHelpers
 
     public static RelationType getRelationReturnType(LegendInterface legendInterface, PureModelContextData model)
     {
-        PureModel pureModel = legendInterface.compile(model);
-        return RelationTypeHelper.convert((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.RelationType<?>) pureModel.getConcreteFunctionDefinition(REPL_RUN_FUNCTION_QUALIFIED_PATH, null)._expressionSequence().getLast()._genericType()._typeArguments().getFirst()._rawType());
+        Function func = (Function) ListIterate.select(model.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
+        org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction<?> query = compileQuery(legendInterface.compileBaseModel(model), func);
+        return RelationTypeHelper.convert((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.RelationType<?>) query._expressionSequence().getLast()._genericType()._typeArguments().getFirst()._rawType());
+    }
+
+    /**
+     * Compiles the body of the REPL run function on top of the compiled model without it, so that the cost of compiling
+     * a query does not depend on the size of the model
+     */
+    private static org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction<?> compileQuery(PureModel pureModel, Function func)
+    {
+        return HelperValueSpecificationBuilder.buildLambda(func.body, func.parameters, pureModel.getContext());
     }
 
     public static ValueSpecification parseQuery(String code, Boolean returnSourceInformation)
@@ -188,15 +258,9 @@ public class DataCubeHelpers
     {
         try
         {
-            PureModelContextData newData = PureModelContextData.newBuilder()
-                    .withOrigin(model.getOrigin())
-                    .withSerializer(model.getSerializer())
-                    .withElements(ListIterate.select(model.getElements(), el -> !el.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)))
-                    .build();
-            String graphCode = PureGrammarComposer.newInstance(PureGrammarComposerContext.Builder.newInstance().build()).renderPureModelContextData(newData);
             String baseQueryCode = lambda != null ? getQueryCode(lambda.body.get(0), false) : null;
             String queryCode = (baseQueryCode != null ? baseQueryCode : "") + code;
-            Completer completer = new Completer(graphCode, extensions, legendInterface);
+            Completer completer = new Completer(legendInterface.compileBaseModel(model), extensions);
             CompletionResult result = completer.complete(queryCode);
             if (result.getEngineException() != null)
             {
@@ -252,4 +316,18 @@ public class DataCubeHelpers
         }
         return Tuples.pair(newModel, func);
     }
+
+    public interface ResultStreamOpener
+    {
+        /**
+         * Opens the stream the rows are written to, once the query has been executed (e.g. after sending the response
+         * headers describing the executed query)
+         */
+        OutputStream open(DataCubeExecutionResult result) throws IOException;
+    }
+
+    private interface ResultConsumer
+    {
+        DataCubeExecutionResult accept(RelationalResult relationalResult, DataCubeExecutionResult result) throws IOException;
+    }
 }
@@ -15,6 +15,7 @@
 package org.finos.legend.engine.repl.dataCube.server.handler;
 
 import com.sun.net.httpserver.HttpHandler;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToColumnarJsonSerializer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.m3.function.LambdaFunction;
 import org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers;
@@ -25,17 +26,23 @@ import org.finos.legend.engine.repl.dataCube.server.model.DataCubeGetExecutionPl
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 import static org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers.executeQuery;
 import static org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers.getExecutionPlan;
+import static org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers.streamQuery;
 import static org.finos.legend.engine.repl.dataCube.server.REPLServerHelpers.*;
 
 public class DataCubeQueryExecutor
 {
     public static class ExecuteQuery implements DataCubeServerHandler
     {
+        public static final String EXECUTED_QUERY_HEADER = "X-Legend-DataCube-Executed-Query";
+        public static final String EXECUTED_SQL_HEADER = "X-Legend-DataCube-Executed-SQL";
+
         @Override
         public HttpHandler getHandler(REPLServerState state)
         {
@@ -52,16 +59,54 @@ public class DataCubeQueryExecutor
                         boolean debug = input.debug != null && input.debug;
                         LambdaFunction lambda = input.query;
                         PureModelContextData data = DataCubeHelpers.injectNewFunction(input.model != null ? input.model : state.getCurrentPureModelContextData(), lambda).getOne();
-                        DataCubeExecutionResult result = executeQuery(state.client, state.legendInterface, state.planExecutor, data, debug);
-                        handleJSONResponse(exchange, 200, state.objectMapper.writeValueAsString(result), state);
+                        if (input.stream != null && input.stream)
+                        {
+                            long offset = input.offset != null ? input.offset : 0;
+                            long limit = input.limit != null ? input.limit : 0;
+                            streamQuery(state.client, state.legendInterface, state.planExecutor, data, debug, offset, limit, getMaxStreamBufferedBytes(), result ->
+                            {
+                                exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+                                exchange.getResponseHeaders().add(EXECUTED_QUERY_HEADER, encodeHeader(result.executedQuery));
+                                exchange.getResponseHeaders().add(EXECUTED_SQL_HEADER, encodeHeader(result.executedSQL));
+                                // a zero length sends the chunks with chunked transfer encoding as they are serialized
+                                exchange.sendResponseHeaders(200, 0);
+                                return exchange.getResponseBody();
+                            });
+                        }
+                        else
+                        {
+                            DataCubeExecutionResult result = executeQuery(state.client, state.legendInterface, state.planExecutor, data, debug);
+                            handleJSONResponse(exchange, 200, state.objectMapper.writeValueAsString(result), state);
+                        }
                     }
                     catch (Exception e)
                     {
-                        handleTextResponse(exchange, 500, e.getMessage(), state);
+                        if (exchange.getResponseCode() != -1)
+                        {
+                            // the streamed response is already committed, the error was sent as its last chunk
+                            state.client.printError(e.getMessage());
+                            exchange.close();
+                        }
+                        else
+                        {
+                            handleTextResponse(exchange, 500, e.getMessage(), state);
+                        }
                     }
                 }
             };
         }
+
+        private static long getMaxStreamBufferedBytes()
+        {
+            String maxBufferedBytes = System.getProperty("legend.repl.dataCube.maxStreamBufferedBytes");
+            return maxBufferedBytes != null ? Long.parseLong(maxBufferedBytes) : RelationalResultToColumnarJsonSerializer.DEFAULT_MAX_BUFFERED_BYTES;
+        }
+
+        private static String encodeHeader(String value) throws UnsupportedEncodingException
+        {
+            // header values cannot hold line breaks, which queries and SQL usually have
+            return value == null ? "" : URLEncoder.encode(value, "UTF-8");
+        }
     }
 
     public static class GetExecutionPlan implements DataCubeServerHandler
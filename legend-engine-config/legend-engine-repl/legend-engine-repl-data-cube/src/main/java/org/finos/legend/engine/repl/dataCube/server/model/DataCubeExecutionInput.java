@@ -22,4 +22,9 @@ public class DataCubeExecutionInput
     public LambdaFunction query;
     public PureModelContextData model;
     public Boolean debug;
+    // when set, rows are streamed in columnar chunks instead of being returned with the result
+    public Boolean stream;
+    public Long offset;
+    // non-positive for all the rows after the offset
+    public Long limit;
 }
@@ -33,6 +33,7 @@ import org.finos.legend.engine.shared.core.operational.errorManagement.EngineExc
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers.executeQuery;
@@ -131,6 +132,72 @@ public class TestDataCubeHelpers
         }
     }
 
+    @Test
+    public void testQueriesAreCompiledOnTopOfTheSameBaseModel()
+    {
+        LambdaFunction sortLambda = (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)", false);
+        LambdaFunction selectLambda = (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->select(~LASTNAME)->from(test::test)", false);
+        PureModelContextData sortData = DataCubeHelpers.injectNewFunction(pureModelContextData, sortLambda).getOne();
+        PureModelContextData selectData = DataCubeHelpers.injectNewFunction(pureModelContextData, selectLambda).getOne();
+
+        Assert.assertSame(legendInterface.compileBaseModel(sortData), legendInterface.compileBaseModel(selectData));
+        Assert.assertEquals(2, DataCubeHelpers.getRelationReturnType(legendInterface, sortData).columns.size());
+        Assert.assertEquals(1, DataCubeHelpers.getRelationReturnType(legendInterface, selectData).columns.size());
+    }
+
+    @Test
+    public void testStreamQuery() throws IOException
+    {
+        String lambda = "|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)";
+        String expectedResult = "{\"columns\": [\"FIRSTNAME\",\"LASTNAME\"]}\n" +
+                "{\"offset\": 0, \"rowCount\": 3, \"values\": [[\"John\",\"Nicole\",\"Tim\"], [\"Doe\",\"Doe\",\"Smith\"]]}\n" +
+                "{\"rowCount\": 3, \"complete\": true}\n";
+        Assert.assertEquals(expectedResult, streamQuery(lambda, 0, -1));
+        Assert.assertEquals(expectedResult, streamQuery(lambda, 0, 0));
+    }
+
+    @Test
+    public void testStreamQueryWindow() throws IOException
+    {
+        String lambda = "|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)";
+        String expectedResult = "{\"columns\": [\"FIRSTNAME\",\"LASTNAME\"]}\n" +
+                "{\"offset\": 1, \"rowCount\": 1, \"values\": [[\"Nicole\"], [\"Doe\"]]}\n" +
+                "{\"rowCount\": 1, \"complete\": false}\n";
+        Assert.assertEquals(expectedResult, streamQuery(lambda, 1, 1));
+    }
+
+    @Test
+    public void testStreamQueryWindowReachingTheEnd() throws IOException
+    {
+        String lambda = "|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)";
+        String expectedResult = "{\"columns\": [\"FIRSTNAME\",\"LASTNAME\"]}\n" +
+                "{\"offset\": 1, \"rowCount\": 2, \"values\": [[\"Nicole\",\"Tim\"], [\"Doe\",\"Smith\"]]}\n" +
+                "{\"rowCount\": 2, \"complete\": true}\n";
+        Assert.assertEquals(expectedResult, streamQuery(lambda, 1, 2));
+        Assert.assertEquals(expectedResult, streamQuery(lambda, 1, 0));
+    }
+
+    @Test
+    public void testStreamQueryWindowIsAppliedByTheQuery() throws IOException
+    {
+        LambdaFunction lambda = (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)", false);
+        PureModelContextData data = DataCubeHelpers.injectNewFunction(pureModelContextData, lambda).getOne();
+        DataCubeExecutionResult result = DataCubeHelpers.streamQuery(null, legendInterface, planExecutor, data, false, 1, 1, 1024, r -> new ByteArrayOutputStream());
+        // one more row than the limit is fetched, to tell whether the window reaches the end of the result
+        Assert.assertTrue(result.executedQuery, result.executedQuery.contains("->slice(1, 3)"));
+    }
+
+    private String streamQuery(String code, long offset, long limit) throws IOException
+    {
+        LambdaFunction lambda = (LambdaFunction) DataCubeHelpers.parseQuery(code, false);
+        PureModelContextData data = DataCubeHelpers.injectNewFunction(pureModelContextData, lambda).getOne();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataCubeExecutionResult result = DataCubeHelpers.streamQuery(null, legendInterface, planExecutor, data, false, offset, limit, 1024, r -> outputStream);
+        Assert.assertNull(result.result);
+        Assert.assertNotNull(result.executedSQL);
+        return outputStream.toString();
+    }
+
     @Test
     public void testParseQuerySimple()
     {
@@ -16,8 +16,10 @@ package org.finos.legend.engine.server;
 
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.PureModelCacheConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaBytecodeCacheConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
 import org.finos.legend.engine.server.core.configuration.DeploymentConfiguration;
@@ -41,9 +43,11 @@ public class ServerConfiguration extends Configuration
     public OpenTracingConfiguration opentracing;
     public Map<String, Integer> filterPriorities;
     public MetaDataServerConfiguration metadataserver;
+    public PureModelCacheConfiguration pureModelCache = new PureModelCacheConfiguration();
     public List<VaultConfiguration> vaults;
     public RelationalExecutionConfiguration relationalexecution;
     public GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
+    public JavaBytecodeCacheConfiguration javaBytecodeCache;
     public ErrorHandlingConfiguration errorhandlingconfiguration = new ErrorHandlingConfiguration();
     public List<org.finos.legend.engine.protocol.functionActivator.metamodel.DeploymentConfiguration> activatorConfiguration;
     public CORSConfiguration cors;
@@ -69,7 +69,12 @@ public class ResultManager
         }
         else if (result instanceof StreamingResult)
         {
-            return Response.ok(new StreamingResultHandler((StreamingResult) result, format)).header(LEGEND_RESPONSE_FORMAT, ((StreamingResult) result).resultFormat).build();
+            Response.ResponseBuilder response = Response.ok(new StreamingResultHandler((StreamingResult) result, format)).header(LEGEND_RESPONSE_FORMAT, ((StreamingResult) result).resultFormat);
+            if (format == SerializationFormat.BINARY)
+            {
+                response.type(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+            }
+            return response.build();
         }
         else if (result instanceof ConstantResult)
         {
@@ -18,9 +18,7 @@ import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
-import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
-import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
 import org.finos.legend.engine.plan.dependencies.domain.graphFetch.IGraphInstance;
 import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics;
 import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryPropertyGraphFetchExecutionNodeSpecifics;
@@ -30,6 +28,7 @@ import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IStor
 import org.finos.legend.engine.plan.dependencies.store.shared.IExecutionNodeContext;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.DefaultExecutionNodeContext;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionNodeJavaPlatformHelper;
@@ -64,12 +63,13 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.graphF
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.ClassResultType;
 import org.finos.legend.engine.shared.core.collectionsExtensions.DoubleStrategyHashMap;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,12 +78,15 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
 {
+    private static final String PARALLEL_CROSS_STORE_FETCH = "org.finos.legend.engine.inMemoryCrossStoreParallelFetch";
+
     ExecutionState executionState;
     Identity identity;
 
@@ -162,6 +165,7 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
 
                 AtomicLong batchIndex = new AtomicLong(0L);
                 IExecutionNodeContext context = new DefaultExecutionNodeContext(executionState, childResult);
+                InMemoryM2MTransformer transformer = new InMemoryM2MTransformer(nodeSpecifics, checked, _class, batchSize);
 
                 Spliterator<GraphObjectsBatch> graphObjectsBatchSpliterator = new Spliterators.AbstractSpliterator<GraphObjectsBatch>(Long.MAX_VALUE, Spliterator.ORDERED)
                 {
@@ -171,80 +175,10 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                         long currentBatch = batchIndex.incrementAndGet();
                         GraphObjectsBatch inMemoryGraphObjectsBatch = new GraphObjectsBatch(currentBatch, executionState.getGraphFetchBatchMemoryLimit());
                         List<Object> resultObjects = new ArrayList<>();
-                        int objectCount = 0;
+                        long start = System.currentTimeMillis();
 
-                        if (checked)
-                        {
-                            while (sourceObjectsIterator.hasNext())
-                            {
-                                IChecked<?> checkedSource = (IChecked<?>) sourceObjectsIterator.next();
-                                Object value = checkedSource.getValue();
-                                if (value == null)
-                                {
-                                    resultObjects.add(newDynamicChecked(Collections.singletonList(BasicDefect.newNoInputDefect(_class)), checkedSource, null));
-                                }
-                                else
-                                {
-                                    Object targetObject = nodeSpecifics.transform(value);
-                                    if (targetObject != null)
-                                    {
-                                        if (targetObject instanceof List)
-                                        {
-                                            ((List<?>) targetObject).forEach(x ->
-                                            {
-                                                IGraphInstance<?> target = (IGraphInstance<?>) x;
-                                                inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                                resultObjects.add(newDynamicChecked(Collections.emptyList(), checkedSource, target.getValue()));
-                                            });
-                                        }
-                                        else
-                                        {
-                                            IGraphInstance<?> target = (IGraphInstance<?>) targetObject;
-                                            inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                            resultObjects.add(newDynamicChecked(Collections.emptyList(), checkedSource, target.getValue()));
-                                        }
-                                    }
-                                }
-
-                                objectCount += 1;
-                                if (objectCount >= batchSize)
-                                {
-                                    break;
-                                }
-                            }
-                        }
-                        else
-                        {
-                            while (sourceObjectsIterator.hasNext())
-                            {
-                                Object targetObject = nodeSpecifics.transform(sourceObjectsIterator.next());
-
-                                if (targetObject != null)
-                                {
-                                    if (targetObject instanceof List)
-                                    {
-                                        ((List<?>) targetObject).forEach(x ->
-                                        {
-                                            IGraphInstance<?> target = (IGraphInstance<?>) x;
-                                            inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                            resultObjects.add(target.getValue());
-                                        });
-                                    }
-                                    else
-                                    {
-                                        IGraphInstance<?> target = (IGraphInstance<?>) targetObject;
-                                        inMemoryGraphObjectsBatch.addObjectMemoryUtilization(target.instanceSize());
-                                        resultObjects.add(target.getValue());
-                                    }
-                                }
-
-                                objectCount += 1;
-                                if (objectCount >= batchSize)
-                                {
-                                    break;
-                                }
-                            }
-                        }
+                        int objectCount = transformer.transformNextBatch(sourceObjectsIterator, batchSize, inMemoryGraphObjectsBatch, resultObjects);
+                        MetricsHandler.observeM2MTransform(transformer.isParallel() ? "parallel" : "sequential", objectCount, start, System.currentTimeMillis());
 
                         inMemoryGraphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, resultObjects);
                         ExecutionState newState = new ExecutionState(executionState);
@@ -373,6 +307,8 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                         parentCrossKeyGettersOrderedPerTargetProperties = nodeSpecifics.parentCrossKeyGettersOrderedByTargetProperties();
                     }
 
+                    Map<Object, List<Object>> prefetchedChildren = Boolean.getBoolean(PARALLEL_CROSS_STORE_FETCH) ? this.prefetchCrossStoreChildren(node, nodeSpecifics, parentMap, childCrossCache, parentCrossKeyGettersOrderedPerTargetProperties) : null;
+
                     for (Map.Entry<Object, List<Object>> entry : parentMap.entrySet())
                     {
                         // if source-level batched query, need to track the added children
@@ -393,30 +329,29 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                         // if there are any parents for which children were not found in the cache, need to visit
                         if (!cacheHit)
                         {
-                            // Retrieve all foreign keys that need to be matched in the cross-store
-                            Map<String, Object> keyValuePairs = nodeSpecifics.getCrossStoreKeysValueForChildren(parent);
-                            // executionState is the shared memory used to pass parameters and intermediate results
-                            keyValuePairs.forEach((key, value) -> this.executionState.addResult(key, new ConstantResult(value)));
-                            // visit results in the REST api call
-                            childResult = this.visit((InMemoryRootGraphFetchExecutionNode) node);
-                            GraphFetchResult childGraphFetchResult = (GraphFetchResult) childResult;
-                            Stream<GraphObjectsBatch> graphObjectsBatchStream = childGraphFetchResult.getGraphObjectsBatchStream();
-                            graphObjectsBatchStream.forEach(batch ->
-                                    batch.getObjectsForNodeIndex(node.nodeIndex).forEach(child ->
+                            List<Object> fetchedChildren = prefetchedChildren == null ? null : prefetchedChildren.get(parent);
+                            if (fetchedChildren == null)
+                            {
+                                // Retrieve all foreign keys that need to be matched in the cross-store
+                                Map<String, Object> keyValuePairs = nodeSpecifics.getCrossStoreKeysValueForChildren(parent);
+                                // visit results in the REST api call
+                                fetchedChildren = this.fetchCrossStoreChildren(node, keyValuePairs, this.executionState);
+                            }
+                            fetchedChildren.forEach(child ->
+                            {
+                                boolean childAdded = false;
+                                for (Object parentObject : parentsInScope)
+                                {
+                                    if (nodeSpecifics.attemptAddingChildToParent(parentObject, child))
                                     {
-                                        boolean childAdded = false;
-                                        for (Object parentObject : parentsInScope)
+                                        if (!childAdded)
                                         {
-                                            if (nodeSpecifics.attemptAddingChildToParent(parentObject, child))
-                                            {
-                                                if (!childAdded)
-                                                {
-                                                    entryChildren.add(child);
-                                                    childAdded = true;
-                                                }
-                                            }
+                                            entryChildren.add(child);
+                                            childAdded = true;
                                         }
-                                    }));
+                                    }
+                                }
+                            });
 
                             // update the cache with the results if cachingEnabled
                             if (cachingEnabled)
@@ -458,6 +393,61 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         }
     }
 
+    /**
+     * Fetches the children of the parents missing from the cross store cache concurrently, as each fetch is an independent
+     * call to the cross store. Returns null (children then being fetched one parent at a time) when there is no concurrent
+     * executor pool or a single parent to fetch children for.
+     */
+    private Map<Object, List<Object>> prefetchCrossStoreChildren(InMemoryCrossStoreGraphFetchExecutionNode node, IInMemoryCrossStoreGraphFetchExecutionNodeSpecifics nodeSpecifics, Map<Object, List<Object>> parentMap, ExecutionCache<GraphFetchCacheKey, List<Object>> childCrossCache, List<Method> parentCrossKeyGetters)
+    {
+        ConcurrentExecutionNodeExecutorPool pool = this.executionState.getConcurrentExecutionNodeExecutorPool();
+        if (pool == null)
+        {
+            return null;
+        }
+
+        List<Object> parents = new ArrayList<>();
+        List<Function<ExecutionState, List<Object>>> tasks = new ArrayList<>();
+        for (Object parent : parentMap.keySet())
+        {
+            if (childCrossCache == null || childCrossCache.getIfPresent(new InMemoryGraphFetchUtils.InMemoryCrossObjectGraphFetchCacheKey(parent, parentCrossKeyGetters)) == null)
+            {
+                Map<String, Object> keyValuePairs = nodeSpecifics.getCrossStoreKeysValueForChildren(parent);
+                parents.add(parent);
+                tasks.add(state -> this.fetchCrossStoreChildren(node, keyValuePairs, state));
+            }
+        }
+        if (tasks.size() < 2)
+        {
+            return null;
+        }
+
+        List<List<Object>> children = pool.executeTasks(tasks, this.identity, this.executionState);
+        Map<Object, List<Object>> childrenPerParent = new IdentityHashMap<>();
+        for (int i = 0; i < parents.size(); i++)
+        {
+            childrenPerParent.put(parents.get(i), children.get(i));
+        }
+        return childrenPerParent;
+    }
+
+    private List<Object> fetchCrossStoreChildren(InMemoryCrossStoreGraphFetchExecutionNode node, Map<String, Object> keyValuePairs, ExecutionState state)
+    {
+        // executionState is the shared memory used to pass parameters and intermediate results
+        keyValuePairs.forEach((key, value) -> state.addResult(key, new ConstantResult(value)));
+        Result childResult = new InMemoryExecutionNodeExecutor(this.identity, state).visit((InMemoryRootGraphFetchExecutionNode) node);
+        try
+        {
+            List<Object> children = new ArrayList<>();
+            ((GraphFetchResult) childResult).getGraphObjectsBatchStream().forEach(batch -> children.addAll(batch.getObjectsForNodeIndex(node.nodeIndex)));
+            return children;
+        }
+        finally
+        {
+            childResult.close();
+        }
+    }
+
     @Override
     public Result visit(InMemoryPropertyGraphFetchExecutionNode node)
     {
@@ -484,31 +474,6 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
         return new ConstantResult(childObjects);
     }
 
-    private static <T> IChecked<T> newDynamicChecked(List<IDefect> defects, Object source, T value)
-    {
-        return new IChecked<T>()
-        {
-
-            @Override
-            public List<IDefect> getDefects()
-            {
-                return defects;
-            }
-
-            @Override
-            public Object getSource()
-            {
-                return source;
-            }
-
-            @Override
-            public T getValue()
-            {
-                return value;
-            }
-        };
-    }
-
     @Deprecated
     @Override
     public Result visit(GraphFetchExecutionNode graphFetchExecutionNode)
@@ -0,0 +1,163 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.plugin;
+
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
+import org.finos.legend.engine.plan.dependencies.domain.graphFetch.IGraphInstance;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryRootGraphFetchExecutionNodeSpecifics;
+import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Transforms the batches of source objects of an in memory M2M graph fetch, sequentially or in chunks on the fork join
+ * pool. Either way the targets keep the order of their source objects.
+ * <p>
+ * Parallel transforms are opted into per target class with the org.finos.legend.engine.inMemoryM2MParallelTransformClasses
+ * property (a comma separated list of class paths), as they are only safe for transforms free of shared mutable state.
+ */
+class InMemoryM2MTransformer
+{
+    private static final String PARALLEL_TRANSFORM_CLASSES = "org.finos.legend.engine.inMemoryM2MParallelTransformClasses";
+    // below this many source objects per chunk, forking costs more than the transform
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 64;
+
+    private final IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics;
+    private final boolean checked;
+    private final String _class;
+    private final boolean parallel;
+    private final ForkJoinPool pool;
+
+    InMemoryM2MTransformer(IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics, boolean checked, String _class, int batchSize)
+    {
+        this(nodeSpecifics, checked, _class, batchSize, ForkJoinPool.commonPool());
+    }
+
+    InMemoryM2MTransformer(IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics, boolean checked, String _class, int batchSize, ForkJoinPool pool)
+    {
+        this.nodeSpecifics = nodeSpecifics;
+        this.checked = checked;
+        this._class = _class;
+        this.parallel = batchSize > 1 && isParallelTransformEnabled(_class);
+        this.pool = pool;
+    }
+
+    static boolean isParallelTransformEnabled(String _class)
+    {
+        String classes = System.getProperty(PARALLEL_TRANSFORM_CLASSES);
+        return classes != null && Arrays.stream(classes.split(",")).map(String::trim).anyMatch(_class::equals);
+    }
+
+    boolean isParallel()
+    {
+        return this.parallel;
+    }
+
+    /**
+     * Transforms the next batch of source objects and returns the number of source objects consumed. The targets are
+     * added to resultObjects, and their memory to the batch, which fails as soon as its memory limit is crossed.
+     */
+    int transformNextBatch(Iterator<?> sourceObjectsIterator, int batchSize, GraphObjectsBatch batch, List<Object> resultObjects)
+    {
+        List<Object> sources = new ArrayList<>();
+        while (sources.size() < Math.max(1, batchSize) && sourceObjectsIterator.hasNext())
+        {
+            sources.add(sourceObjectsIterator.next());
+        }
+
+        int parallelism = this.pool.getParallelism();
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, (sources.size() + parallelism - 1) / parallelism);
+        if (!this.parallel || sources.size() <= chunkSize)
+        {
+            resultObjects.addAll(transformChunk(sources, batch));
+            return sources.size();
+        }
+
+        List<CompletableFuture<List<Object>>> chunks = new ArrayList<>();
+        for (int from = 0; from < sources.size(); from += chunkSize)
+        {
+            List<Object> chunk = sources.subList(from, Math.min(from + chunkSize, sources.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> transformChunk(chunk, batch), this.pool));
+        }
+        try
+        {
+            chunks.forEach(chunk -> resultObjects.addAll(chunk.join()));
+        }
+        catch (CompletionException e)
+        {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return sources.size();
+    }
+
+    private List<Object> transformChunk(List<Object> sources, GraphObjectsBatch batch)
+    {
+        List<Object> targets = new ArrayList<>(sources.size());
+        for (Object source : sources)
+        {
+            IChecked<?> checkedSource = this.checked ? (IChecked<?>) source : null;
+            Object value = this.checked ? checkedSource.getValue() : source;
+            if (value == null && this.checked)
+            {
+                targets.add(newDynamicChecked(Collections.singletonList(BasicDefect.newNoInputDefect(this._class)), checkedSource, null));
+                continue;
+            }
+            Object targetObject = this.nodeSpecifics.transform(value);
+            List<?> instances = targetObject == null ? Collections.emptyList() : targetObject instanceof List ? (List<?>) targetObject : Collections.singletonList(targetObject);
+            for (Object instance : instances)
+            {
+                IGraphInstance<?> target = (IGraphInstance<?>) instance;
+                batch.addObjectMemoryUtilization(target.instanceSize());
+                targets.add(this.checked ? newDynamicChecked(Collections.emptyList(), checkedSource, target.getValue()) : target.getValue());
+            }
+        }
+        return targets;
+    }
+
+    private static <T> IChecked<T> newDynamicChecked(List<IDefect> defects, Object source, T value)
+    {
+        return new IChecked<T>()
+        {
+
+            @Override
+            public List<IDefect> getDefects()
+            {
+                return defects;
+            }
+
+            @Override
+            public Object getSource()
+            {
+                return source;
+            }
+
+            @Override
+            public T getValue()
+            {
+                return value;
+            }
+        };
+    }
+}
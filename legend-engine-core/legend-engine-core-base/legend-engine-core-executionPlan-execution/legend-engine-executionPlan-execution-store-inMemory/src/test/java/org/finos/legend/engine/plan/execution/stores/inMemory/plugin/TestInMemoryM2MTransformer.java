@@ -0,0 +1,196 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.inMemory.plugin;
+
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.RuleType;
+import org.finos.legend.engine.plan.dependencies.domain.graphFetch.IGraphInstance;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.graphFetch.IInMemoryRootGraphFetchExecutionNodeSpecifics;
+import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestInMemoryM2MTransformer
+{
+    private static final String PARALLEL_TRANSFORM_CLASSES = "org.finos.legend.engine.inMemoryM2MParallelTransformClasses";
+    private static final String TARGET_CLASS = "test::Target";
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final Set<Thread> transformThreads = ConcurrentHashMap.newKeySet();
+    private final IInMemoryRootGraphFetchExecutionNodeSpecifics nodeSpecifics = source ->
+    {
+        this.transformThreads.add(Thread.currentThread());
+        return graphInstance("target-" + source);
+    };
+
+    @Before
+    public void enableParallelTransform()
+    {
+        System.setProperty(PARALLEL_TRANSFORM_CLASSES, "test::Other, " + TARGET_CLASS);
+    }
+
+    @After
+    public void disableParallelTransform()
+    {
+        System.clearProperty(PARALLEL_TRANSFORM_CLASSES);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testParallelTransformIsOptedIntoPerClass()
+    {
+        Assert.assertTrue(new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 1000).isParallel());
+        Assert.assertFalse(new InMemoryM2MTransformer(this.nodeSpecifics, false, "test::Unlisted", 1000).isParallel());
+        Assert.assertFalse(new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 1).isParallel());
+
+        System.clearProperty(PARALLEL_TRANSFORM_CLASSES);
+        Assert.assertFalse(new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 1000).isParallel());
+    }
+
+    @Test
+    public void testParallelTransformKeepsSourceOrder()
+    {
+        List<Object> sources = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        InMemoryM2MTransformer transformer = new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 600, POOL);
+        GraphObjectsBatch batch = new GraphObjectsBatch(1, Long.MAX_VALUE);
+        List<Object> targets = new ArrayList<>();
+
+        Assert.assertEquals(600, transformer.transformNextBatch(sources.iterator(), 600, batch, targets));
+        Assert.assertEquals(IntStream.range(0, 600).mapToObj(i -> "target-" + i).collect(Collectors.toList()), targets);
+        Assert.assertEquals(6000, batch.getTotalObjectMemoryUtilization());
+        Assert.assertFalse(this.transformThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testParallelAndSequentialTransformsAgree()
+    {
+        List<Object> sources = IntStream.range(0, 500).boxed().collect(Collectors.toList());
+        List<Object> parallelTargets = new ArrayList<>();
+        List<Object> sequentialTargets = new ArrayList<>();
+
+        new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 500, POOL).transformNextBatch(sources.iterator(), 500, new GraphObjectsBatch(1, Long.MAX_VALUE), parallelTargets);
+        new InMemoryM2MTransformer(this.nodeSpecifics, false, "test::Unlisted", 500, POOL).transformNextBatch(sources.iterator(), 500, new GraphObjectsBatch(1, Long.MAX_VALUE), sequentialTargets);
+
+        Assert.assertEquals(sequentialTargets, parallelTargets);
+    }
+
+    @Test
+    public void testCheckedSourcesWithoutInputGetNoInputDefects()
+    {
+        List<Object> sources = IntStream.range(0, 300).mapToObj(i -> checked(i % 3 == 0 ? null : i)).collect(Collectors.toList());
+        InMemoryM2MTransformer transformer = new InMemoryM2MTransformer(this.nodeSpecifics, true, TARGET_CLASS, 300, POOL);
+        List<Object> targets = new ArrayList<>();
+
+        Assert.assertEquals(300, transformer.transformNextBatch(sources.iterator(), 300, new GraphObjectsBatch(1, Long.MAX_VALUE), targets));
+        Assert.assertEquals(300, targets.size());
+        for (int i = 0; i < 300; i++)
+        {
+            IChecked<?> target = (IChecked<?>) targets.get(i);
+            Assert.assertSame(sources.get(i), target.getSource());
+            if (i % 3 == 0)
+            {
+                Assert.assertNull(target.getValue());
+                Assert.assertEquals(1, target.getDefects().size());
+                IDefect defect = target.getDefects().get(0);
+                Assert.assertEquals(RuleType.NoInput, defect.getRuleType());
+                Assert.assertEquals(TARGET_CLASS, defect.getRuleDefinerPath());
+            }
+            else
+            {
+                Assert.assertEquals("target-" + i, target.getValue());
+                Assert.assertEquals(Collections.emptyList(), target.getDefects());
+            }
+        }
+    }
+
+    @Test
+    public void testParallelChunksShareTheBatchMemoryLimit()
+    {
+        List<Object> sources = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        InMemoryM2MTransformer transformer = new InMemoryM2MTransformer(this.nodeSpecifics, false, TARGET_CLASS, 1000, POOL);
+
+        // each chunk of 250 objects stays below the limit, the batch of 1000 does not
+        GraphObjectsBatch batch = new GraphObjectsBatch(1, 5000);
+        try
+        {
+            transformer.transformNextBatch(sources.iterator(), 1000, batch, new ArrayList<>());
+            Assert.fail("Expected the batch memory limit to be reached");
+        }
+        catch (RuntimeException e)
+        {
+            Assert.assertEquals("Maximum memory reached when processing the graphFetch. Try reducing batch size of graphFetch fetch operation.", e.getMessage());
+        }
+    }
+
+    private static IGraphInstance<String> graphInstance(String value)
+    {
+        return new IGraphInstance<String>()
+        {
+            @Override
+            public String getValue()
+            {
+                return value;
+            }
+
+            @Override
+            public long instanceSize()
+            {
+                return 10;
+            }
+        };
+    }
+
+    private static IChecked<Object> checked(Object value)
+    {
+        return new IChecked<Object>()
+        {
+            @Override
+            public List<IDefect> getDefects()
+            {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Object getSource()
+            {
+                return null;
+            }
+
+            @Override
+            public Object getValue()
+            {
+                return value;
+            }
+        };
+    }
+}
@@ -20,6 +20,8 @@ import com.google.common.cache.CacheBuilder;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 
+import java.util.concurrent.TimeUnit;
+
 public class ExecutionPlanCacheBuilder
 {
 
@@ -32,4 +34,9 @@ public class ExecutionPlanCacheBuilder
     {
         return new ExecutionPlanCache(ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().build()));
     }
+
+    public static ExecutionPlanCache buildWithBoundedCache(long maximumSize, long expireAfterAccessMinutes)
+    {
+        return new ExecutionPlanCache(ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().maximumSize(maximumSize).expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES).build()));
+    }
 }
@@ -16,6 +16,8 @@ package org.finos.legend.engine.plan.execution.concurrent;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.opentracing.Scope;
 import io.opentracing.contrib.concurrent.TracedExecutorService;
 import io.opentracing.util.GlobalTracer;
@@ -25,12 +27,14 @@ import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
-import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.url.StreamProvider;
 import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
@@ -38,26 +42,48 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Pool management class. This class should be instantiated only during server spin up to help manage thread pool and guard system against thread explosions.
+ * <p>
+ * Threads are handed out per execution: an execution gets up to {@link ConcurrentExecutionNodeExecutorPoolConfig#maxConcurrencyPerRequest}
+ * threads and runs its nodes on that many lanes, and all the executions of an identity share at most
+ * {@link ConcurrentExecutionNodeExecutorPoolConfig#maxConcurrencyPerIdentity} threads, so that a single large request or user
+ * cannot starve the others. Executions which cannot get threads wait in FIFO order (up to the configured wait) and then
+ * fall back to running their nodes sequentially on the calling thread.
  */
 @JsonSerialize(using = ConcurrentExecutionNodeExecutorPoolSerializer.class)
 public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentExecutionNodeExecutorPool.class);
+
     private final int poolSize;
     private final String poolDescription;
+    private final ConcurrentExecutionNodeExecutorPoolConfig config;
     private final ExecutorService executor;
     private final ExecutorService delegatedExecutor;
     private final Semaphore availableThreads;
+    // held by the executions using them, so that the semaphores of identities without running executions are dropped
+    private final Cache<String, Semaphore> availableThreadsPerIdentity = CacheBuilder.newBuilder().weakValues().build();
+    private final AtomicInteger queuedExecutions = new AtomicInteger();
 
     public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription)
+    {
+        this(poolSize, poolDescription, new ConcurrentExecutionNodeExecutorPoolConfig());
+    }
+
+    public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription, ConcurrentExecutionNodeExecutorPoolConfig config)
     {
         this.poolSize = poolSize;
         this.poolDescription = poolDescription;
-        this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
+        this.config = config;
+        this.delegatedExecutor = config.useVirtualThreads ? newVirtualThreadExecutor(poolSize) : Executors.newFixedThreadPool(poolSize);
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
-        this.availableThreads = new Semaphore(poolSize);
+        this.availableThreads = new Semaphore(poolSize, true);
     }
 
     @Override
@@ -68,11 +94,23 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 
     public List<? extends Result> execute(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
     {
-        if (!executor.isShutdown() && availableThreads.tryAcquire(nodes.size()))
+        List<Function<ExecutionState, Result>> tasks = ListIterate.collect(nodes, node -> state -> node.accept(new ExecutionNodeExecutor(identity, state)));
+        return executeTasks(tasks, identity, executionState);
+    }
+
+    /**
+     * Runs the tasks with the same thread allocation as the execution of nodes: concurrently, each one on its own copy of
+     * the execution state, when threads are available, sequentially on the execution state otherwise.
+     */
+    public <T> List<T> executeTasks(final List<Function<ExecutionState, T>> tasks, final Identity identity, final ExecutionState executionState)
+    {
+        int threads = this.config.maxConcurrencyPerRequest > 0 ? Math.min(tasks.size(), this.config.maxConcurrencyPerRequest) : tasks.size();
+        Semaphore identityThreads = this.config.maxConcurrencyPerIdentity > 0 && identity != null ? this.availableThreadsPerIdentity.asMap().computeIfAbsent(identity.getName(), name -> new Semaphore(this.config.maxConcurrencyPerIdentity, true)) : null;
+        if (!executor.isShutdown() && acquireThreads(threads, identityThreads))
         {
             try (Scope scope = GlobalTracer.get().buildSpan("Parallel Execution Triggered").startActive(true))
             {
-                return executeConcurrently(nodes, identity, executionState);
+                return executeConcurrently(tasks, threads, executionState);
             }
             catch (Exception e)
             {
@@ -80,44 +118,106 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
             }
             finally
             {
-                availableThreads.release(nodes.size());
+                availableThreads.release(threads);
+                if (identityThreads != null)
+                {
+                    identityThreads.release(threads);
+                }
             }
         }
         else
         {
             try (Scope scope = GlobalTracer.get().buildSpan("Sequential Execution Triggered").startActive(true))
             {
-                return ListIterate.collect(nodes, node -> node.accept(new ExecutionNodeExecutor(identity, executionState)));
+                return ListIterate.collect(tasks, task -> task.apply(executionState));
+            }
+        }
+    }
+
+    private boolean acquireThreads(int threads, Semaphore identityThreads)
+    {
+        long start = System.currentTimeMillis();
+        MetricsHandler.setConcurrentExecutionQueueDepth(this.poolDescription, this.queuedExecutions.incrementAndGet());
+        try
+        {
+            if (identityThreads != null && !tryAcquire(identityThreads, threads))
+            {
+                return false;
             }
+            if (!tryAcquire(this.availableThreads, threads))
+            {
+                if (identityThreads != null)
+                {
+                    identityThreads.release(threads);
+                }
+                return false;
+            }
+            return true;
+        }
+        finally
+        {
+            MetricsHandler.setConcurrentExecutionQueueDepth(this.poolDescription, this.queuedExecutions.decrementAndGet());
+            MetricsHandler.observeConcurrentExecutionWait(this.poolDescription, start, System.currentTimeMillis());
         }
     }
 
-    private List<Result> executeConcurrently(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
+    private boolean tryAcquire(Semaphore semaphore, int permits)
     {
-        List<CompletableFuture<Pair<Result, ExecutionState>>> elements = FastList.newList();
+        try
+        {
+            // the timed form honours the fairness of the semaphore even without waiting, the untimed one barges
+            return semaphore.tryAcquire(permits, Math.max(0, this.config.maxQueueWaitMillis), TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    int queuedExecutions()
+    {
+        return this.queuedExecutions.get();
+    }
+
+    long identitiesWithThreads()
+    {
+        this.availableThreadsPerIdentity.cleanUp();
+        return this.availableThreadsPerIdentity.size();
+    }
+
+    private <T> List<T> executeConcurrently(final List<Function<ExecutionState, T>> tasks, final int threads, final ExecutionState executionState)
+    {
+        List<CompletableFuture<Pair<T, ExecutionState>>> elements = FastList.newList();
         StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
-        nodes.forEach(node -> elements.add(CompletableFuture.supplyAsync(() ->
+        for (int i = 0; i < tasks.size(); i++)
+        {
+            final int index = i;
+            final Function<ExecutionState, T> function = tasks.get(i);
+            Supplier<Pair<T, ExecutionState>> task = () ->
+            {
+                try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", index)).startActive(true))
                 {
-                    try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", nodes.indexOf(node))).startActive(true))
-                    {
-                        StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
-                        ExecutionState executionStateForThread = executionState.copy();
-                        Result result = node.accept(new ExecutionNodeExecutor(identity, executionStateForThread));
-                        return Tuples.pair(result, executionStateForThread);
-                    }
-                }, executor
-        )));
+                    StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
+                    ExecutionState executionStateForThread = executionState.copy();
+                    T result = function.apply(executionStateForThread);
+                    return Tuples.pair(result, executionStateForThread);
+                }
+            };
+            // nodes beyond the number of threads granted run after the node one lane before them, whatever its outcome
+            elements.add(i < threads ? CompletableFuture.supplyAsync(task, executor) : elements.get(i - threads).handleAsync((r, t) -> task.get(), executor));
+        }
 
         CompletableFuture<Void> allElements = CompletableFuture.allOf(elements.toArray(new CompletableFuture[0]));
 
-        List<Result> results = FastList.newList();
+        List<T> results = FastList.newList();
 
         allElements.whenComplete((v, th) ->
         {
             elements.forEach(e ->
             {
-                Pair<Result, ExecutionState> resultExecutionStatePair = e.getNow(Tuples.pair(new ConstantResult("fail"), executionState));
-                Result result = resultExecutionStatePair.getOne();
+                Pair<T, ExecutionState> resultExecutionStatePair = e.getNow(Tuples.pair(null, executionState));
+                T result = resultExecutionStatePair.getOne();
                 ExecutionState state = resultExecutionStatePair.getTwo();
 
                 results.add(result);
@@ -128,6 +228,19 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         return results;
     }
 
+    private static ExecutorService newVirtualThreadExecutor(int poolSize)
+    {
+        try
+        {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            LOGGER.warn("Virtual threads are not supported by this JVM, using a fixed thread pool instead");
+            return Executors.newFixedThreadPool(poolSize);
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -150,6 +263,8 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         jsonGenerator.writeString(this.delegatedExecutor.toString());
         jsonGenerator.writeFieldName("availableThreads");
         jsonGenerator.writeNumber(this.availableThreads.availablePermits());
+        jsonGenerator.writeFieldName("queuedExecutions");
+        jsonGenerator.writeNumber(this.queuedExecutions.get());
         jsonGenerator.writeEndObject();
     }
 }
@@ -0,0 +1,40 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+public class ConcurrentExecutionNodeExecutorPoolConfig
+{
+    // Maximum number of threads a single execution can use, 0 meaning one thread per child node
+    public int maxConcurrencyPerRequest = 0;
+    // Maximum number of threads all the executions of an identity can use at once, 0 meaning unbounded
+    public int maxConcurrencyPerIdentity = 0;
+    // How long an execution waits (in FIFO order) for threads before running its nodes sequentially, 0 meaning no wait
+    public long maxQueueWaitMillis = 0;
+    // Run nodes on virtual threads when the JVM supports them, bounding concurrency with the pool size only
+    public boolean useVirtualThreads = false;
+
+    public ConcurrentExecutionNodeExecutorPoolConfig()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public ConcurrentExecutionNodeExecutorPoolConfig(int maxConcurrencyPerRequest, int maxConcurrencyPerIdentity, long maxQueueWaitMillis, boolean useVirtualThreads)
+    {
+        this.maxConcurrencyPerRequest = maxConcurrencyPerRequest;
+        this.maxConcurrencyPerIdentity = maxConcurrencyPerIdentity;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+        this.useVirtualThreads = useVirtualThreads;
+    }
+}
@@ -17,25 +17,61 @@ package org.finos.legend.engine.plan.execution.graphFetch;
 
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 
+import java.util.Objects;
+
 public class AdaptiveBatching
 {
     public static long getAdaptiveBatchSize(ExecutionState executionState)
     {
-        if (executionState.adaptiveGraphBatchStats == null)
+        return getAdaptiveBatchSize(executionState, null);
+    }
+
+    /**
+     * @param estimateKey identifies the graph fetch (e.g. its plan and tree), so that the memory used per object learnt
+     *                    by previous executions of it is used to size the first batch
+     */
+    public static long getAdaptiveBatchSize(ExecutionState executionState, String estimateKey)
+    {
+        GraphFetchExecutionConfiguration config = executionState.getGraphFetchExecutionConfiguration();
+        GraphFetchMemoryGovernor governor = GraphFetchMemoryGovernor.getInstance();
+        long globalLimit = config.getGraphFetchGlobalMemoryLimit();
+        long softLimit = governor.getBatchMemoryBudget(config.getGraphFetchSoftMemoryLimitPercentage() * config.getGraphFetchBatchMemoryHardLimit() / 100, globalLimit);
+
+        // The previous batch has been handed over by now, only wait for the batches of other graph fetches
+        if (executionState.graphFetchMemoryLease != null)
         {
-            executionState.adaptiveGraphBatchStats = new AdaptiveGraphBatchStats(0, 64);
+            executionState.graphFetchMemoryLease.setBatchBytes(0);
+        }
+        governor.awaitCapacity(globalLimit, config.getGraphFetchBackpressureMaxWaitMillis());
+
+        // Stats left on a reused execution state by another graph fetch do not apply to this one
+        if (executionState.adaptiveGraphBatchStats == null || !Objects.equals(executionState.adaptiveGraphBatchStats.estimateKey, estimateKey))
+        {
+            Double bytesPerObject = governor.getBytesPerObjectEstimate(estimateKey);
+            long initialBatchSize = bytesPerObject == null ? 64 : Math.max(1, (long) (softLimit / (bytesPerObject + 1)));
+            executionState.adaptiveGraphBatchStats = new AdaptiveGraphBatchStats(0, initialBatchSize);
+            executionState.adaptiveGraphBatchStats.estimateKey = estimateKey;
             return executionState.adaptiveGraphBatchStats.previousBatchSize;
         }
-        long softLimit = executionState.getGraphFetchExecutionConfiguration().getGraphFetchSoftMemoryLimitPercentage() * executionState.getGraphFetchExecutionConfiguration().getGraphFetchBatchMemoryHardLimit() / 100;
         long previousBatchMemoryUtilization = executionState.adaptiveGraphBatchStats.previousBatchMemoryUtilization;
 
         executionState.adaptiveGraphBatchStats.addPreviousAverageToStats(executionState.adaptiveGraphBatchStats.previousBatchMemoryUtilization, executionState.adaptiveGraphBatchStats.previousBatchSize);
-        long avgMemoryUtilizationInBytesPerObject = (long) executionState.adaptiveGraphBatchStats.getWeightedAverage();
+        double weightedAverage = executionState.adaptiveGraphBatchStats.getWeightedAverage();
+        governor.recordBytesPerObject(executionState.adaptiveGraphBatchStats.estimateKey, weightedAverage);
+        long avgMemoryUtilizationInBytesPerObject = (long) weightedAverage;
         long changeInBatchSize = softLimit / (avgMemoryUtilizationInBytesPerObject + 1) - executionState.adaptiveGraphBatchStats.previousBatchSize;
 
         return getNewBatchSize(executionState, changeInBatchSize, softLimit, previousBatchMemoryUtilization);
     }
 
+    public static void recordBatchMemoryUtilization(ExecutionState executionState, long batchMemoryUtilization)
+    {
+        if (executionState.adaptiveGraphBatchStats != null)
+        {
+            executionState.adaptiveGraphBatchStats.previousBatchMemoryUtilization = batchMemoryUtilization;
+        }
+    }
+
     public static long getNewBatchSize(ExecutionState executionState, long changeInBatchSize, long softLimit, long previousBatchMemoryUtilization)
     {
         long newBatchSize;
@@ -24,6 +24,7 @@ public class AdaptiveGraphBatchStats
     protected long previousBatchSize;
     protected long incrementRate;   // counter for incrementing batch size
     protected long decrementRate;   // counter for decrementing batch size
+    protected String estimateKey;   // key under which the memory used per object is shared with other graph fetches
     private final List<BatchStats> lastTenBatchesStats;
 
     public AdaptiveGraphBatchStats(long previousBatchMemoryUtilization, long previousBatchSize)
@@ -22,6 +22,8 @@ public class GraphFetchExecutionConfiguration
     public static final long DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE = 50;
     public static final boolean DEFAULT_USE_ADAPTIVE_BATCHING = false;
     public static final long DEFAULT_BATCH_SIZE = 1000;
+    public static final long DEFAULT_GLOBAL_MEMORY_LIMIT = 0; /* no limit across concurrent graph fetches */
+    public static final long DEFAULT_BACKPRESSURE_MAX_WAIT_MILLIS = 1000;
 
     public static final long SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE = 100;
 
@@ -36,6 +38,10 @@ public class GraphFetchExecutionConfiguration
     @JsonProperty
     private final long defaultBatchSize;
     @JsonProperty
+    private final long globalMemoryLimit;
+    @JsonProperty
+    private final long backpressureMaxWaitMillis;
+    @JsonProperty
     private final boolean parallelizeGraphFetchQueries;
     @JsonProperty
     private ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig;
@@ -46,6 +52,8 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.globalMemoryLimit = DEFAULT_GLOBAL_MEMORY_LIMIT;
+        this.backpressureMaxWaitMillis = DEFAULT_BACKPRESSURE_MAX_WAIT_MILLIS;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -56,6 +64,8 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.globalMemoryLimit = DEFAULT_GLOBAL_MEMORY_LIMIT;
+        this.backpressureMaxWaitMillis = DEFAULT_BACKPRESSURE_MAX_WAIT_MILLIS;
         this.parallelizeGraphFetchQueries = true;
         this.parallelGraphFetchExecutionConfig = parallelGraphFetchExecutionConfig;
     }
@@ -66,6 +76,20 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = graphFetchSoftMemoryLimitPercentage;
         this.useAdaptiveBatching = useAdaptiveBatching;
         this.defaultBatchSize = graphFetchDefaultBatchSize;
+        this.globalMemoryLimit = DEFAULT_GLOBAL_MEMORY_LIMIT;
+        this.backpressureMaxWaitMillis = DEFAULT_BACKPRESSURE_MAX_WAIT_MILLIS;
+        this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
+        this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
+    }
+
+    public GraphFetchExecutionConfiguration(long graphFetchBatchMemoryLimit, long graphFetchSoftMemoryLimitPercentage, boolean useAdaptiveBatching, long graphFetchDefaultBatchSize, long graphFetchGlobalMemoryLimit, long graphFetchBackpressureMaxWaitMillis)
+    {
+        this.batchMemoryLimit = graphFetchBatchMemoryLimit;
+        this.softMemoryLimitPercentage = graphFetchSoftMemoryLimitPercentage;
+        this.useAdaptiveBatching = useAdaptiveBatching;
+        this.defaultBatchSize = graphFetchDefaultBatchSize;
+        this.globalMemoryLimit = graphFetchGlobalMemoryLimit;
+        this.backpressureMaxWaitMillis = graphFetchBackpressureMaxWaitMillis;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -76,6 +100,8 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.globalMemoryLimit = DEFAULT_GLOBAL_MEMORY_LIMIT;
+        this.backpressureMaxWaitMillis = DEFAULT_BACKPRESSURE_MAX_WAIT_MILLIS;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -105,6 +131,19 @@ public class GraphFetchExecutionConfiguration
         return defaultBatchSize;
     }
 
+    /**
+     * @return the memory all the adaptively batched graph fetches of the process may hold at once, 0 meaning no limit
+     */
+    public long getGraphFetchGlobalMemoryLimit()
+    {
+        return globalMemoryLimit;
+    }
+
+    public long getGraphFetchBackpressureMaxWaitMillis()
+    {
+        return backpressureMaxWaitMillis;
+    }
+
     public ParallelGraphFetchExecutionConfig getParallelGraphFetchExecutionConfig()
     {
         return parallelGraphFetchExecutionConfig;
@@ -0,0 +1,180 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.graphFetch;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide accounting of the memory held by the graph fetch batches being processed.
+ * <p>
+ * Each graph fetch holds a {@link Lease} on which the memory of its current batch is reported as objects are added to
+ * it. The governor uses the live total to split the global memory limit between the concurrent graph fetches and to
+ * hold back new adaptive batches while the limit is reached. It also remembers the average memory used per object of
+ * each graph fetch so that its later executions start with a batch size close to the one they will converge to.
+ */
+public final class GraphFetchMemoryGovernor
+{
+    private static final GraphFetchMemoryGovernor INSTANCE = new GraphFetchMemoryGovernor();
+
+    private static final int MAXIMUM_TRACKED_CLASSES = 10_000;
+    private static final double ESTIMATE_SMOOTHING_FACTOR = 0.5;
+    private static final long BACKPRESSURE_POLL_MILLIS = 10;
+
+    private final AtomicLong liveBytes = new AtomicLong();
+    private final AtomicInteger activeLeases = new AtomicInteger();
+    private final Cache<String, Double> bytesPerObjectEstimates = CacheBuilder.newBuilder().maximumSize(MAXIMUM_TRACKED_CLASSES).build();
+    private final Object capacityMonitor = new Object();
+
+    GraphFetchMemoryGovernor()
+    {
+    }
+
+    public static GraphFetchMemoryGovernor getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public Lease acquireLease()
+    {
+        MetricsHandler.setGraphFetchActiveBatches(this.activeLeases.incrementAndGet());
+        return new Lease();
+    }
+
+    public long getLiveBytes()
+    {
+        return this.liveBytes.get();
+    }
+
+    /**
+     * @return the memory a single graph fetch batch may use: the request limit, further bounded by an equal share of
+     * the global limit when one is set
+     */
+    public long getBatchMemoryBudget(long requestLimit, long globalLimit)
+    {
+        if (globalLimit <= 0)
+        {
+            return requestLimit;
+        }
+        return Math.min(requestLimit, globalLimit / Math.max(1, this.activeLeases.get()));
+    }
+
+    /**
+     * Waits, for at most maxWaitMillis, until the batches being processed hold less memory than the global limit.
+     * Returns straight away when no global limit is set.
+     */
+    public void awaitCapacity(long globalLimit, long maxWaitMillis)
+    {
+        if (globalLimit <= 0 || this.liveBytes.get() < globalLimit)
+        {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long deadline = start + maxWaitMillis;
+        synchronized (this.capacityMonitor)
+        {
+            long now = start;
+            while (this.liveBytes.get() >= globalLimit && now < deadline)
+            {
+                try
+                {
+                    this.capacityMonitor.wait(Math.min(BACKPRESSURE_POLL_MILLIS, deadline - now));
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                now = System.currentTimeMillis();
+            }
+        }
+        MetricsHandler.observeGraphFetchBackpressureWait(start, System.currentTimeMillis());
+    }
+
+    public Double getBytesPerObjectEstimate(String key)
+    {
+        return key == null ? null : this.bytesPerObjectEstimates.getIfPresent(key);
+    }
+
+    public void recordBytesPerObject(String key, double bytesPerObject)
+    {
+        if (key == null || bytesPerObject <= 0)
+        {
+            return;
+        }
+        Double previous = this.bytesPerObjectEstimates.getIfPresent(key);
+        this.bytesPerObjectEstimates.put(key, previous == null ? bytesPerObject : previous + ESTIMATE_SMOOTHING_FACTOR * (bytesPerObject - previous));
+    }
+
+    void clearBytesPerObjectEstimates()
+    {
+        this.bytesPerObjectEstimates.invalidateAll();
+    }
+
+    private void addLiveBytes(long delta)
+    {
+        if (delta == 0)
+        {
+            return;
+        }
+        MetricsHandler.setGraphFetchLiveBatchBytes(this.liveBytes.addAndGet(delta));
+        if (delta < 0)
+        {
+            synchronized (this.capacityMonitor)
+            {
+                this.capacityMonitor.notifyAll();
+            }
+        }
+    }
+
+    public final class Lease implements AutoCloseable
+    {
+        private long bytes;
+        private boolean closed;
+
+        private Lease()
+        {
+        }
+
+        public synchronized void setBatchBytes(long batchBytes)
+        {
+            if (!this.closed)
+            {
+                addLiveBytes(batchBytes - this.bytes);
+                this.bytes = batchBytes;
+            }
+        }
+
+        public synchronized void addBatchBytes(long batchBytes)
+        {
+            setBatchBytes(this.bytes + batchBytes);
+        }
+
+        @Override
+        public synchronized void close()
+        {
+            if (!this.closed)
+            {
+                setBatchBytes(0);
+                this.closed = true;
+                MetricsHandler.setGraphFetchActiveBatches(activeLeases.decrementAndGet());
+            }
+        }
+    }
+}
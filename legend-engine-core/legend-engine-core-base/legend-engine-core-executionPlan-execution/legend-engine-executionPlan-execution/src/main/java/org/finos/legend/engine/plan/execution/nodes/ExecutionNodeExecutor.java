@@ -35,6 +35,8 @@ import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheByTargetCrossKeys;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.graphFetch.AdaptiveBatching;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchMemoryGovernor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeResultHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeSerializerHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
@@ -489,7 +491,21 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             final AtomicLong rowCount = new AtomicLong(0L);
             final AtomicLong objectCount = new AtomicLong(0L);
             final DoubleSummaryStatistics memoryStatistics = new DoubleSummaryStatistics();
-            GraphFetchResult graphFetchResult = (GraphFetchResult) globalGraphFetchExecutionNode.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
+
+            // Every execution of the graph fetch, adaptively batched or not, accounts its batches on a lease of its own
+            GraphFetchMemoryGovernor.Lease memoryLease = GraphFetchMemoryGovernor.getInstance().acquireLease();
+            this.executionState.graphFetchMemoryLease = memoryLease;
+            GraphFetchResult graphFetchResult;
+            try
+            {
+                graphFetchResult = ((GraphFetchResult) globalGraphFetchExecutionNode.localGraphFetchExecutionNode.accept(new ExecutionNodeExecutor(this.identity, this.executionState)))
+                        .onClose(memoryLease::close);
+            }
+            catch (RuntimeException e)
+            {
+                memoryLease.close();
+                throw e;
+            }
 
             Stream<?> objectStream = graphFetchResult.getGraphObjectsBatchStream().map(batch ->
             {
@@ -499,14 +515,20 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
                 ExecutionState newState = new ExecutionState(this.executionState).setGraphObjectsBatch(batch);
                 if (nonEmptyObjectList)
                 {
+                    // objects fetched by the children, in parallel or not, are accounted as they are added to the batch
+                    batch.reportMemoryTo(memoryLease);
                     this.executeGlobalGraphChildren(globalGraphFetchExecutionNode, newState);
                 }
 
                 rowCount.addAndGet(batch.getRowCount());
 
-                if (this.executionState.adaptiveGraphBatchStats != null)
+                if (nonEmptyObjectList)
                 {
-                    this.executionState.adaptiveGraphBatchStats.previousBatchMemoryUtilization = batch.getTotalObjectMemoryUtilization();
+                    AdaptiveBatching.recordBatchMemoryUtilization(this.executionState, batch.getTotalObjectMemoryUtilization());
+                }
+                else
+                {
+                    memoryLease.close();
                 }
 
                 if (nonEmptyObjectList)
@@ -550,7 +572,14 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
             boolean realizeAsConstant = this.executionState.inAllocation && ExecutionNodeResultHelper.isResultSizeRangeSet(globalGraphFetchExecutionNode) && ExecutionNodeResultHelper.isSingleRecordResult(globalGraphFetchExecutionNode);
             if (realizeAsConstant)
             {
-                return new ConstantResult(objectStream.findFirst().orElseThrow(() -> new RuntimeException("Constant value not found")));
+                try
+                {
+                    return new ConstantResult(objectStream.findFirst().orElseThrow(() -> new RuntimeException("Constant value not found")));
+                }
+                finally
+                {
+                    memoryLease.close();
+                }
             }
             return new StreamingObjectResult<>(objectStream, new PartialClassBuilder(globalGraphFetchExecutionNode), graphFetchResult);
         }
@@ -14,6 +14,10 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import freemarker.cache.TemplateLoader;
 import freemarker.core.TemplateDateFormatFactory;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
@@ -28,11 +32,17 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 public class FreeMarkerExecutor
@@ -43,9 +53,23 @@ public class FreeMarkerExecutor
     private static ObjectWrapper objectWrapper = FreeMarkerExecutor.freemarkerConfig.getObjectWrapper();
     public static String overridePropertyForTemplateModel = "overrideTemplateModel";
 
+    public static final String TEMPLATE_CACHE_MAX_CHARACTERS_PROPERTY_NAME = "org.finos.legend.engine.freemarkerTemplateCacheMaxCharacters";
+    private static final long DEFAULT_TEMPLATE_CACHE_MAX_CHARACTERS = 10_000_000;
+    // Parsed plan templates only depend on their text, so they are shared across executions. The cache is bounded by the length of the templates text
+    private static final Cache<String, Template> templateCache = CacheBuilder.newBuilder()
+            .maximumWeight(Long.getLong(TEMPLATE_CACHE_MAX_CHARACTERS_PROPERTY_NAME, DEFAULT_TEMPLATE_CACHE_MAX_CHARACTERS))
+            .weigher((String text, Template template) -> text.length())
+            .build();
+    // Template functions preludes are loaded once by the configuration and included by the templates using them
+    private static final TemplateFunctionsLoader templateFunctionsLoader = new TemplateFunctionsLoader();
+
     static
     {
         freemarkerConfig.setNumberFormat("computer");
+        freemarkerConfig.setTemplateLoader(templateFunctionsLoader);
+        freemarkerConfig.setLocalizedLookup(false);
+        // a template functions prelude never changes once named
+        freemarkerConfig.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
     }
 
     public static String process(String input, ExecutionState executionState)
@@ -84,9 +108,12 @@ public class FreeMarkerExecutor
         String templateFunctions = String.join("", executionState.getTemplateFunctions());
         variableMap.put("instanceOf", new FreemarkerInstanceOfMethod());
 
-        return StringUtils.isBlank(templateFunctions) ? process(input, variableMap, templateFunctions) : processRecursively(input, variableMap, templateFunctions);
+        long start = System.nanoTime();
+        String result = StringUtils.isBlank(templateFunctions) ? process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true) : processRecursively(input, variableMap, templateFunctions);
+        MetricsHandler.observeFreeMarkerRender(start, System.nanoTime());
+        return result;
     }
-    
+
     private static boolean isPlaceHolder(Object object)
     {
         return object instanceof String && pattern.matcher((String)object).find();
@@ -126,7 +153,7 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);   
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true);
     }
 
     private static String recur(String input, Map<String,?> variableMap, String templateFunctions)
@@ -139,19 +166,19 @@ public class FreeMarkerExecutor
         return result;
     }
 
+    // Used for the values rendered on the fly, which are not cached as they differ between executions
     private static String process(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, false);
     }
 
-    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions)
+    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions, boolean cacheTemplate)
     {
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            String text = templateFunctionsLoader.includeDirective(templateFunctions) + input.replace("\\\"", "\"");
+            Template template = cacheTemplate ? getTemplate(text) : newTemplate(text);
             template.process(variableMap, stringWriter);
             return stringWriter.toString();
         }
@@ -160,4 +187,88 @@ public class FreeMarkerExecutor
             throw new RuntimeException("Issue processing freemarker function.  Template with error: " + stringWriter.toString(), e);
         }
     }
+
+    private static Template getTemplate(String text) throws Exception
+    {
+        try
+        {
+            return templateCache.get(text, () ->
+            {
+                MetricsHandler.incrementFreeMarkerTemplateCacheMisses();
+                return newTemplate(text);
+            });
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            // surface the parsing error as when the template was not cached
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    static long cachedTemplateCount()
+    {
+        templateCache.cleanUp();
+        return templateCache.size();
+    }
+
+    private static Template newTemplate(String text) throws IOException
+    {
+        Template template = new Template("template", new StringReader(text), freemarkerConfig);
+        template.setCustomDateFormats(customDateFormats);
+        template.setDateFormat("@alloyDate");
+        return template;
+    }
+
+    /**
+     * Serves each distinct template functions prelude under a generated name, so that it is parsed and held once by
+     * the configuration however many templates include it. An include runs in the namespace of the including
+     * template, so the template functions are called unqualified as when the prelude was inlined.
+     */
+    private static class TemplateFunctionsLoader implements TemplateLoader
+    {
+        private final AtomicLong nextId = new AtomicLong();
+        private final Map<String, String> templateFunctionsByName = new ConcurrentHashMap<>();
+        private final Cache<String, String> namesByTemplateFunctions = CacheBuilder.newBuilder()
+                .maximumSize(1_000)
+                .<String, String>removalListener(notification -> this.templateFunctionsByName.remove(notification.getValue()))
+                .build();
+
+        String includeDirective(String templateFunctions) throws ExecutionException
+        {
+            if (templateFunctions == null || templateFunctions.isEmpty())
+            {
+                return "";
+            }
+            String name = this.namesByTemplateFunctions.get(templateFunctions, () ->
+            {
+                String newName = "templateFunctions" + this.nextId.incrementAndGet();
+                this.templateFunctionsByName.put(newName, templateFunctions);
+                return newName;
+            });
+            return "<#include \"" + name + "\">";
+        }
+
+        @Override
+        public Object findTemplateSource(String name)
+        {
+            return this.templateFunctionsByName.get(name);
+        }
+
+        @Override
+        public long getLastModified(Object templateSource)
+        {
+            return 0;
+        }
+
+        @Override
+        public Reader getReader(Object templateSource, String encoding)
+        {
+            return new StringReader((String) templateSource);
+        }
+
+        @Override
+        public void closeTemplateSource(Object templateSource)
+        {
+        }
+    }
 }
@@ -0,0 +1,36 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
+
+public class JavaBytecodeCacheConfiguration
+{
+    public static final long DEFAULT_MAXIMUM_SIZE_MB = 64;
+
+    public boolean enabled = true;
+    public long maximumSizeMB = DEFAULT_MAXIMUM_SIZE_MB;
+    // Optional directory where compiled classes are persisted, so that they survive restarts
+    public String directory;
+
+    public JavaBytecodeCacheConfiguration()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public JavaBytecodeCacheConfiguration(long maximumSizeMB, String directory)
+    {
+        this.maximumSizeMB = maximumSizeMB;
+        this.directory = directory;
+    }
+}
@@ -30,6 +30,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPl
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.finos.legend.engine.shared.javaCompiler.BytecodeCache;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilters;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
@@ -40,6 +42,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Base64;
 import java.util.Map;
 
@@ -48,10 +51,25 @@ public class JavaHelper
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaHelper.class);
     private static final String DEFAULT_EXECUTION_METHOD_NAME = "execute";
 
+    private static volatile BytecodeCache bytecodeCache = new BytecodeCache(JavaBytecodeCacheConfiguration.DEFAULT_MAXIMUM_SIZE_MB * 1024 * 1024);
+
     private JavaHelper()
     {
     }
 
+    public static void configureBytecodeCache(JavaBytecodeCacheConfiguration configuration)
+    {
+        setBytecodeCache(configuration.enabled ? new BytecodeCache(configuration.maximumSizeMB * 1024 * 1024, configuration.directory == null ? null : Paths.get(configuration.directory)) : null);
+    }
+
+    /**
+     * Sets the cache used to avoid recompiling plan classes which have already been compiled, or disables it if null.
+     */
+    public static void setBytecodeCache(BytecodeCache cache)
+    {
+        bytecodeCache = cache;
+    }
+
     public static EngineJavaCompiler compilePlan(SingleExecutionPlan singleExecutionPlan, Identity identity) throws JavaCompileException
     {
         try
@@ -70,7 +88,9 @@ public class JavaHelper
                 compiler = compilePlanSlow(singleExecutionPlan);
             }
 
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_STOP, (double) System.currentTimeMillis() - start).toString());
+            long end = System.currentTimeMillis();
+            MetricsHandler.observeJavaCompilation(start, end);
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_STOP, (double) end - start).toString());
 
             return compiler;
         }
@@ -154,14 +174,34 @@ public class JavaHelper
         {
             if (executeClass.byteCode == null)
             {
-                Map<String, byte[]> classes = SingleFileCompiler.compileFile(buildStringJavaSource(executeClass), globalClassLoader);
-                executeClass.byteCode = Base64.getEncoder().encodeToString(classes.get(getJavaClassFullName(executeClass)));
+                executeClass.byteCode = compileExecuteClass(executeClass, javaCompiler, globalClassLoader);
             }
         }
 
         return javaCompiler;
     }
 
+    private static String compileExecuteClass(JavaClass executeClass, EngineJavaCompiler javaCompiler, ClassLoader globalClassLoader) throws IOException, CompileException
+    {
+        String fullName = getJavaClassFullName(executeClass);
+        StringJavaSource source = buildStringJavaSource(executeClass);
+        BytecodeCache cache = bytecodeCache;
+        String key = (cache == null) ? null : cache.computeKey(javaCompiler, Lists.mutable.with(source));
+        MutableMap<String, String> cached = (key == null) ? null : cache.get(key);
+        if (cached != null)
+        {
+            return cached.get(fullName);
+        }
+
+        Map<String, byte[]> classes = SingleFileCompiler.compileFile(source, globalClassLoader);
+        String byteCode = Base64.getEncoder().encodeToString(classes.get(fullName));
+        if (key != null)
+        {
+            cache.put(key, Maps.mutable.with(fullName, byteCode));
+        }
+        return byteCode;
+    }
+
     private static void collectJavaClasses(ExecutionNode executionNode, Map<JavaPlatformImplementation, ? super MutableList<JavaClass>> javaClassesMap)
     {
         if (executionNode.implementation != null)
@@ -302,11 +342,27 @@ public class JavaHelper
                 javaCompiler.load(getJavaClassFullName(c), c.byteCode);
             }
         });
-        if (toBeCompiled.notEmpty())
+        if (toBeCompiled.isEmpty())
+        {
+            return javaCompiler.save();
+        }
+
+        BytecodeCache cache = bytecodeCache;
+        String key = (cache == null) ? null : cache.computeKey(javaCompiler, toBeCompiled);
+        MutableMap<String, String> cached = (key == null) ? null : cache.get(key);
+        if (cached != null)
+        {
+            javaCompiler.load(cached);
+            return cached;
+        }
+
+        javaCompiler.compile(toBeCompiled);
+        MutableMap<String, String> compiled = javaCompiler.save();
+        if (key != null)
         {
-            javaCompiler.compile(toBeCompiled);
+            cache.put(key, compiled);
         }
-        return javaCompiler.save();
+        return compiled;
     }
 
     private static JavaClass createGeneratedJavaClass(String name)
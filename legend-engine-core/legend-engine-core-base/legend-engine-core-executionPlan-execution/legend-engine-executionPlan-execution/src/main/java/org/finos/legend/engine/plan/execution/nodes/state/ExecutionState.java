@@ -30,6 +30,7 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.graphFetch.AdaptiveGraphBatchStats;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchMemoryGovernor;
 import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
@@ -63,6 +64,7 @@ public class ExecutionState
     private final GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
     public GraphObjectsBatch graphObjectsBatch;
     public AdaptiveGraphBatchStats adaptiveGraphBatchStats;
+    public GraphFetchMemoryGovernor.Lease graphFetchMemoryLease;
     public List<GraphFetchCache> graphFetchCaches;
 
     private EngineJavaCompiler javaCompiler;
@@ -98,6 +100,7 @@ public class ExecutionState
         this.graphFetchExecutionConfiguration = state.graphFetchExecutionConfiguration;
         this.graphObjectsBatch = state.graphObjectsBatch;
         this.adaptiveGraphBatchStats = state.adaptiveGraphBatchStats;
+        this.graphFetchMemoryLease = state.graphFetchMemoryLease;
         this.graphFetchCaches = state.graphFetchCaches;
         this.concurrentExecutionNodeExecutorPool = state.concurrentExecutionNodeExecutorPool;
         this.graphFetchExecutionNodeExecutorPool = state.graphFetchExecutionNodeExecutorPool;
@@ -25,6 +25,7 @@ public class GraphFetchResult extends Result
     private Stream<GraphObjectsBatch> graphObjectsBatchStream;
     private Result rootResult;
     private Span graphFetchSpan;
+    private Runnable closeHandler;
 
     public GraphFetchResult(Stream<GraphObjectsBatch> graphObjectsBatchStream, Result rootResult)
     {
@@ -49,6 +50,12 @@ public class GraphFetchResult extends Result
         return this;
     }
 
+    public GraphFetchResult onClose(Runnable closeHandler)
+    {
+        this.closeHandler = closeHandler;
+        return this;
+    }
+
     public Span getGraphFetchSpan()
     {
         return this.graphFetchSpan;
@@ -71,5 +78,9 @@ public class GraphFetchResult extends Result
         {
             this.graphFetchSpan.finish();
         }
+        if (this.closeHandler != null)
+        {
+            this.closeHandler.run();
+        }
     }
 }
@@ -17,6 +17,7 @@ package org.finos.legend.engine.plan.execution.result.graphFetch;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchMemoryGovernor;
 
 import java.util.List;
 import java.util.Map;
@@ -96,6 +97,7 @@ public class GraphObjectsBatch
     protected ConcurrentMap<Integer, ExecutionCache<GraphFetchCacheKey, List<Object>>> xStorePropertyCaches;
     protected AtomicLong totalObjectMemoryUtilization;
     protected AtomicLong rowCount;
+    private volatile GraphFetchMemoryGovernor.Lease memoryLease;
 
     public GraphObjectsBatch(long batchIndex, long graphFetchBatchMemoryLimit)
     {
@@ -114,6 +116,7 @@ public class GraphObjectsBatch
         this.nodeObjects = other.nodeObjects;
         this.xStorePropertyCaches = other.xStorePropertyCaches;
         this.totalObjectMemoryUtilization = other.totalObjectMemoryUtilization;
+        this.memoryLease = other.memoryLease;
         this.rowCount = other.rowCount;
     }
 
@@ -166,12 +169,27 @@ public class GraphObjectsBatch
     public void addObjectMemoryUtilization(long memoryBytes)
     {
         this.totalObjectMemoryUtilization.addAndGet(memoryBytes);
+        GraphFetchMemoryGovernor.Lease lease = this.memoryLease;
+        if (lease != null)
+        {
+            lease.addBatchBytes(memoryBytes);
+        }
         if (this.totalObjectMemoryUtilization.get() > this.graphFetchBatchMemoryLimit)
         {
             throw new RuntimeException("Maximum memory reached when processing the graphFetch. Try reducing batch size of graphFetch fetch operation.");
         }
     }
 
+    /**
+     * Reports the memory of this batch, from now on as objects are added to it, against the global graph fetch memory
+     * limit
+     */
+    public void reportMemoryTo(GraphFetchMemoryGovernor.Lease lease)
+    {
+        this.memoryLease = lease;
+        lease.setBatchBytes(this.totalObjectMemoryUtilization.get());
+    }
+
     public long getTotalObjectMemoryUtilization()
     {
         return this.totalObjectMemoryUtilization.get();
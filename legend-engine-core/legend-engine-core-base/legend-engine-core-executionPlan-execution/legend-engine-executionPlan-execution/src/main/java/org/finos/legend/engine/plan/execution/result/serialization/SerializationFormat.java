@@ -21,6 +21,8 @@ public enum SerializationFormat
     CSV_TRANSFORMED,
     PURE_TDSOBJECT,
     PURE,
+    BINARY,
+    ARROW,
     RAW;
 
     public static final String defaultFormatString = "DEFAULT";
@@ -0,0 +1,185 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestConcurrentExecutionNodeExecutorPool
+{
+    private final ExecutionState executionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), false, 0);
+
+    @Test
+    public void testNodesBeyondTheRequestThreadsRunOnLanes()
+    {
+        int[] started = new int[6];
+        int[] ended = new int[6];
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Function<ExecutionState, Integer>> tasks = IntStream.range(0, 6).mapToObj(i -> (Function<ExecutionState, Integer>) state ->
+        {
+            started[i] = sequence.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            ended[i] = sequence.incrementAndGet();
+            return i;
+        }).collect(Collectors.toList());
+
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "lanes", new ConcurrentExecutionNodeExecutorPoolConfig(2, 0, 0, false)))
+        {
+            Assert.assertEquals(IntStream.range(0, 6).boxed().collect(Collectors.toList()), pool.executeTasks(tasks, Identity.getAnonymousIdentity(), this.executionState));
+        }
+
+        Assert.assertEquals(2, maxRunning.get());
+        for (int i = 2; i < 6; i++)
+        {
+            Assert.assertTrue("node " + i + " started before the node one lane before it ended", started[i] > ended[i - 2]);
+        }
+    }
+
+    @Test
+    public void testIdentityThreadsAreCapped() throws Exception
+    {
+        CountDownLatch aliceStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(8, "identity caps", new ConcurrentExecutionNodeExecutorPoolConfig(0, 2, 0, false)))
+        {
+            CompletableFuture<List<Thread>> blocking = CompletableFuture.supplyAsync(() -> pool.executeTasks(Collections.nCopies(2, state ->
+            {
+                aliceStarted.countDown();
+                await(release);
+                return Thread.currentThread();
+            }), new Identity("alice"), this.executionState));
+            Assert.assertTrue(aliceStarted.await(10, TimeUnit.SECONDS));
+
+            // alice has no threads left, so her other executions run sequentially, while bob still gets threads
+            Thread caller = Thread.currentThread();
+            Assert.assertEquals(Collections.nCopies(2, caller), pool.executeTasks(Collections.nCopies(2, state -> Thread.currentThread()), new Identity("alice"), this.executionState));
+            Assert.assertFalse(pool.executeTasks(Collections.nCopies(2, state -> Thread.currentThread()), new Identity("bob"), this.executionState).contains(caller));
+
+            release.countDown();
+            Assert.assertFalse(blocking.get(10, TimeUnit.SECONDS).contains(caller));
+            Assert.assertFalse(pool.executeTasks(Collections.nCopies(2, state -> Thread.currentThread()), new Identity("alice"), this.executionState).contains(caller));
+
+            // the identities are only kept while they have executions
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (pool.identitiesWithThreads() > 0 && System.currentTimeMillis() < deadline)
+            {
+                System.gc();
+                sleep(10);
+            }
+            Assert.assertEquals(0, pool.identitiesWithThreads());
+        }
+    }
+
+    @Test
+    public void testExecutionsWaitForThreadsInQueue() throws Exception
+    {
+        String poolDescription = "queue wait " + System.nanoTime();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(2, poolDescription, new ConcurrentExecutionNodeExecutorPoolConfig(0, 0, 10_000, false)))
+        {
+            CompletableFuture<List<Thread>> blocking = CompletableFuture.supplyAsync(() -> pool.executeTasks(Collections.nCopies(2, state ->
+            {
+                started.countDown();
+                await(release);
+                return Thread.currentThread();
+            }), Identity.getAnonymousIdentity(), this.executionState));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            CompletableFuture<List<Thread>> queued = CompletableFuture.supplyAsync(() -> pool.executeTasks(Collections.nCopies(2, state -> Thread.currentThread()), Identity.getAnonymousIdentity(), this.executionState));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (pool.queuedExecutions() == 0 && System.currentTimeMillis() < deadline)
+            {
+                sleep(10);
+            }
+            Assert.assertEquals(1, pool.queuedExecutions());
+            Assert.assertEquals(1, MetricsHandler.getMetricsRegistry().getSampleValue("legend_engine_concurrent_execution_queue_depth", new String[]{"pool"}, new String[]{poolDescription}), 0);
+
+            // the queued execution gets the threads once they are released rather than running sequentially
+            release.countDown();
+            blocking.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(2, queued.get(10, TimeUnit.SECONDS).stream().distinct().count());
+            Assert.assertEquals(0, pool.queuedExecutions());
+            Assert.assertEquals(0, MetricsHandler.getMetricsRegistry().getSampleValue("legend_engine_concurrent_execution_queue_depth", new String[]{"pool"}, new String[]{poolDescription}), 0);
+            Assert.assertEquals(2, MetricsHandler.getMetricsRegistry().getSampleValue("legend_engine_concurrent_execution_wait_count", new String[]{"pool"}, new String[]{poolDescription}), 0);
+        }
+    }
+
+    @Test
+    public void testExecutionsRunSequentiallyOnceTheWaitIsOver()
+    {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(2, "queue timeout", new ConcurrentExecutionNodeExecutorPoolConfig(0, 0, 100, false)))
+        {
+            CompletableFuture<List<Thread>> blocking = CompletableFuture.supplyAsync(() -> pool.executeTasks(Collections.nCopies(2, state ->
+            {
+                started.countDown();
+                await(release);
+                return Thread.currentThread();
+            }), Identity.getAnonymousIdentity(), this.executionState));
+            await(started);
+
+            long start = System.currentTimeMillis();
+            Assert.assertEquals(Collections.nCopies(2, Thread.currentThread()), pool.executeTasks(Collections.nCopies(2, state -> Thread.currentThread()), Identity.getAnonymousIdentity(), this.executionState));
+            Assert.assertTrue(System.currentTimeMillis() - start >= 100);
+
+            release.countDown();
+            blocking.join();
+        }
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
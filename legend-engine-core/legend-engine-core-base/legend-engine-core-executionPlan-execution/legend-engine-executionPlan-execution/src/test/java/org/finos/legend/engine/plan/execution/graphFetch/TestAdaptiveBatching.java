@@ -17,6 +17,8 @@ package org.finos.legend.engine.plan.execution.graphFetch;
 
 import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.graphFetch.GraphObjectsBatch;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -24,6 +26,12 @@ import java.util.Collections;
 
 public class TestAdaptiveBatching
 {
+    @After
+    public void clearSharedEstimates()
+    {
+        GraphFetchMemoryGovernor.getInstance().clearBytesPerObjectEstimates();
+    }
+
     // Tests the return value when previous batch stats are null
     @Test
     public void testAdaptiveBatchingWithNoStats()
@@ -78,4 +86,78 @@ public class TestAdaptiveBatching
 
         Assert.assertEquals(3, AdaptiveBatching.getAdaptiveBatchSize(fakeExecutionState));
     }
+
+    // Tests the first batch size is derived from the memory used per object learnt by previous graph fetches
+    @Test
+    public void testInitialBatchSizeFromSharedEstimate()
+    {
+        GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration(200, GraphFetchExecutionConfiguration.DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE, true, GraphFetchExecutionConfiguration.DEFAULT_BATCH_SIZE);
+        GraphFetchMemoryGovernor.getInstance().recordBytesPerObject("test::SharedEstimate", 9);
+
+        ExecutionState fakeExecutionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), true, graphFetchExecutionConfiguration);
+        Assert.assertEquals(10, AdaptiveBatching.getAdaptiveBatchSize(fakeExecutionState, "test::SharedEstimate"));
+    }
+
+    // Tests the stats left on a reused execution state by another graph fetch are not used
+    @Test
+    public void testStatsOfAnotherGraphFetchAreNotUsed()
+    {
+        GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration(200, GraphFetchExecutionConfiguration.DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE, true, GraphFetchExecutionConfiguration.DEFAULT_BATCH_SIZE);
+        ExecutionState fakeExecutionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), true, graphFetchExecutionConfiguration);
+
+        Assert.assertEquals(64, AdaptiveBatching.getAdaptiveBatchSize(fakeExecutionState, "test::First"));
+        AdaptiveBatching.recordBatchMemoryUtilization(fakeExecutionState, 6400);
+        Assert.assertEquals(32, AdaptiveBatching.getAdaptiveBatchSize(fakeExecutionState, "test::First"));
+
+        Assert.assertEquals(64, AdaptiveBatching.getAdaptiveBatchSize(new ExecutionState(fakeExecutionState), "test::Second"));
+    }
+
+    // Tests the memory of a batch is accounted as objects are added to it, and released when the next batch is fetched
+    @Test
+    public void testBatchMemoryIsAccountedOnTheGraphFetchLease()
+    {
+        GraphFetchMemoryGovernor governor = new GraphFetchMemoryGovernor();
+        ExecutionState fakeExecutionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        fakeExecutionState.graphFetchMemoryLease = governor.acquireLease();
+
+        GraphObjectsBatch batch = new GraphObjectsBatch(0, 1000);
+        batch.addObjectMemoryUtilization(10);
+        batch.reportMemoryTo(new ExecutionState(fakeExecutionState).graphFetchMemoryLease);
+        Assert.assertEquals(10, governor.getLiveBytes());
+
+        // as done by the child fetches, in parallel or not
+        new GraphObjectsBatch(batch).addObjectMemoryUtilization(30);
+        Assert.assertEquals(40, governor.getLiveBytes());
+
+        AdaptiveBatching.getAdaptiveBatchSize(fakeExecutionState);
+        Assert.assertEquals(0, governor.getLiveBytes());
+
+        fakeExecutionState.graphFetchMemoryLease.close();
+        batch.addObjectMemoryUtilization(10);
+        Assert.assertEquals(0, governor.getLiveBytes());
+    }
+
+    // Tests the global memory limit is shared between the concurrent graph fetches
+    @Test
+    public void testGlobalMemoryLimitIsShared()
+    {
+        GraphFetchMemoryGovernor governor = new GraphFetchMemoryGovernor();
+        Assert.assertEquals(100, governor.getBatchMemoryBudget(100, 0));
+
+        GraphFetchMemoryGovernor.Lease first = governor.acquireLease();
+        GraphFetchMemoryGovernor.Lease second = governor.acquireLease();
+        Assert.assertEquals(60, governor.getBatchMemoryBudget(100, 120));
+
+        first.setBatchBytes(80);
+        second.setBatchBytes(50);
+        Assert.assertEquals(130, governor.getLiveBytes());
+        governor.awaitCapacity(120, 20);
+
+        first.close();
+        first.close();
+        Assert.assertEquals(50, governor.getLiveBytes());
+        Assert.assertEquals(100, governor.getBatchMemoryBudget(100, 120));
+        second.close();
+        Assert.assertEquals(0, governor.getLiveBytes());
+    }
 }
@@ -62,6 +62,37 @@ public class TestFreeMarkerExecutor
         processRecursivelyWithFlagSwitching(query, rootMap, collectionSizeTemplate(), "final collectionSize :1000");
     }
 
+    @Test
+    public void testCachedTemplateRenderedWithEachExecutionVariables()
+    {
+        String query = "select * from person where size = ${collectionSize(testCollection)} and name = '${name}'";
+        for (int i = 1; i <= 3; i++)
+        {
+            Map rootMap = new HashMap();
+            rootMap.put("testCollection", Collections.nCopies(i, "x"));
+            rootMap.put("name", "name" + i);
+            Assert.assertEquals("select * from person where size = " + i + " and name = 'name" + i + "'", processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        }
+    }
+
+    @Test
+    public void testValuesRenderedOnTheFlyAreNotCached()
+    {
+        String query = "select * from person where size = ${collectionSize(testCollection)} and name = '${name}'";
+        Map rootMap = new HashMap();
+        rootMap.put("testCollection", Collections.nCopies(2, "x"));
+        rootMap.put("firstName", "Bob");
+        rootMap.put("name", "${firstName}0");
+        processRecursively(query, rootMap, collectionSizeTemplate());
+        long cachedTemplateCount = FreeMarkerExecutor.cachedTemplateCount();
+        for (int i = 1; i <= 3; i++)
+        {
+            rootMap.put("name", "${firstName}" + i);
+            Assert.assertEquals("select * from person where size = 2 and name = 'Bob" + i + "'", processRecursively(query, rootMap, collectionSizeTemplate()).trim());
+        }
+        Assert.assertEquals(cachedTemplateCount, FreeMarkerExecutor.cachedTemplateCount());
+    }
+
     @Test
     public void testFreemarkerSkippedOnEmptyTemplate()
     {
@@ -339,7 +339,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         ModelConnectionParserGrammar parser = new ModelConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ModelConnectionParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getEnumerationMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -352,7 +352,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         EnumerationMappingParserGrammar parser = new EnumerationMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.enumerationMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, EnumerationMappingParserGrammar::enumerationMapping));
     }
 
     private static SourceCodeParserInfo getOperationClassMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -365,7 +365,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         OperationClassMappingParserGrammar parser = new OperationClassMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.operationClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, OperationClassMappingParserGrammar::operationClassMapping));
     }
 
     private static SourceCodeParserInfo getPureInstanceClassMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -378,7 +378,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         PureInstanceClassMappingParserGrammar parser = new PureInstanceClassMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.pureInstanceClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, PureInstanceClassMappingParserGrammar::pureInstanceClassMapping));
     }
 
     private static SourceCodeParserInfo getXStoreAssociationMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -391,7 +391,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         XStoreAssociationMappingParserGrammar parser = new XStoreAssociationMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.xStoreAssociationMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, XStoreAssociationMappingParserGrammar::xStoreAssociationMapping));
     }
 
     private static SourceCodeParserInfo getAggregationAwareMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -405,7 +405,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         SourceInformation source = mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.aggregationAwareClassMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, AggregationAwareParserGrammar::aggregationAwareClassMapping));
     }
 
     private static SourceCodeParserInfo getAggregateSpecificationParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -419,7 +419,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         SourceInformation source = mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.aggregateSpecification());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, AggregationAwareParserGrammar::aggregateSpecification));
     }
 
     private static SourceCodeParserInfo getRelationFunctionMappingParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -433,7 +433,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         SourceInformation source = mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext);
-        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, parser.relationMapping());
+        return new SourceCodeParserInfo(mappingElementSourceCode.code, input, source, mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, RelationFunctionMappingParserGrammar::relationMapping));
     }
 
     private static Section parseDataSection(SectionSourceCode sectionSourceCode, Consumer<PackageableElement> elementConsumer, PureGrammarParserContext pureGrammarParserContext)
@@ -457,7 +457,7 @@ public class CorePureGrammarParser implements PureGrammarParserExtension
         DataParserGrammar parser = new DataParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, DataParserGrammar::definition));
     }
 
     private static MappingInclude parseMappingInclude(MappingParserGrammar.IncludeMappingContext ctx, ParseTreeWalkerSourceInformation walkerSourceInformation)
@@ -45,12 +45,18 @@ import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 public class PureGrammarParser
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(PureGrammarParser.class);
     private static final String DEFAULT_SECTION_BEGIN = "\n###" + DomainParser.name + "\n";
+    private static final String PARALLEL_SECTION_PARSING = "org.finos.legend.engine.grammar.parallelSectionParsing";
 
     private final DEPRECATED_PureGrammarParserLibrary parsers;
     private final PureGrammarParserExtensions extensions;
@@ -130,12 +136,45 @@ public class PureGrammarParser
         // in the consumer, we should ensure this does not leak and gets persisted to SDLC or Services per se
         sectionIndex.name = "SectionIndex";
         sectionIndex._package = "__internal__";
-        sectionIndex.sections = ListIterate.collect(parser.definition().section(), sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
+        List<CodeParserGrammar.SectionContext> sectionContexts = PureGrammarParserUtility.parseWithSllFallback(parser, CodeParserGrammar::definition).section();
+        sectionIndex.sections = Boolean.getBoolean(PARALLEL_SECTION_PARSING) && sectionContexts.size() > 1
+                ? this.visitSectionsInParallel(sectionContexts, parserLibrary, walkerSourceInformation, parserContext, builder, returnSourceInfo)
+                : ListIterate.collect(sectionContexts, sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
         // tactically run parsed values thru converters to fix old/legacy code
         PureModelContextData pmcd = builder.withElement(sectionIndex).build();
         return this.converterMapper.convertValue(pmcd, PureModelContextData.class);
     }
 
+    /**
+     * Sections are parsed independently of each other, so they can be parsed concurrently. Their elements are added to the
+     * builder in the same order as when parsing sequentially, and the error of the first failing section is the one thrown.
+     */
+    private List<Section> visitSectionsInParallel(List<CodeParserGrammar.SectionContext> sectionContexts, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, PureModelContextData.Builder builder, boolean returnSourceInfo)
+    {
+        List<List<PackageableElement>> sectionElements = new ArrayList<>(sectionContexts.size());
+        List<CompletableFuture<Section>> sections = new ArrayList<>(sectionContexts.size());
+        for (CodeParserGrammar.SectionContext sectionCtx : sectionContexts)
+        {
+            List<PackageableElement> elements = new ArrayList<>();
+            sectionElements.add(elements);
+            sections.add(CompletableFuture.supplyAsync(() -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, elements::add, returnSourceInfo), ForkJoinPool.commonPool()));
+        }
+        List<Section> result = new ArrayList<>(sections.size());
+        for (int i = 0; i < sections.size(); i++)
+        {
+            try
+            {
+                result.add(sections.get(i).join());
+            }
+            catch (CompletionException e)
+            {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+            sectionElements.get(i).forEach(builder::addElement);
+        }
+        return result;
+    }
+
     private Section visitSection(CodeParserGrammar.SectionContext ctx, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, Consumer<PackageableElement> elementConsumer, boolean returnSourceInfo)
     {
         String parserName = ctx.SECTION_START().getText().substring(4); // the prefix is `\n###` hence 4 characters
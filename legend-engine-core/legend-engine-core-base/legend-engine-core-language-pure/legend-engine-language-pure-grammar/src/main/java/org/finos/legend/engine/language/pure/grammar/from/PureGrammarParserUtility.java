@@ -14,8 +14,14 @@
 
 package org.finos.legend.engine.language.pure.grammar.from;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.text.StringEscapeUtils;
 import org.finos.legend.engine.protocol.pure.v1.model.SourceInformation;
 import org.finos.legend.engine.protocol.pure.v1.model.context.EngineErrorType;
@@ -24,6 +30,7 @@ import org.finos.legend.engine.shared.core.operational.errorManagement.EngineExc
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -145,5 +152,43 @@ public class PureGrammarParserUtility
         m.setUpperBound(star.equals(toMultiplicity.getText()) ? null : Integer.parseInt(toMultiplicity.getText()));
         return m;
     }
-    
+
+    /**
+     * Parses with the two-stage strategy recommended for ANTLR 4: first with the much faster SLL prediction, bailing out on
+     * the first error without notifying the error listeners, then, only if that failed, again with full LL prediction, the
+     * error handling and the error listeners of the parser (so that syntax errors are reported by its listeners as usual).
+     * The rule function may also walk the parse tree, as it is applied again from the start of the input after a bail out.
+     */
+    public static <P extends Parser, T> T parseWithSllFallback(P parser, Function<P, T> rule)
+    {
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        List<ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        PredictionMode predictionMode = parser.getInterpreter().getPredictionMode();
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try
+        {
+            return rule.apply(parser);
+        }
+        catch (ParseCancellationException e)
+        {
+            parser.reset();
+            restoreErrorHandling(parser, errorHandler, errorListeners);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        }
+        finally
+        {
+            restoreErrorHandling(parser, errorHandler, errorListeners);
+            parser.getInterpreter().setPredictionMode(predictionMode);
+        }
+    }
+
+    private static void restoreErrorHandling(Parser parser, ANTLRErrorStrategy errorHandler, List<ANTLRErrorListener> errorListeners)
+    {
+        parser.setErrorHandler(errorHandler);
+        parser.removeErrorListeners();
+        errorListeners.forEach(parser::addErrorListener);
+    }
 }
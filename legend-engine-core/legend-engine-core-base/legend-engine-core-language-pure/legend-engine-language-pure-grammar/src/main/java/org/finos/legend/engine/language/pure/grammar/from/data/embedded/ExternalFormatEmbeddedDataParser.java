@@ -65,6 +65,6 @@ public class ExternalFormatEmbeddedDataParser implements EmbeddedDataParser
         ExternalFormatDataParserGrammar parser = new ExternalFormatDataParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ExternalFormatDataParserGrammar::definition));
     }
 }
@@ -18,7 +18,6 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.eclipse.collections.api.factory.Lists;
@@ -1445,8 +1444,7 @@ public class DomainParseTreeWalker
         NavigationParserGrammar navigationParser = new NavigationParserGrammar(new CommonTokenStream(navigationLexer));
         navigationParser.removeErrorListeners();
         navigationParser.addErrorListener(errorListener);
-        navigationParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-        return Lists.mutable.with(new NavigationParseTreeWalker(graphFetchWalkerSourceInformation).visitDefinition(navigationParser.definition()));
+        return Lists.mutable.with(new NavigationParseTreeWalker(graphFetchWalkerSourceInformation).visitDefinition(PureGrammarParserUtility.parseWithSllFallback(navigationParser, NavigationParserGrammar::definition)));
     }
 
     // TODO: add another island mode in M3 for this when we support path (which starts with #/)
@@ -1476,8 +1474,7 @@ public class DomainParseTreeWalker
         GraphFetchTreeParserGrammar graphParser = new GraphFetchTreeParserGrammar(new CommonTokenStream(graphLexer));
         graphParser.removeErrorListeners();
         graphParser.addErrorListener(errorListener);
-        graphParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-        return Lists.mutable.with(new GraphFetchTreeParseTreeWalker(graphFetchWalkerSourceInformation).visitDefinition(graphParser.definition()));
+        return Lists.mutable.with(new GraphFetchTreeParseTreeWalker(graphFetchWalkerSourceInformation).visitDefinition(PureGrammarParserUtility.parseWithSllFallback(graphParser, GraphFetchTreeParserGrammar::definition)));
     }
 
     private Variable lambdaParam(DomainParserGrammar.LambdaParamContext ctx, DomainParserGrammar.IdentifierContext var, List<String> typeParametersNames, String space)
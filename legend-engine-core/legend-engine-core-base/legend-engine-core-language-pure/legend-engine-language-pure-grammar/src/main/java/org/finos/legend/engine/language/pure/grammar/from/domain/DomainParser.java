@@ -21,6 +21,7 @@ import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.language.pure.grammar.from.DEPRECATED_SectionGrammarParser;
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.domain.DomainLexerGrammar;
@@ -65,7 +66,7 @@ public class DomainParser implements DEPRECATED_SectionGrammarParser
         DomainParserGrammar parser = new DomainParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? parser.definition() : null);
+        return new SourceCodeParserInfo(code, input, sectionSourceInformation, walkerSourceInformation, lexer, parser, includeRootContext ? PureGrammarParserUtility.parseWithSllFallback(parser, DomainParserGrammar::definition) : null);
     }
 
     @Override
@@ -110,7 +111,7 @@ public class DomainParser implements DEPRECATED_SectionGrammarParser
         ParseTreeWalkerSourceInformation walkerSourceInformation = new ParseTreeWalkerSourceInformation.Builder(combinedExpressionWalkerSourceInformation).build();
         SourceCodeParserInfo sectionParserInfo = this.getParserInfo(code, null, walkerSourceInformation, false);
         DomainParseTreeWalker walker = new DomainParseTreeWalker(walkerSourceInformation, parserContext, allowPropertyBracketExpression);
-        return walker.combinedExpression(((DomainParserGrammar) sectionParserInfo.parser).combinedExpression(), "line", typeParametersNames, lambdaContext, "", true, false);
+        return walker.combinedExpression(PureGrammarParserUtility.parseWithSllFallback((DomainParserGrammar) sectionParserInfo.parser, DomainParserGrammar::combinedExpression), "line", typeParametersNames, lambdaContext, "", true, false);
     }
 
     public ValueSpecification parsePrimitiveValue(String code, ParseTreeWalkerSourceInformation serviceParamWalkerSourceInformation, PureGrammarParserContext parserContext)
@@ -120,7 +121,7 @@ public class DomainParser implements DEPRECATED_SectionGrammarParser
         ParseTreeWalkerSourceInformation walkerSourceInformation = new ParseTreeWalkerSourceInformation.Builder(serviceParamWalkerSourceInformation).build();
         SourceCodeParserInfo sectionParserInfo = this.getParserInfo(code, null, walkerSourceInformation, false);
         DomainParseTreeWalker walker = new DomainParseTreeWalker(walkerSourceInformation, parserContext, false);
-        return walker.primitiveValue(((DomainParserGrammar) sectionParserInfo.parser).primitiveValue(), "line", typeParametersNames, lambdaContext, "", true, false);
+        return walker.primitiveValue(PureGrammarParserUtility.parseWithSllFallback((DomainParserGrammar) sectionParserInfo.parser, DomainParserGrammar::primitiveValue), "line", typeParametersNames, lambdaContext, "", true, false);
     }
 
     public RootGraphFetchTree parseGraphFetch(String input, String sourceId, int lineOffset, int columnOffset, boolean returnSourceInfo)
@@ -0,0 +1,173 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.grammar.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
+import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
+import org.finos.legend.engine.language.pure.grammar.from.antlr4.domain.DomainLexerGrammar;
+import org.finos.legend.engine.language.pure.grammar.from.antlr4.domain.DomainParserGrammar;
+import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class TestSllFallbackParsing
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final String PARALLEL_SECTION_PARSING = "org.finos.legend.engine.grammar.parallelSectionParsing";
+
+    private static final String MODEL = "###Pure\n" +
+            "Class test::A\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "}\n" +
+            "###Mapping\n" +
+            "Mapping test::M1\n" +
+            "(\n" +
+            ")\n" +
+            "###Pure\n" +
+            "Enum test::E\n" +
+            "{\n" +
+            "  X, Y\n" +
+            "}\n" +
+            "Class test::B extends test::A\n" +
+            "{\n" +
+            "}\n" +
+            "###Mapping\n" +
+            "Mapping test::M2\n" +
+            "(\n" +
+            "  include test::M1\n" +
+            ")\n" +
+            "###Pure\n" +
+            "function test::f(): String[1]\n" +
+            "{\n" +
+            "  'a' + 'b'\n" +
+            "}\n";
+
+    @Test
+    public void testFallbackParsesAgainWithLlPredictionAndErrorListeners()
+    {
+        DomainParserGrammar parser = newParser("Class test::A\n{\n}\n");
+        List<String> stages = new ArrayList<>();
+        DomainParserGrammar.DefinitionContext definition = PureGrammarParserUtility.parseWithSllFallback(parser, p ->
+        {
+            stages.add(p.getInterpreter().getPredictionMode() + " with " + p.getErrorListeners().size() + " listener(s)");
+            if (stages.size() == 1)
+            {
+                // as thrown by the bail out error strategy when SLL prediction fails
+                throw new ParseCancellationException("SLL failure");
+            }
+            return p.definition();
+        });
+
+        Assert.assertEquals(Arrays.asList("SLL with 0 listener(s)", "LL with 1 listener(s)"), stages);
+        Assert.assertEquals(1, definition.elementDefinition().size());
+        Assert.assertEquals(1, parser.getErrorListeners().size());
+        Assert.assertEquals(PredictionMode.LL, parser.getInterpreter().getPredictionMode());
+    }
+
+    @Test
+    public void testSyntaxErrorsAreReportedAsWithLlParsing()
+    {
+        for (String code : Arrays.asList(
+                "asd\nClass test::tClass\n{\n}\n",
+                "Class test::tClass\n{\n} randomToken\n",
+                "Class A {",
+                "Class false::me\n{\n}\n",
+                "Class my::Class\n{\n  (tunnel) prop1: String[1];\n}\n",
+                "function test::f(): String[1]\n{\n  'a' + \n}\n",
+                "Enum test::E\n{\n  X,, Y\n}\n"))
+        {
+            String llError = parseError(() -> newParser(code).definition());
+            String sllFallbackError = parseError(() -> PureGrammarParserUtility.parseWithSllFallback(newParser(code), DomainParserGrammar::definition));
+            Assert.assertEquals(code, llError, sllFallbackError);
+        }
+    }
+
+    @Test
+    public void testParallelSectionParsingKeepsSourceOrder() throws Exception
+    {
+        PureModelContextData sequentialData = PureGrammarParser.newInstance().parseModel(MODEL);
+        PureModelContextData parallelData = parseInParallel(() -> PureGrammarParser.newInstance().parseModel(MODEL));
+
+        Assert.assertEquals(7, parallelData.getElements().size());
+        Assert.assertEquals(ListIterate.collect(sequentialData.getElements(), PackageableElement::getPath), ListIterate.collect(parallelData.getElements(), PackageableElement::getPath));
+        Assert.assertEquals(objectMapper.writeValueAsString(sequentialData), objectMapper.writeValueAsString(parallelData));
+    }
+
+    @Test
+    public void testParallelSectionParsingReportsFirstError()
+    {
+        String firstError = MODEL.replace("Mapping test::M1\n(\n)", "Mapping test::M1\n(\n  include\n)");
+        String code = firstError.replace("  'a' + 'b'\n", "  'a' + \n");
+        String expectedError = parseError(() -> PureGrammarParser.newInstance().parseModel(firstError));
+
+        Assert.assertEquals(expectedError, parseError(() -> PureGrammarParser.newInstance().parseModel(code)));
+        Assert.assertEquals(expectedError, parseError(() -> parseInParallel(() -> PureGrammarParser.newInstance().parseModel(code))));
+    }
+
+    private static <T> T parseInParallel(Supplier<T> parse)
+    {
+        System.setProperty(PARALLEL_SECTION_PARSING, "true");
+        try
+        {
+            return parse.get();
+        }
+        finally
+        {
+            System.clearProperty(PARALLEL_SECTION_PARSING);
+        }
+    }
+
+    private static String parseError(Supplier<?> parse)
+    {
+        try
+        {
+            parse.get();
+        }
+        catch (EngineException e)
+        {
+            return EngineException.buildPrettyErrorMessage(e.getMessage(), e.getSourceInformation(), e.getErrorType());
+        }
+        throw new AssertionError("Expected a parser error");
+    }
+
+    private static DomainParserGrammar newParser(String code)
+    {
+        ParserErrorListener errorListener = new ParserErrorListener(new ParseTreeWalkerSourceInformation.Builder("test", 0, 0).build());
+        DomainLexerGrammar lexer = new DomainLexerGrammar(CharStreams.fromString(code));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        DomainParserGrammar parser = new DomainParserGrammar(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        return parser;
+    }
+}
@@ -16,13 +16,13 @@ package org.finos.legend.engine.language.pure.modelManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.opentracing.Scope;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.TimeUnit;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
@@ -32,6 +32,7 @@ import org.finos.legend.engine.language.pure.compiler.Compiler;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
+import org.finos.legend.engine.protocol.pure.PureClientVersions;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextText;
@@ -41,9 +42,13 @@ import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ModelManager
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelManager.class);
+
     // ------------------------------------------------------------------------------------------------
     // Since we use ServiceLoader to load various extensions for PURE protocol, it might not be wise
     // to expose mutable instance of object mapper like this. We do this because we potentially modify
@@ -55,7 +60,9 @@ public class ModelManager
     // TODO: consider renaming this to UNSAFE/DEPRECATED_objectMapper
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
-    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    // kept for the callers of the former cache, see getPureModelCache() for the sized cache behind it
+    public final Cache<PureModelContext, PureModel> pureModelCache;
+    private final PureModelCache sizedPureModelCache;
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
     private final Tracer tracer;
@@ -73,6 +80,13 @@ public class ModelManager
 
     public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, ModelLoader... modelLoaders)
     {
+        this(mode, forkJoinPool, tracer, new PureModelCacheConfiguration(), modelLoaders);
+    }
+
+    public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, PureModelCacheConfiguration cacheConfiguration, ModelLoader... modelLoaders)
+    {
+        this.sizedPureModelCache = new PureModelCache(cacheConfiguration);
+        this.pureModelCache = this.sizedPureModelCache.asCache();
         this.tracer = tracer;
         this.modelLoaders = Lists.mutable.of(modelLoaders);
         this.modelLoaders.forEach((Procedure<ModelLoader>) loader -> loader.setModelManager(this));
@@ -80,6 +94,11 @@ public class ModelManager
         this.forkJoinPool = forkJoinPool;
     }
 
+    public PureModelCache getPureModelCache()
+    {
+        return this.sizedPureModelCache;
+    }
+
     // Remove clientVersion
     public PureModel loadModel(PureModelContext context, String clientVersion, Identity identity, String packageOffset)
     {
@@ -93,7 +112,7 @@ public class ModelManager
                 PureModelContext cacheKey = loader.cacheKey(context, identity);
                 try
                 {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, identity), this.deploymentMode, identity.getName(), null, modelProcessParameter));
+                    return this.sizedPureModelCache.get(cacheKey, () -> this.loadData(cacheKey, clientVersion, identity), data -> Compiler.compile(data, this.deploymentMode, identity.getName(), null, modelProcessParameter));
                 }
                 catch (ExecutionException e)
                 {
@@ -140,6 +159,30 @@ public class ModelManager
         }
     }
 
+    public CompletableFuture<Void> prewarm(List<? extends PureModelContext> contexts)
+    {
+        return this.prewarm(contexts, PureClientVersions.production, Identity.getAnonymousIdentity());
+    }
+
+    /**
+     * Compiles and caches the given models in the background, so that the first requests against them do not pay
+     * for the compilation. Failures are logged and do not prevent the remaining models from being loaded.
+     */
+    public CompletableFuture<Void> prewarm(List<? extends PureModelContext> contexts, String clientVersion, Identity identity)
+    {
+        return CompletableFuture.runAsync(() -> contexts.forEach(context ->
+        {
+            try
+            {
+                this.loadModel(context, clientVersion, identity, null);
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Failed to pre-warm model cache", e);
+            }
+        }));
+    }
+
     public ModelLoader modelLoaderForContext(PureModelContext context)
     {
         MutableList<ModelLoader> loaders = modelLoaders.select(loader -> loader.supports(context));
@@ -0,0 +1,199 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+/**
+ * Cache of compiled models, bounded by the estimated retained size of the models rather than by soft references, so
+ * that models are only dropped when the configured budget is exceeded or they have not been used for a while.
+ * <p>
+ * Loading is single-flight: concurrent requests for a model which is being compiled wait for that compilation
+ * instead of starting their own. Lookups of models already in the cache do not take any lock.
+ */
+public class PureModelCache
+{
+    // Coarse estimate of the heap retained per compiled protocol element (types, mappings, stores, etc.)
+    static final int ESTIMATED_KB_PER_ELEMENT = 32;
+    static final int ESTIMATED_KB_PER_MODEL = 256;
+
+    private final Cache<PureModelContext, SizedPureModel> cache;
+    private final Cache<PureModelContext, PureModel> view = new CacheView();
+
+    public PureModelCache(PureModelCacheConfiguration configuration)
+    {
+        this.cache = CacheBuilder.newBuilder()
+                .recordStats()
+                // Guava splits the maximum weight across segments: a single one lets a model use the whole budget
+                .concurrencyLevel(1)
+                .maximumWeight(configuration.getMaximumSizeKB())
+                .weigher((PureModelContext key, SizedPureModel value) -> value.estimatedSizeKB)
+                .expireAfterAccess(configuration.expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .removalListener(notification ->
+                {
+                    if (notification.wasEvicted())
+                    {
+                        MetricsHandler.incrementPureModelCacheEviction(notification.getCause().name());
+                    }
+                })
+                .build();
+    }
+
+    public PureModel get(PureModelContext key, Function0<PureModelContextData> loader, Function<PureModelContextData, PureModel> compiler) throws ExecutionException
+    {
+        AtomicBoolean compiled = new AtomicBoolean(false);
+        SizedPureModel result = this.cache.get(key, () ->
+        {
+            compiled.set(true);
+            long start = System.currentTimeMillis();
+            PureModelContextData data = loader.value();
+            PureModel pureModel = compiler.valueOf(data);
+            MetricsHandler.observePureModelCompilation(start, System.currentTimeMillis());
+            return new SizedPureModel(pureModel, estimateSizeKB(data));
+        });
+        if (compiled.get())
+        {
+            MetricsHandler.incrementPureModelCacheMiss();
+        }
+        else
+        {
+            MetricsHandler.incrementPureModelCacheHit();
+        }
+        return result.pureModel;
+    }
+
+    public PureModel getIfPresent(PureModelContext key)
+    {
+        SizedPureModel result = this.cache.getIfPresent(key);
+        return result == null ? null : result.pureModel;
+    }
+
+    public void invalidate(PureModelContext key)
+    {
+        this.cache.invalidate(key);
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public CacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    /**
+     * @return this cache as a Guava cache of the compiled models, for the callers which used the former cache of
+     * {@link ModelManager}. Models cached through it are weighed as empty models, as their data is not known.
+     */
+    public Cache<PureModelContext, PureModel> asCache()
+    {
+        return this.view;
+    }
+
+    long estimatedSizeKB()
+    {
+        return this.cache.asMap().values().stream().mapToLong(value -> value.estimatedSizeKB).sum();
+    }
+
+    static int estimateSizeKB(PureModelContextData data)
+    {
+        long elements = data.getElements() == null ? 0 : data.getElements().size();
+        return (int) Math.min(Integer.MAX_VALUE, ESTIMATED_KB_PER_MODEL + elements * ESTIMATED_KB_PER_ELEMENT);
+    }
+
+    private class CacheView extends AbstractCache<PureModelContext, PureModel>
+    {
+        @Override
+        public PureModel getIfPresent(Object key)
+        {
+            SizedPureModel result = PureModelCache.this.cache.getIfPresent(key);
+            return result == null ? null : result.pureModel;
+        }
+
+        @Override
+        public PureModel get(PureModelContext key, Callable<? extends PureModel> loader) throws ExecutionException
+        {
+            return PureModelCache.this.cache.get(key, () -> new SizedPureModel(loader.call(), ESTIMATED_KB_PER_MODEL)).pureModel;
+        }
+
+        @Override
+        public void put(PureModelContext key, PureModel value)
+        {
+            PureModelCache.this.cache.put(key, new SizedPureModel(value, ESTIMATED_KB_PER_MODEL));
+        }
+
+        @Override
+        public void invalidate(Object key)
+        {
+            PureModelCache.this.cache.invalidate(key);
+        }
+
+        @Override
+        public void invalidateAll()
+        {
+            PureModelCache.this.cache.invalidateAll();
+        }
+
+        @Override
+        public long size()
+        {
+            return PureModelCache.this.cache.size();
+        }
+
+        @Override
+        public CacheStats stats()
+        {
+            return PureModelCache.this.cache.stats();
+        }
+
+        @Override
+        public void cleanUp()
+        {
+            PureModelCache.this.cache.cleanUp();
+        }
+    }
+
+    private static class SizedPureModel
+    {
+        private final PureModel pureModel;
+        private final int estimatedSizeKB;
+
+        private SizedPureModel(PureModel pureModel, int estimatedSizeKB)
+        {
+            this.pureModel = pureModel;
+            this.estimatedSizeKB = estimatedSizeKB;
+        }
+    }
+}
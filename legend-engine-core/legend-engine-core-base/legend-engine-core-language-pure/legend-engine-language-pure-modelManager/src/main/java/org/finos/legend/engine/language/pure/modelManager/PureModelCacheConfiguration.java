@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PureModelCacheConfiguration
+{
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    // Estimated retained size budget for all cached models; defaults to a quarter of the max heap
+    public Long maximumSizeMB;
+    public long expireAfterAccessMinutes = DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES;
+    // Project coordinates (groupId:artifactId:version) to compile and cache at server start
+    public List<String> prewarm = Collections.emptyList();
+
+    public PureModelCacheConfiguration()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public PureModelCacheConfiguration(long maximumSizeMB, long expireAfterAccessMinutes)
+    {
+        this.maximumSizeMB = maximumSizeMB;
+        this.expireAfterAccessMinutes = expireAfterAccessMinutes;
+    }
+
+    public long getMaximumSizeKB()
+    {
+        return this.maximumSizeMB == null ? Runtime.getRuntime().maxMemory() / 4 / 1024 : this.maximumSizeMB * 1024;
+    }
+
+    public List<PureModelContextPointer> getPrewarmPointers()
+    {
+        return ListIterate.collect(this.prewarm == null ? Collections.emptyList() : this.prewarm, coordinates ->
+        {
+            String[] parts = coordinates.split(":");
+            if (parts.length != 3)
+            {
+                throw new IllegalArgumentException("Invalid project coordinates '" + coordinates + "', expected groupId:artifactId:version");
+            }
+            AlloySDLC sdlc = new AlloySDLC();
+            sdlc.groupId = parts[0];
+            sdlc.artifactId = parts[1];
+            sdlc.version = parts[2];
+            // built as the pointers of requests for project coordinates are, so that they share the same cache keys
+            PureModelContextPointer pointer = new PureModelContextPointer();
+            pointer.sdlcInfo = sdlc;
+            return pointer;
+        });
+    }
+}
@@ -0,0 +1,223 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import io.opentracing.Span;
+import io.opentracing.util.GlobalTracer;
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.m3.extension.Profile;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestPureModelCache
+{
+    private static PureModel pureModel;
+
+    @BeforeClass
+    public static void compileEmptyModel()
+    {
+        pureModel = Compiler.compile(PureModelContextData.newPureModelContextData(), DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+    }
+
+    @Test
+    public void testModelsAreEstimatedByTheirElements()
+    {
+        Assert.assertEquals(PureModelCache.ESTIMATED_KB_PER_MODEL, PureModelCache.estimateSizeKB(data(0)));
+        Assert.assertEquals(PureModelCache.ESTIMATED_KB_PER_MODEL + 10 * PureModelCache.ESTIMATED_KB_PER_ELEMENT, PureModelCache.estimateSizeKB(data(10)));
+    }
+
+    @Test
+    public void testCacheStaysWithinItsSizeBudget() throws Exception
+    {
+        PureModelCache cache = new PureModelCache(new PureModelCacheConfiguration(1, 30));
+        for (int i = 0; i < 10; i++)
+        {
+            cache.get(pointer("project" + i), () -> data(0), data -> pureModel);
+        }
+
+        // each model is estimated at 256KB, so at most 4 fit in the budget of 1MB
+        Assert.assertTrue(cache.size() <= 4);
+        Assert.assertTrue(cache.estimatedSizeKB() <= 1024);
+        Assert.assertEquals(10 - cache.size(), cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testModelLargerThanTheBudgetIsNotKept() throws Exception
+    {
+        PureModelCache cache = new PureModelCache(new PureModelCacheConfiguration(1, 30));
+        Assert.assertSame(pureModel, cache.get(pointer("large"), () -> data(100), data -> pureModel));
+        Assert.assertNull(cache.getIfPresent(pointer("large")));
+        Assert.assertEquals(0, cache.estimatedSizeKB());
+        Assert.assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testHitsAndMissesAreCounted() throws Exception
+    {
+        PureModelCache cache = new PureModelCache(new PureModelCacheConfiguration(64, 30));
+        AtomicInteger compilations = new AtomicInteger();
+        for (int i = 0; i < 3; i++)
+        {
+            Assert.assertSame(pureModel, cache.get(pointer("project"), () -> data(1), data ->
+            {
+                compilations.incrementAndGet();
+                return pureModel;
+            }));
+        }
+
+        Assert.assertEquals(1, compilations.get());
+        Assert.assertEquals(1, cache.stats().missCount());
+        Assert.assertEquals(2, cache.stats().hitCount());
+        Assert.assertEquals(PureModelCache.ESTIMATED_KB_PER_MODEL + PureModelCache.ESTIMATED_KB_PER_ELEMENT, cache.estimatedSizeKB());
+
+        cache.invalidate(pointer("project"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testModelManagerExposesTheCacheAsGuavaCache()
+    {
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), new PureModelCacheConfiguration(64, 30), new CountingModelLoader());
+        manager.loadModel(pointer("project"), null, Identity.getAnonymousIdentity(), null);
+
+        Assert.assertEquals(1, manager.pureModelCache.size());
+        Assert.assertSame(manager.getPureModelCache().getIfPresent(pointer("project")), manager.pureModelCache.getIfPresent(pointer("project")));
+        manager.pureModelCache.invalidateAll();
+        Assert.assertEquals(0, manager.getPureModelCache().size());
+    }
+
+    @Test
+    public void testPrewarmCachesTheModels() throws Exception
+    {
+        CountingModelLoader loader = new CountingModelLoader();
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), new PureModelCacheConfiguration(64, 30), loader);
+
+        // a model failing to load does not prevent the others from being pre-warmed
+        manager.prewarm(Arrays.asList(pointer("project1"), pointer("failing"), pointer("project2")), null, Identity.getAnonymousIdentity()).get(1, TimeUnit.MINUTES);
+        Assert.assertEquals(2, manager.getPureModelCache().size());
+        Assert.assertEquals(1, manager.getPureModelCache().stats().loadExceptionCount());
+
+        manager.loadModel(pointer("project1"), null, Identity.getAnonymousIdentity(), null);
+        manager.loadModel(pointer("project2"), null, Identity.getAnonymousIdentity(), null);
+        Assert.assertEquals(1, loader.loads.get("project1").get());
+        Assert.assertEquals(1, loader.loads.get("project2").get());
+        Assert.assertEquals(2, manager.getPureModelCache().stats().hitCount());
+    }
+
+    @Test
+    public void testModelUsingMostOfTheBudgetIsKept() throws Exception
+    {
+        PureModelCache cache = new PureModelCache(new PureModelCacheConfiguration(1, 30));
+
+        // 256KB + 20 * 32KB = 896KB, well above a quarter of the budget of 1MB
+        Assert.assertSame(pureModel, cache.get(pointer("large"), () -> data(20), data -> pureModel));
+        Assert.assertSame(pureModel, cache.getIfPresent(pointer("large")));
+        Assert.assertEquals(896, cache.estimatedSizeKB());
+        Assert.assertEquals(0, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testPrewarmedCoordinatesAreHitByRequests() throws Exception
+    {
+        CountingModelLoader loader = new CountingModelLoader();
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), new PureModelCacheConfiguration(64, 30), loader);
+        PureModelCacheConfiguration configuration = new PureModelCacheConfiguration(64, 30);
+        configuration.prewarm = Arrays.asList("org.finos.test:project1:1.0.0");
+
+        manager.prewarm(configuration.getPrewarmPointers(), null, Identity.getAnonymousIdentity()).get(1, TimeUnit.MINUTES);
+        manager.loadModel(pointer("project1"), null, Identity.getAnonymousIdentity(), null);
+
+        Assert.assertEquals(1, loader.loads.get("project1").get());
+        Assert.assertEquals(1, manager.getPureModelCache().stats().hitCount());
+    }
+
+    private static PureModelContextPointer pointer(String artifactId)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.test";
+        sdlc.artifactId = artifactId;
+        sdlc.version = "1.0.0";
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+
+    private static PureModelContextData data(int elements)
+    {
+        return PureModelContextData.newPureModelContextData(null, null, IntStream.range(0, elements).mapToObj(i ->
+        {
+            Profile profile = new Profile();
+            profile._package = "test";
+            profile.name = "Profile" + i;
+            return profile;
+        }).collect(Collectors.toList()));
+    }
+
+    private static class CountingModelLoader implements ModelLoader
+    {
+        private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean supports(PureModelContext context)
+        {
+            return context instanceof PureModelContextPointer;
+        }
+
+        @Override
+        public PureModelContextData load(Identity identity, PureModelContext context, String clientVersion, Span parentSpan)
+        {
+            String artifactId = ((AlloySDLC) ((PureModelContextPointer) context).sdlcInfo).artifactId;
+            this.loads.computeIfAbsent(artifactId, a -> new AtomicInteger()).incrementAndGet();
+            if ("failing".equals(artifactId))
+            {
+                throw new RuntimeException("Failed to load " + artifactId);
+            }
+            return data(0);
+        }
+
+        @Override
+        public void setModelManager(ModelManager modelManager)
+        {
+        }
+
+        @Override
+        public boolean shouldCache(PureModelContext context)
+        {
+            return true;
+        }
+
+        @Override
+        public PureModelContext cacheKey(PureModelContext context, Identity identity)
+        {
+            return context;
+        }
+    }
+}
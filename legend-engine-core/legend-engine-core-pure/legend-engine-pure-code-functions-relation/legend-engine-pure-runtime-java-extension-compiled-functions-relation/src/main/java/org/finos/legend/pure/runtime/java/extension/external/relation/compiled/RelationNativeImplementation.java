@@ -20,9 +20,15 @@ import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.Function3;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.ObjectIntMaps;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.api.tuple.Pair;
@@ -180,12 +186,24 @@ public class RelationNativeImplementation
     }
 
     public static <T, V> Relation<? extends Object> asOfJoin(Relation<? extends T> rel1, Relation<? extends V> rel2, Function3 matchFunction, LambdaFunction<?> _func, Function3 onFunction, ExecutionSupport es)
+    {
+        return asOfJoin(rel1, rel2, matchFunction, _func, onFunction, null, es);
+    }
+
+    public static <T, V> Relation<? extends Object> asOfJoin(Relation<? extends T> rel1, Relation<? extends V> rel2, Function3 matchFunction, LambdaFunction<?> _func, Function3 onFunction, Object _onFunc, ExecutionSupport es)
     {
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
 
         TestTDS tds1 = RelationNativeImplementation.getTDS(rel1).sortForOuterJoin(true, _func, ps);
         TestTDS tds2 = RelationNativeImplementation.getTDS(rel2).sortForOuterJoin(false, _func, ps);
 
+        Pair<String, String> asOfColumns = TestTDS.asOfJoinColumns(_func, ps);
+        MutableList<Pair<String, String>> onColumns = onFunction == null ? Lists.mutable.empty() : equiJoinColumns(_onFunc, ps);
+        if (asOfColumns != null && (onFunction == null || canHashJoin(tds1, tds2, onColumns)) && !tds1.hasNullValues(asOfColumns.getOne()) && !tds2.hasNullValues(asOfColumns.getTwo()))
+        {
+            return new TDSContainer((TestTDSCompiled) sortMergeAsOfJoin((TestTDSCompiled) tds1, (TestTDSCompiled) tds2, matchFunction, onFunction, onColumns, es), ps);
+        }
+
         TestTDS result = tds1.join(tds2).newEmptyTDS();
         for (int i = 0; i < tds1.getRowCount(); i++)
         {
@@ -205,6 +223,48 @@ public class RelationNativeImplementation
         return new TDSContainer((TestTDSCompiled) result, ps);
     }
 
+    /**
+     * Both TDSs are sorted on the as of columns in the direction of the comparison, so the first row of the right TDS
+     * matching a row of the left TDS can only move forward as we go through the left TDS. The right rows are partitioned
+     * by the values compared for equality by the on condition (if any), each partition keeping its own cursor.
+     */
+    private static TestTDS sortMergeAsOfJoin(TestTDSCompiled tds1, TestTDSCompiled tds2, Function3 matchFunction, Function3 onFunction, MutableList<Pair<String, String>> onColumns, ExecutionSupport es)
+    {
+        MutableList<String> leftKeys = onColumns.collect(Pair::getOne);
+        MutableList<String> rightKeys = onColumns.collect(Pair::getTwo);
+        MutableMap<Object, MutableIntList> partitions = partition(tds2, rightKeys);
+        MutableObjectIntMap<Object> cursors = ObjectIntMaps.mutable.empty();
+
+        MutableIntList rows = IntLists.mutable.empty();
+        MutableIntList otherRows = IntLists.mutable.empty();
+        for (int i = 0; i < tds1.getRowCount(); i++)
+        {
+            Object key = leftKeys.isEmpty() ? null : tds1.getKey(leftKeys, i);
+            MutableIntList partition = partitions.get(key);
+            int match = -1;
+            if (partition != null)
+            {
+                RowContainer left = new RowContainer(tds1, i);
+                int cursor = cursors.getIfAbsent(key, 0);
+                while (cursor < partition.size() && !(boolean) matchFunction.value(left, new RowContainer(tds2, partition.get(cursor)), es))
+                {
+                    cursor++;
+                }
+                cursors.put(key, cursor);
+                for (int j = cursor; j < partition.size() && match == -1; j++)
+                {
+                    if (onFunction == null || (boolean) onFunction.value(left, new RowContainer(tds2, partition.get(j)), es))
+                    {
+                        match = partition.get(j);
+                    }
+                }
+            }
+            rows.add(i);
+            otherRows.add(match);
+        }
+        return tds1.join(tds2, rows, otherRows);
+    }
+
     private static TestTDS filterTwoParam(TestTDS tds, Function3 matchFunction, ExecutionSupport es)
     {
         MutableIntSet list = new IntHashSet();
@@ -368,22 +428,37 @@ public class RelationNativeImplementation
 
 
     public static <T, V> Relation<? extends Object> join(Relation<? extends T> rel1, Relation<? extends V> rel2, Enum joinKind, Function3 pureFunction, ExecutionSupport es)
+    {
+        return join(rel1, rel2, joinKind, pureFunction, null, es);
+    }
+
+    public static <T, V> Relation<? extends Object> join(Relation<? extends T> rel1, Relation<? extends V> rel2, Enum joinKind, Function3 pureFunction, Object _func, ExecutionSupport es)
     {
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
 
         TestTDSCompiled tds1 = RelationNativeImplementation.getTDS(rel1);
         TestTDSCompiled tds2 = RelationNativeImplementation.getTDS(rel2);
-        TestTDSCompiled tds = (TestTDSCompiled) tds1.join(tds2);
 
-        MutableIntSet list = new IntHashSet();
-        for (int i = 0; i < tds.getRowCount(); i++)
+        TestTDSCompiled filtered;
+        MutableList<Pair<String, String>> equiJoinColumns = equiJoinColumns(_func, ps);
+        if (canHashJoin(tds1, tds2, equiJoinColumns))
+        {
+            filtered = (TestTDSCompiled) hashJoin(tds1, tds2, pureFunction, equiJoinColumns, es);
+        }
+        else
         {
-            if (!(boolean) pureFunction.value(new RowContainer(tds, i), new RowContainer(tds, i), es))
+            TestTDSCompiled tds = (TestTDSCompiled) tds1.join(tds2);
+
+            MutableIntSet list = new IntHashSet();
+            for (int i = 0; i < tds.getRowCount(); i++)
             {
-                list.add(i);
+                if (!(boolean) pureFunction.value(new RowContainer(tds, i), new RowContainer(tds, i), es))
+                {
+                    list.add(i);
+                }
             }
+            filtered = (TestTDSCompiled) tds.drop(list);
         }
-        TestTDSCompiled filtered = (TestTDSCompiled) tds.drop(list);
         if (joinKind.getName().equals("LEFT"))
         {
             filtered = (TestTDSCompiled) tds1.compensateLeft(filtered);
@@ -392,6 +467,58 @@ public class RelationNativeImplementation
         return new TDSContainer(filtered, ps);
     }
 
+    // the function is only analysed when it is a lambda, as opposed to a reference to a function
+    private static MutableList<Pair<String, String>> equiJoinColumns(Object func, ProcessorSupport ps)
+    {
+        return func instanceof LambdaFunction ? TestTDS.equiJoinColumns((LambdaFunction<?>) func, ps) : Lists.mutable.empty();
+    }
+
+    private static boolean canHashJoin(TestTDS tds1, TestTDS tds2, MutableList<Pair<String, String>> equiJoinColumns)
+    {
+        return equiJoinColumns.notEmpty() && equiJoinColumns.allSatisfy(c -> tds1.hasComparableKeys(c.getOne(), tds2, c.getTwo()));
+    }
+
+    /**
+     * Only evaluates the join condition on the pairs of rows having the same values for the columns it compares for
+     * equality, keeping the order of the rows produced by filtering the cartesian product.
+     */
+    private static TestTDS hashJoin(TestTDSCompiled tds1, TestTDSCompiled tds2, Function3 pureFunction, MutableList<Pair<String, String>> equiJoinColumns, ExecutionSupport es)
+    {
+        MutableList<String> leftKeys = equiJoinColumns.collect(Pair::getOne);
+        MutableMap<Object, MutableIntList> partitions = partition(tds2, equiJoinColumns.collect(Pair::getTwo));
+
+        MutableIntList rows = IntLists.mutable.empty();
+        MutableIntList otherRows = IntLists.mutable.empty();
+        for (int i = 0; i < tds1.getRowCount(); i++)
+        {
+            MutableIntList partition = partitions.get(tds1.getKey(leftKeys, i));
+            if (partition != null)
+            {
+                RowContainer left = new RowContainer(tds1, i);
+                for (int j = 0; j < partition.size(); j++)
+                {
+                    // the keys only select candidates, the condition may compare more than the keys
+                    if ((boolean) pureFunction.value(left, new RowContainer(tds2, partition.get(j)), es))
+                    {
+                        rows.add(i);
+                        otherRows.add(partition.get(j));
+                    }
+                }
+            }
+        }
+        return tds1.join(tds2, rows, otherRows);
+    }
+
+    private static MutableMap<Object, MutableIntList> partition(TestTDS tds, MutableList<String> keys)
+    {
+        MutableMap<Object, MutableIntList> partitions = Maps.mutable.empty();
+        for (int i = 0; i < tds.getRowCount(); i++)
+        {
+            partitions.getIfAbsentPut(keys.isEmpty() ? null : tds.getKey(keys, i), IntLists.mutable::empty).add(i);
+        }
+        return partitions;
+    }
+
     public static <T> Relation<? extends T> sort(Relation<? extends T> rel, RichIterable<Pair<Enum, String>> collect, ExecutionSupport es)
     {
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
@@ -47,6 +47,8 @@ public class AsOfJoin extends AbstractNative implements Native
             result.append("(org.eclipse.collections.api.block.function.Function3)PureCompiledLambda.getPureFunction(");
             result.append(transformedParams.get(3));
             result.append(",es)\n");
+            result.append(", ");
+            result.append(transformedParams.get(3));
         }
         result.append(", ");
         result.append("es)");
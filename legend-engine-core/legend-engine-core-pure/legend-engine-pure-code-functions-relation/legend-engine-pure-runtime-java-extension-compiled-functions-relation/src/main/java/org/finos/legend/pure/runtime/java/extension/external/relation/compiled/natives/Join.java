@@ -40,7 +40,9 @@ public class Join extends AbstractNative implements Native
         result.append(", ");
         result.append("(org.eclipse.collections.api.block.function.Function3)PureCompiledLambda.getPureFunction(");
         result.append(transformedParams.get(3));
-        result.append(",es), es)\n");
+        result.append(",es), ");
+        result.append(transformedParams.get(3));
+        result.append(", es)\n");
         return result.toString();
     }
 }
@@ -23,6 +23,7 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.IntList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.primitive.IntSet;
@@ -33,6 +34,7 @@ import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.Column;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.FunctionType;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.SimpleFunctionExpression;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
@@ -322,6 +324,119 @@ public abstract class TestTDS
         return res;
     }
 
+    /**
+     * Joins the given pairs of rows, a negative row index producing nulls for the columns of that side
+     */
+    public TestTDS join(TestTDS otherTDS, IntList rows, IntList otherRows)
+    {
+        MutableMap<String, DataType> columnTypes = Maps.mutable.empty();
+        columnTypes.putAll(this.columnType);
+        columnTypes.putAll(otherTDS.columnType);
+        MutableList<String> columnOrdered = Lists.mutable.empty();
+        columnOrdered.addAll(this.columnsOrdered);
+        columnOrdered.addAll(otherTDS.columnsOrdered);
+        columnOrdered = columnOrdered.distinct();
+        TestTDS res = newTDS(columnOrdered, columnTypes, rows.size());
+
+        for (int i = 0; i < rows.size(); i++)
+        {
+            int row = rows.get(i);
+            int otherRow = otherRows.get(i);
+            if (row >= 0)
+            {
+                for (String column : this.dataByColumnName.keysView())
+                {
+                    res.setValue(column, i, this, row);
+                }
+            }
+            if (otherRow >= 0)
+            {
+                for (String column : otherTDS.dataByColumnName.keysView())
+                {
+                    res.setValue(column, i, otherTDS, otherRow);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return a value which is equal for two rows (possibly of different TDSs) when the values of the columns are equal
+     */
+    public Object getKey(ListIterable<String> columns, int row)
+    {
+        if (columns.size() == 1)
+        {
+            return getKey(columns.getFirst(), row);
+        }
+        MutableList<Object> key = Lists.mutable.ofInitialCapacity(columns.size());
+        columns.forEach(c -> key.add(getKey(c, row)));
+        return key;
+    }
+
+    private Object getKey(String columnName, int row)
+    {
+        Object dataAsObject = dataByColumnName.get(columnName);
+        boolean[] isNull = (boolean[]) isNullByColumn.get(columnName);
+        switch (columnType.get(columnName))
+        {
+            case INT:
+                return isNull[row] ? null : ((int[]) dataAsObject)[row];
+            case CHAR:
+                return isNull[row] ? null : String.valueOf(((char[]) dataAsObject)[row]);
+            case STRING:
+                return ((String[]) dataAsObject)[row];
+            case FLOAT:
+            case DOUBLE:
+            {
+                double value = ((double[]) dataAsObject)[row];
+                // -0.0 and 0.0 are equal but have different hash codes
+                return isNull[row] ? null : (value == 0.0d ? 0.0d : value);
+            }
+            case DATETIME_AS_LONG:
+                return ((PureDate[]) dataAsObject)[row];
+            default:
+                throw new RuntimeException("ERROR " + columnType.get(columnName) + " not supported yet!");
+        }
+    }
+
+    /**
+     * @return true if the keys of the two columns (see {@link #getKey(ListIterable, int)}) can be compared
+     */
+    public boolean hasComparableKeys(String columnName, TestTDS otherTDS, String otherColumnName)
+    {
+        DataType type = this.columnType.get(columnName);
+        DataType otherType = otherTDS.columnType.get(otherColumnName);
+        return type != null && otherType != null && keyType(type) == keyType(otherType);
+    }
+
+    private static DataType keyType(DataType type)
+    {
+        switch (type)
+        {
+            case CHAR:
+                return DataType.STRING;
+            case FLOAT:
+                return DataType.DOUBLE;
+            default:
+                return type;
+        }
+    }
+
+    public boolean hasNullValues(String columnName)
+    {
+        Object dataAsObject = dataByColumnName.get(columnName);
+        boolean[] isNull = (boolean[]) isNullByColumn.get(columnName);
+        for (int i = 0; i < rowCount; i++)
+        {
+            if (isNull == null ? Array.get(dataAsObject, i) == null : isNull[i])
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void setValue(String columnName, int row, TestTDS srcTDS, int srcRow)
     {
         Object dataAsObject = dataByColumnName.get(columnName);
@@ -1572,4 +1687,97 @@ public abstract class TestTDS
         return this;
     }
 
+    /**
+     * @return the pairs of (left, right) columns compared for equality by a join condition made of a conjunction of
+     * (possibly additional) predicates, or an empty list if there is none
+     */
+    public static MutableList<Pair<String, String>> equiJoinColumns(LambdaFunction<?> lambdaFunction, ProcessorSupport processorSupport)
+    {
+        MutableList<Pair<String, String>> result = Lists.mutable.empty();
+        if (lambdaFunction != null && lambdaFunction._expressionSequence().size() == 1)
+        {
+            FunctionType fType = (FunctionType) Function.computeFunctionType(lambdaFunction, processorSupport);
+            MutableList<String> signatureParameters = fType._parameters().collect(VariableExpressionAccessor::_name).toList();
+            collectEquiJoinColumns(lambdaFunction._expressionSequence().getFirst(), signatureParameters, result);
+        }
+        return result;
+    }
+
+    private static void collectEquiJoinColumns(ValueSpecification vs, MutableList<String> signatureParameters, MutableList<Pair<String, String>> result)
+    {
+        if (vs instanceof SimpleFunctionExpression)
+        {
+            SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+            String truncatedFuncName = truncatedFunctionName(fe);
+            MutableList<? extends ValueSpecification> parameters = fe._parametersValues().toList();
+            if ("and".equals(truncatedFuncName))
+            {
+                parameters.forEach(p -> collectEquiJoinColumns(p, signatureParameters, result));
+            }
+            else if (("equal".equals(truncatedFuncName) || "eq".equals(truncatedFuncName)) && parameters.size() == 2)
+            {
+                Pair<String, String> first = columnAccess(parameters.get(0));
+                Pair<String, String> second = columnAccess(parameters.get(1));
+                if (first != null && second != null)
+                {
+                    if (first.getOne().equals(signatureParameters.get(0)) && second.getOne().equals(signatureParameters.get(1)))
+                    {
+                        result.add(Tuples.pair(first.getTwo(), second.getTwo()));
+                    }
+                    else if (first.getOne().equals(signatureParameters.get(1)) && second.getOne().equals(signatureParameters.get(0)))
+                    {
+                        result.add(Tuples.pair(second.getTwo(), first.getTwo()));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the (left, right) columns of an as of join condition comparing a column of the left relation (first) to a
+     * column of the right relation, or null if the condition has another shape
+     */
+    public static Pair<String, String> asOfJoinColumns(LambdaFunction<?> lambdaFunction, ProcessorSupport processorSupport)
+    {
+        if (lambdaFunction == null || lambdaFunction._expressionSequence().size() != 1)
+        {
+            return null;
+        }
+        ValueSpecification vs = lambdaFunction._expressionSequence().getFirst();
+        if (vs instanceof SimpleFunctionExpression && Sets.mutable.with("lessThan", "greaterThan", "lessThanEquals", "greaterThanEquals").contains(truncatedFunctionName((SimpleFunctionExpression) vs)))
+        {
+            MutableList<? extends ValueSpecification> parameters = ((SimpleFunctionExpression) vs)._parametersValues().toList();
+            Pair<String, String> first = columnAccess(parameters.get(0));
+            Pair<String, String> second = columnAccess(parameters.get(1));
+            FunctionType fType = (FunctionType) Function.computeFunctionType(lambdaFunction, processorSupport);
+            MutableList<String> signatureParameters = fType._parameters().collect(VariableExpressionAccessor::_name).toList();
+            if (first != null && second != null && first.getOne().equals(signatureParameters.get(0)) && second.getOne().equals(signatureParameters.get(1)))
+            {
+                return Tuples.pair(first.getTwo(), second.getTwo());
+            }
+        }
+        return null;
+    }
+
+    private static String truncatedFunctionName(SimpleFunctionExpression fe)
+    {
+        String funcName = fe._func().getName();
+        int index = funcName.indexOf("_");
+        return index == -1 ? funcName : funcName.substring(0, index);
+    }
+
+    // (variable, column) for expressions like $x.column
+    private static Pair<String, String> columnAccess(ValueSpecification vs)
+    {
+        if (vs instanceof SimpleFunctionExpression && ((SimpleFunctionExpression) vs)._func() instanceof Column)
+        {
+            SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+            ValueSpecification owner = fe._parametersValues().getFirst();
+            if (owner instanceof VariableExpression)
+            {
+                return Tuples.pair(((VariableExpression) owner)._name(), ((Column<?, ?>) fe._func())._name());
+            }
+        }
+        return null;
+    }
 }
@@ -15,6 +15,7 @@
 package org.finos.legend.pure.runtime.java.extension.relation;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
@@ -426,4 +427,32 @@ public class TestTestTDS
                 "1, NULL, 1\n" +
                 "1, 2000-10-31T06:33:00Z, 1", res.toString());
     }
-}
\ No newline at end of file
+
+    @org.junit.Test
+    public void testJoinRows()
+    {
+        TestTDS left = new TestTDSImpl("id, name\n" +
+                "1, George\n" +
+                "2, Pierre\n" +
+                "3, Sachin");
+        TestTDS right = new TestTDSImpl("id2, col\n" +
+                "3, More Sachin\n" +
+                "1, More George 1\n" +
+                "1, More George 2");
+
+        Assert.assertTrue(left.hasComparableKeys("id", right, "id2"));
+        Assert.assertFalse(left.hasComparableKeys("name", right, "id2"));
+        Assert.assertEquals(left.getKey(Lists.mutable.with("id"), 0), right.getKey(Lists.mutable.with("id2"), 1));
+        Assert.assertNotEquals(left.getKey(Lists.mutable.with("id"), 1), right.getKey(Lists.mutable.with("id2"), 1));
+        Assert.assertEquals(left.getKey(Lists.mutable.with("id", "name"), 0), left.getKey(Lists.mutable.with("id", "name"), 0));
+
+        TestTDS res = left.join(right, IntLists.mutable.with(0, 0, 1, 2), IntLists.mutable.with(1, 2, -1, 0));
+        Assert.assertEquals("id, name, id2, col\n" +
+                "1, George, 1, More George 1\n" +
+                "1, George, 1, More George 2\n" +
+                "2, Pierre, NULL, NULL\n" +
+                "3, Sachin, 3, More Sachin", res.toString());
+        Assert.assertTrue(res.hasNullValues("id2"));
+        Assert.assertFalse(res.hasNullValues("id"));
+    }
+}
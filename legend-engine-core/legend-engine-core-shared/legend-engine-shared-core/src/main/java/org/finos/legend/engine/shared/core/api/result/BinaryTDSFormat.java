@@ -0,0 +1,221 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.api.result;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact row-binary encoding of a TDS result, used as a cheaper alternative to the default JSON serialization when
+ * both ends of the exchange are Legend components.
+ * <p>
+ * Layout: the {@link #MAGIC} bytes, the column count, then for each column its name and (possibly absent) type,
+ * followed by one {@link #ROW} marker per row with its tagged values, and a final {@link #END} marker.
+ * Strings are written as length-prefixed UTF-8, so values are not limited to the 64K of {@link DataOutputStream#writeUTF(String)}.
+ * Decimals are written exactly, as their scale and length-prefixed unscaled value, and integers beyond the range of a
+ * long as their length-prefixed two's-complement bytes.
+ */
+public class BinaryTDSFormat
+{
+    public static final byte[] MAGIC = {'L', 'T', 'D', 'S', 1};
+
+    public static final byte END = 0;
+    public static final byte ROW = 1;
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte STRING = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte BIG_INTEGER = 6;
+
+    public static boolean isBinaryTDS(InputStream inputStream) throws IOException
+    {
+        if (!inputStream.markSupported())
+        {
+            throw new IllegalArgumentException("Input stream must support mark/reset to detect the result format");
+        }
+        inputStream.mark(MAGIC.length);
+        try
+        {
+            byte[] header = new byte[MAGIC.length];
+            int read = 0;
+            while (read < header.length)
+            {
+                int count = inputStream.read(header, read, header.length - read);
+                if (count < 0)
+                {
+                    return false;
+                }
+                read += count;
+            }
+            return Arrays.equals(MAGIC, header);
+        }
+        finally
+        {
+            inputStream.reset();
+        }
+    }
+
+    public static void writeHeader(DataOutputStream out, List<String> columnNames, List<String> columnTypes) throws IOException
+    {
+        out.write(MAGIC);
+        out.writeInt(columnNames.size());
+        for (int i = 0; i < columnNames.size(); i++)
+        {
+            writeString(out, columnNames.get(i));
+            String type = columnTypes == null ? null : columnTypes.get(i);
+            out.writeBoolean(type != null);
+            if (type != null)
+            {
+                writeString(out, type);
+            }
+        }
+    }
+
+    public static void writeValue(DataOutputStream out, Object value) throws IOException
+    {
+        if (value == null)
+        {
+            out.writeByte(NULL);
+        }
+        else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            out.writeByte(LONG);
+            out.writeLong(((Number) value).longValue());
+        }
+        else if (value instanceof BigInteger)
+        {
+            BigInteger bigInteger = (BigInteger) value;
+            if (bigInteger.bitLength() < Long.SIZE)
+            {
+                out.writeByte(LONG);
+                out.writeLong(bigInteger.longValue());
+            }
+            else
+            {
+                out.writeByte(BIG_INTEGER);
+                writeBytes(out, bigInteger.toByteArray());
+            }
+        }
+        else if (value instanceof BigDecimal)
+        {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            out.writeByte(DECIMAL);
+            out.writeInt(bigDecimal.scale());
+            writeBytes(out, bigDecimal.unscaledValue().toByteArray());
+        }
+        else if (value instanceof Double || value instanceof Float)
+        {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue))
+            {
+                // consistent with the JSON serialization, which has no representation for these
+                out.writeByte(NULL);
+            }
+            else
+            {
+                out.writeByte(DOUBLE);
+                out.writeDouble(doubleValue);
+            }
+        }
+        else if (value instanceof Boolean)
+        {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else
+        {
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    public static String[][] readHeader(DataInputStream in) throws IOException
+    {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(MAGIC, magic))
+        {
+            throw new IOException("Not a binary TDS stream");
+        }
+        int columnCount = in.readInt();
+        String[][] columns = new String[columnCount][];
+        for (int i = 0; i < columnCount; i++)
+        {
+            String name = readString(in);
+            String type = in.readBoolean() ? readString(in) : null;
+            columns[i] = new String[]{name, type};
+        }
+        return columns;
+    }
+
+    public static Object readValue(DataInputStream in) throws IOException
+    {
+        byte tag = in.readByte();
+        switch (tag)
+        {
+            case NULL:
+                return null;
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            default:
+                throw new IOException("Unknown binary TDS value tag: " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException
+    {
+        writeBytes(out, value.getBytes(UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException
+    {
+        return new String(readBytes(in), UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException
+    {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException
+    {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -23,8 +23,6 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Summary;
-import org.eclipse.collections.api.map.MutableMap;
-import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionCategory;
@@ -36,13 +34,16 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class MetricsHandler
 {
     public static final String METRIC_PREFIX = "alloy_";
     private static final String[] empty = new String[]{};
-    static MutableMap<String, Summary> serviceMetrics = Maps.mutable.empty();
-    static MutableMap<String, Gauge> gauges = Maps.mutable.empty();
+    // collectors are registered once per name, observations then going straight to the (thread safe) collectors without locking
+    static final ConcurrentMap<String, Summary> serviceMetrics = new ConcurrentHashMap<>();
+    static final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
     static final Gauge allExecutions = Gauge.build().name("alloy_executions").help("Execution gauge metric ").register();
 
     // ----------------------------------------- NEW IMPLEMENTATION -----------------------------------------
@@ -70,6 +71,62 @@ public class MetricsHandler
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
+    private static final Counter JAVA_BYTECODE_CACHE_REQUESTS = Counter.build("legend_engine_java_bytecode_cache_requests", "Count compiled bytecode cache lookups by result (hit/miss)").labelNames("result").register(getMetricsRegistry());
+    private static final Histogram JAVA_COMPILATION_LATENCY = Histogram.build().name("legend_engine_java_compilation_latency")
+            .help("Measure the time taken to compile the Java classes of an execution plan")
+            .buckets(.01, .05, .1, .2, .5, 1, 2, 5, 10)
+            .register(getMetricsRegistry());
+    private static final Counter PURE_MODEL_CACHE_REQUESTS = Counter.build("legend_engine_pure_model_cache_requests", "Count PureModel cache lookups by result (hit/miss)").labelNames("result").register(getMetricsRegistry());
+    private static final Counter PURE_MODEL_CACHE_EVICTIONS = Counter.build("legend_engine_pure_model_cache_evictions", "Count PureModel cache evictions by cause").labelNames("cause").register(getMetricsRegistry());
+    private static final Histogram PURE_MODEL_COMPILATION_LATENCY = Histogram.build().name("legend_engine_pure_model_compilation_latency")
+            .help("Measure the time taken to load and compile a cacheable PureModel")
+            .buckets(.1, .5, 1, 2, 5, 10, 20, 60, 120)
+            .register(getMetricsRegistry());
+    private static final Counter RELATIONAL_ROWS_FETCHED = Counter.build("legend_engine_relational_rows_fetched", "Count rows streamed from relational result sets by database type").labelNames("databaseType").register(getMetricsRegistry());
+    private static final Histogram RELATIONAL_FETCH_LATENCY = Histogram.build().name("legend_engine_relational_fetch_latency")
+            .help("Measure the average time taken by a JDBC fetch round trip while streaming a relational result")
+            .labelNames("databaseType")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5)
+            .register(getMetricsRegistry());
+    private static final Gauge CONCURRENT_EXECUTION_QUEUE_DEPTH = Gauge.build("legend_engine_concurrent_execution_queue_depth", "Measure how many executions are waiting for threads of a concurrent execution node pool").labelNames("pool").register(getMetricsRegistry());
+    private static final Histogram CONCURRENT_EXECUTION_WAIT = Histogram.build().name("legend_engine_concurrent_execution_wait")
+            .help("Measure the time executions wait for threads of a concurrent execution node pool")
+            .labelNames("pool")
+            .buckets(.001, .01, .05, .1, .5, 1, 5)
+            .register(getMetricsRegistry());
+    private static final Histogram FREEMARKER_RENDER_DURATION = Histogram.build().name("legend_engine_freemarker_render_duration")
+            .help("Measure the time spent rendering execution plan FreeMarker templates")
+            .buckets(.0001, .001, .005, .01, .05, .1, .5)
+            .register(getMetricsRegistry());
+    private static final Counter FREEMARKER_TEMPLATE_CACHE_MISSES = Counter.build("legend_engine_freemarker_template_cache_misses", "Count the FreeMarker templates parsed because they were not cached").register(getMetricsRegistry());
+    private static final Gauge GRAPH_FETCH_LIVE_BATCH_BYTES = Gauge.build("legend_engine_graph_fetch_live_batch_bytes", "Measure the memory held by the graph fetch batches being processed").register(getMetricsRegistry());
+    private static final Gauge GRAPH_FETCH_ACTIVE_BATCHES = Gauge.build("legend_engine_graph_fetch_active_batches", "Measure how many adaptively batched graph fetches are running").register(getMetricsRegistry());
+    private static final Histogram GRAPH_FETCH_BACKPRESSURE_WAIT = Histogram.build().name("legend_engine_graph_fetch_backpressure_wait")
+            .help("Measure the time graph fetch batches wait for memory to be released")
+            .buckets(.001, .01, .05, .1, .5, 1, 5)
+            .register(getMetricsRegistry());
+    private static final Histogram SERVICE_STORE_REQUEST_LATENCY = Histogram.build().name("legend_engine_service_store_request_latency")
+            .help("Measure the time taken by service store HTTP requests to return their response headers")
+            .labelNames("route")
+            .buckets(.005, .01, .05, .1, .2, .5, 1, 2, 5, 10)
+            .register(getMetricsRegistry());
+    private static final Gauge SERVICE_STORE_LEASED_CONNECTIONS = Gauge.build("legend_engine_service_store_leased_connections", "Measure the pooled service store connections in use").labelNames("route").register(getMetricsRegistry());
+    private static final Gauge SERVICE_STORE_AVAILABLE_CONNECTIONS = Gauge.build("legend_engine_service_store_available_connections", "Measure the idle pooled service store connections").labelNames("route").register(getMetricsRegistry());
+    private static final Gauge SERVICE_STORE_PENDING_CONNECTIONS = Gauge.build("legend_engine_service_store_pending_connections", "Measure the service store requests waiting for a pooled connection").labelNames("route").register(getMetricsRegistry());
+    private static final Counter RELATIONAL_RESULT_CACHE_REQUESTS = Counter.build("legend_engine_relational_result_cache_requests", "Count relational result cache lookups by tier and result (hit/miss)").labelNames("tier", "result").register(getMetricsRegistry());
+    private static final Gauge RELATIONAL_RESULT_CACHE_BYTES = Gauge.build("legend_engine_relational_result_cache_bytes", "Measure the bytes of relational results cached by tier").labelNames("tier").register(getMetricsRegistry());
+    private static final Counter M2M_TRANSFORMED_OBJECTS = Counter.build("legend_engine_m2m_transformed_objects", "Count source objects transformed by in-memory M2M graph fetches by mode (sequential/parallel)").labelNames("mode").register(getMetricsRegistry());
+    private static final Histogram M2M_TRANSFORM_THROUGHPUT = Histogram.build().name("legend_engine_m2m_transform_throughput")
+            .help("Measure the source objects transformed per second by in-memory M2M graph fetch batches")
+            .labelNames("mode")
+            .buckets(100, 1000, 5000, 10000, 50000, 100000, 500000, 1000000)
+            .register(getMetricsRegistry());
+    private static final Counter CREDENTIAL_VAULT_CACHE_REQUESTS = Counter.build("legend_engine_credential_vault_cache_requests", "Count cached credential vault lookups by vault and result (hit/miss)").labelNames("vault", "result").register(getMetricsRegistry());
+    private static final Histogram CREDENTIAL_VAULT_LOAD_LATENCY = Histogram.build().name("legend_engine_credential_vault_load_latency")
+            .help("Measure the time taken to load secrets from credential vaults, on a cache miss (load) or ahead of expiry (refresh)")
+            .labelNames("vault", "kind")
+            .buckets(.005, .01, .05, .1, .2, .5, 1, 2, 5, 10)
+            .register(getMetricsRegistry());
 
     public static CollectorRegistry getMetricsRegistry()
     {
@@ -162,6 +219,128 @@ public class MetricsHandler
         TEMP_FILE_COUNT.dec();
     }
 
+    public static void incrementJavaBytecodeCacheHit()
+    {
+        JAVA_BYTECODE_CACHE_REQUESTS.labels("hit").inc();
+    }
+
+    public static void incrementJavaBytecodeCacheMiss()
+    {
+        JAVA_BYTECODE_CACHE_REQUESTS.labels("miss").inc();
+    }
+
+    public static void observeJavaCompilation(long start, long end)
+    {
+        JAVA_COMPILATION_LATENCY.observe((end - start) / 1000F);
+    }
+
+    public static void incrementPureModelCacheHit()
+    {
+        PURE_MODEL_CACHE_REQUESTS.labels("hit").inc();
+    }
+
+    public static void incrementPureModelCacheMiss()
+    {
+        PURE_MODEL_CACHE_REQUESTS.labels("miss").inc();
+    }
+
+    public static void incrementPureModelCacheEviction(String cause)
+    {
+        PURE_MODEL_CACHE_EVICTIONS.labels(returnLabelOrUnknown(cause)).inc();
+    }
+
+    public static void observePureModelCompilation(long start, long end)
+    {
+        PURE_MODEL_COMPILATION_LATENCY.observe((end - start) / 1000F);
+    }
+
+    public static void observeRelationalFetch(String databaseType, long rows, long fetches, long start, long end)
+    {
+        String label = returnLabelOrUnknown(databaseType);
+        RELATIONAL_ROWS_FETCHED.labels(label).inc(rows);
+        if (fetches > 0)
+        {
+            RELATIONAL_FETCH_LATENCY.labels(label).observe((end - start) / 1000F / fetches);
+        }
+    }
+
+    public static void setConcurrentExecutionQueueDepth(String pool, int depth)
+    {
+        CONCURRENT_EXECUTION_QUEUE_DEPTH.labels(returnLabelOrUnknown(pool)).set(depth);
+    }
+
+    public static void observeConcurrentExecutionWait(String pool, long start, long end)
+    {
+        CONCURRENT_EXECUTION_WAIT.labels(returnLabelOrUnknown(pool)).observe((end - start) / 1000F);
+    }
+
+    public static void setGraphFetchLiveBatchBytes(long bytes)
+    {
+        GRAPH_FETCH_LIVE_BATCH_BYTES.set(bytes);
+    }
+
+    public static void setGraphFetchActiveBatches(int count)
+    {
+        GRAPH_FETCH_ACTIVE_BATCHES.set(count);
+    }
+
+    public static void observeGraphFetchBackpressureWait(long start, long end)
+    {
+        GRAPH_FETCH_BACKPRESSURE_WAIT.observe((end - start) / 1000F);
+    }
+
+    public static void observeFreeMarkerRender(long startNanos, long endNanos)
+    {
+        FREEMARKER_RENDER_DURATION.observe((endNanos - startNanos) / 1_000_000_000D);
+    }
+
+    public static void incrementFreeMarkerTemplateCacheMisses()
+    {
+        FREEMARKER_TEMPLATE_CACHE_MISSES.inc();
+    }
+
+    public static void observeServiceStoreRequest(String route, long start, long end)
+    {
+        SERVICE_STORE_REQUEST_LATENCY.labels(returnLabelOrUnknown(route)).observe((end - start) / 1000F);
+    }
+
+    public static void setServiceStoreConnectionPoolStats(String route, int leased, int available, int pending)
+    {
+        String label = returnLabelOrUnknown(route);
+        SERVICE_STORE_LEASED_CONNECTIONS.labels(label).set(leased);
+        SERVICE_STORE_AVAILABLE_CONNECTIONS.labels(label).set(available);
+        SERVICE_STORE_PENDING_CONNECTIONS.labels(label).set(pending);
+    }
+
+    public static void incrementRelationalResultCacheRequests(String tier, boolean hit)
+    {
+        RELATIONAL_RESULT_CACHE_REQUESTS.labels(tier, hit ? "hit" : "miss").inc();
+    }
+
+    public static void setRelationalResultCacheBytes(String tier, long bytes)
+    {
+        RELATIONAL_RESULT_CACHE_BYTES.labels(tier).set(bytes);
+    }
+
+    public static void observeM2MTransform(String mode, long objects, long start, long end)
+    {
+        M2M_TRANSFORMED_OBJECTS.labels(mode).inc(objects);
+        if (objects > 0 && end > start)
+        {
+            M2M_TRANSFORM_THROUGHPUT.labels(mode).observe(objects * 1000D / (end - start));
+        }
+    }
+
+    public static void incrementCredentialVaultCacheRequests(String vault, boolean hit)
+    {
+        CREDENTIAL_VAULT_CACHE_REQUESTS.labels(returnLabelOrUnknown(vault), hit ? "hit" : "miss").inc();
+    }
+
+    public static void observeCredentialVaultLoad(String vault, boolean refresh, long start, long end)
+    {
+        CREDENTIAL_VAULT_LOAD_LATENCY.labels(returnLabelOrUnknown(vault), refresh ? "refresh" : "load").observe((end - start) / 1000F);
+    }
+
     private static String returnLabelOrUnknown(String label)
     {
         return label != null ? label : "unknown";
@@ -177,13 +356,9 @@ public class MetricsHandler
             if (m.isAnnotationPresent(Prometheus.class))
             {
                 Prometheus val = m.getAnnotation(Prometheus.class);
-                if (val.type() == Prometheus.Type.SUMMARY && (serviceMetrics.get(val.name()) == null))
+                if (val.type() == Prometheus.Type.SUMMARY)
                 {
-                    Summary g = Summary.build().name(generateMetricName(val.name(), false))
-                            .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                            .help(val.doc())
-                            .register();
-                    serviceMetrics.put(val.name(), g);
+                    getOrRegisterSummary(val.name(), val.doc());
                 }
             }
         }
@@ -196,66 +371,55 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observe(String name, long startTime, long endTime)
+    public static void observe(String name, long startTime, long endTime)
     {
-        if (serviceMetrics.get(name) == null)
-        {
-            Summary g = Summary.build().name(generateMetricName(name, false))
-                    .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
-                    .help(name + " duration metrics")
-                    .register();
-            serviceMetrics.put(name, g);
-            g.observe((endTime - startTime) / 1000F);
-        }
-        else
-        {
-            serviceMetrics.get(name).observe((endTime - startTime) / 1000F);
-        }
+        getOrRegisterSummary(name, name + " duration metrics").observe((endTime - startTime) / 1000F);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name)
+    public static void observeCount(String name)
     {
         observeCount(name, empty, empty, false);
     }
 
     @Deprecated
-    public static synchronized void decrementCount(String name)
+    public static void decrementCount(String name)
     {
         observeCount(name, empty, empty, true);
     }
 
     @Deprecated
-    public static synchronized void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
+    public static void observeCount(String name, String[] labelNames, String[] labelValues, boolean decrement)
     {
-        Gauge g;
-        if (gauges.get(name) == null)
+        Gauge g = gauges.get(name);
+        if (g == null)
         {
-            g = Gauge.build().name(generateMetricName(name, false))
-                    .help(name + " gauge metric")
-                    .labelNames(labelNames).register();
-            gauges.put(name, g);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g = gauges.computeIfAbsent(name, n -> Gauge.build().name(generateMetricName(n, false))
+                    .help(n + " gauge metric")
+                    .labelNames(labelNames).register());
+        }
+        if (decrement)
+        {
+            g.labels(labelValues).dec();
         }
         else
         {
-            g = gauges.get(name);
-            if (decrement)
-            {
-                g.labels(labelValues).dec();
-            }
-            else
-            {
-                g.labels(labelValues).inc();
-            }
+            g.labels(labelValues).inc();
+        }
+    }
+
+    private static Summary getOrRegisterSummary(String name, String help)
+    {
+        // the lookup is done before computeIfAbsent, which locks even when the summary is present
+        Summary summary = serviceMetrics.get(name);
+        if (summary == null)
+        {
+            summary = serviceMetrics.computeIfAbsent(name, n -> Summary.build().name(generateMetricName(n, false))
+                    .quantile(0.5, 0.05).quantile(0.9, 0.01).quantile(0.99, 0.001)
+                    .help(help)
+                    .register());
         }
+        return summary;
     }
 
     // -------------------------------------- ERROR HANDLING -------------------------------------
@@ -279,7 +443,7 @@ public class MetricsHandler
     /**
      * Flag to turn exception categorisation on and off.
      */
-    private static boolean categorisationEnabled = true;
+    private static volatile boolean categorisationEnabled = true;
 
     /**
      * Types of exception matching priorities that can be performed on an incoming exceptions.
@@ -298,7 +462,7 @@ public class MetricsHandler
      * @param exception the non-null exception to be analysed that has occurred in execution.
      * @param servicePath the name of the service whose execution invoked the error.
      */
-    public static synchronized void observeError(Enum origin, Exception exception, String servicePath)
+    public static void observeError(Enum origin, Exception exception, String servicePath)
     {
         try (Scope scope = GlobalTracer.get().buildSpan("Error Categorisation").startActive(true))
         {
@@ -324,7 +488,7 @@ public class MetricsHandler
      * @param exception the original exception to be analysed that has occurred in execution.
      * @return a pair of values corresponding to the exceptionLabel and category labels in the Counter.
      */
-    private static synchronized ExceptionLabelValues getCounterLabelValues(Throwable exception)
+    private static ExceptionLabelValues getCounterLabelValues(Throwable exception)
     {
         int categorisationDepthLimit = 5;
         ExceptionLabelValues exceptionLabelValues = new ExceptionLabelValues(getExceptionClass(exception), ExceptionCategory.UNKNOWN_ERROR);
@@ -357,7 +521,7 @@ public class MetricsHandler
      * @param exception is the exception whose class to obtain
      * @return error counter label exceptionClass' value.
      */
-    private static synchronized String getExceptionClass(Throwable exception)
+    private static String getExceptionClass(Throwable exception)
     {
         String prefix = exception instanceof EngineException ? toCamelCase(((EngineException) exception).getErrorType()) : "";
         return prefix + exception.getClass().getSimpleName();
@@ -368,7 +532,7 @@ public class MetricsHandler
      * @param exception is the exception to be checked
      * @return true if the exception has an associated valid category and false otherwise.
      */
-    private static synchronized boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
+    private static boolean isEngineExceptionWithValidExceptionCategory(Throwable exception)
     {
         if (exception instanceof EngineException)
         {
@@ -383,7 +547,7 @@ public class MetricsHandler
      * @param exception is the exception that occurred in the engine.
      * @return Category belonging to the exception.
      */
-    private static synchronized ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
+    private static ExceptionCategory matchExceptionToExceptionDataFile(Throwable exception)
     {
         for (MatchingPriority method : MatchingPriority.values())
         {
@@ -402,7 +566,7 @@ public class MetricsHandler
      * Find and read JSON file with outline of exceptions to be used in categorizing incoming exceptions
      * @return List of objects corresponding to the exception categories with their respective data
      */
-    private static synchronized List<ExceptionCategoryData> readExceptionData()
+    private static List<ExceptionCategoryData> readExceptionData()
     {
         List<ExceptionCategoryData> categories;
         try (InputStream inputStream = MetricsHandler.class.getResourceAsStream(EXCEPTION_DATA_PATH))
@@ -424,7 +588,7 @@ public class MetricsHandler
      * Method to turn exception categorisation on and off
      * @param flag is true to set categorisation on and false otherwise.
      */
-    public static synchronized void setCategorisationEnabled(boolean flag)
+    public static void setCategorisationEnabled(boolean flag)
     {
         categorisationEnabled = flag;
         LOGGER.info("Exception categorisation in error handling has been set to {}", flag);
@@ -530,17 +694,17 @@ public class MetricsHandler
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name)
+    public static void observeErrorCount(String name)
     {
     }
 
     @Deprecated
-    public static synchronized void observeErrorCount(String name, String[] labelNames, String[] labelValues)
+    public static void observeErrorCount(String name, String[] labelNames, String[] labelValues)
     {
     }
 
     @Deprecated
-    public static synchronized void observeError(String name)
+    public static void observeError(String name)
     {
         EXCEPTION_ERROR_COUNTER.labels(name, toCamelCase(ExceptionCategory.UNKNOWN_ERROR), toCamelCase(LoggingEventType.CATCH_ALL), "N/A").inc();
     }
@@ -0,0 +1,72 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.operational.prometheus;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestMetricsHandlerConcurrency
+{
+    private static final int THREADS = 32;
+    private static final int OBSERVATIONS_PER_THREAD = 1_000;
+
+    @Test
+    public void testConcurrentObservationsOfNewMetricsAreAllRecorded() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    start.await();
+                    for (int j = 0; j < OBSERVATIONS_PER_THREAD; j++)
+                    {
+                        MetricsHandler.observe("test concurrent observe", 0, 10);
+                        MetricsHandler.observeCount("test concurrent count");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                // fails if a metric was registered twice
+                future.get(1, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        CollectorRegistry registry = CollectorRegistry.defaultRegistry;
+        assertEquals(THREADS * OBSERVATIONS_PER_THREAD, registry.getSampleValue("alloy_test_concurrent_observe_count"), 0d);
+        assertEquals(THREADS * OBSERVATIONS_PER_THREAD, registry.getSampleValue("alloy_test_concurrent_count"), 0d);
+    }
+}
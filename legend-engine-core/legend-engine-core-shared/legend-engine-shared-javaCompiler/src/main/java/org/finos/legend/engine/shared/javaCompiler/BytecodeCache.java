@@ -0,0 +1,315 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Content-addressed cache of compiled bytecode, so that identical sources compiled against the same classpath are
+ * only compiled once.
+ * <p>
+ * Keys are computed by {@link #computeKey} from the sources being compiled, the bytecode already loaded in the
+ * compiler (and its parents), whose digest is kept per class loader until more classes are compiled or loaded, and a
+ * fingerprint of the classpath. Entries are kept in memory, evicting the least
+ * recently used ones beyond the configured size, and are optionally written to a directory so that they survive
+ * restarts. The directory is never pruned.
+ */
+public class BytecodeCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(BytecodeCache.class);
+    private static final Map<ClassLoader, String> CLASSPATH_FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+    // Digests of the bytecode loaded in each compiler, by its class loader, so that it is not hashed again on every execution
+    private static final Map<ClassLoader, LoadedClassesDigest> LOADED_CLASSES_DIGESTS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String FILE_EXTENSION = ".classes";
+
+    private final long maximumSizeBytes;
+    private final Path directory;
+    private final LinkedHashMap<String, MapIterable<String, String>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes = 0;
+
+    public BytecodeCache(long maximumSizeBytes)
+    {
+        this(maximumSizeBytes, null);
+    }
+
+    public BytecodeCache(long maximumSizeBytes, Path directory)
+    {
+        this.maximumSizeBytes = maximumSizeBytes;
+        this.directory = directory;
+        if (directory != null)
+        {
+            try
+            {
+                Files.createDirectories(directory);
+            }
+            catch (IOException e)
+            {
+                throw new IllegalArgumentException("Unable to create bytecode cache directory " + directory, e);
+            }
+        }
+    }
+
+    public String computeKey(EngineJavaCompiler compiler, Iterable<? extends StringJavaSource> sources)
+    {
+        MessageDigest digest = newDigest();
+        update(digest, String.valueOf(compiler.getJavaVersion()));
+        update(digest, CLASSPATH_FINGERPRINTS.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> fingerprint(compiler.getClassPath())));
+        for (EngineJavaCompiler c = compiler; c != null; c = c.getParent())
+        {
+            digest.update(loadedClassesDigest(c));
+        }
+        Lists.mutable.<StringJavaSource>withAll(sources).sortThis((a, b) -> a.getName().compareTo(b.getName())).forEach(source ->
+        {
+            update(digest, source.getName());
+            update(digest, source.getCode());
+        });
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @return the class name to encoded bytecode map stored under the key, or null if there is none
+     */
+    public MutableMap<String, String> get(String key)
+    {
+        MapIterable<String, String> classes;
+        synchronized (this.entries)
+        {
+            classes = this.entries.get(key);
+        }
+        if (classes == null && this.directory != null)
+        {
+            classes = readFromDisk(key);
+            if (classes != null)
+            {
+                putInMemory(key, classes);
+            }
+        }
+        if (classes == null)
+        {
+            MetricsHandler.incrementJavaBytecodeCacheMiss();
+            return null;
+        }
+        MetricsHandler.incrementJavaBytecodeCacheHit();
+        return Maps.mutable.withMapIterable(classes);
+    }
+
+    public void put(String key, MapIterable<String, String> classes)
+    {
+        MapIterable<String, String> copy = Maps.mutable.withMapIterable(classes).toImmutable();
+        putInMemory(key, copy);
+        if (this.directory != null)
+        {
+            writeToDisk(key, copy);
+        }
+    }
+
+    public long size()
+    {
+        synchronized (this.entries)
+        {
+            return this.entries.size();
+        }
+    }
+
+    private void putInMemory(String key, MapIterable<String, String> classes)
+    {
+        synchronized (this.entries)
+        {
+            MapIterable<String, String> previous = this.entries.put(key, classes);
+            if (previous != null)
+            {
+                this.sizeBytes -= sizeOf(previous);
+            }
+            this.sizeBytes += sizeOf(classes);
+            Iterator<Map.Entry<String, MapIterable<String, String>>> iterator = this.entries.entrySet().iterator();
+            while (this.sizeBytes > this.maximumSizeBytes && iterator.hasNext())
+            {
+                this.sizeBytes -= sizeOf(iterator.next().getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private MapIterable<String, String> readFromDisk(String key)
+    {
+        File file = this.directory.resolve(key + FILE_EXTENSION).toFile();
+        if (!file.exists())
+        {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))))
+        {
+            int count = in.readInt();
+            MutableMap<String, String> classes = Maps.mutable.ofInitialCapacity(count);
+            for (int i = 0; i < count; i++)
+            {
+                classes.put(readString(in), readString(in));
+            }
+            return classes.toImmutable();
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Ignoring unreadable bytecode cache entry {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, MapIterable<String, String> classes)
+    {
+        try
+        {
+            // write to a temporary file first, so that concurrent readers never see a partial entry
+            Path tmp = Files.createTempFile(this.directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))
+            {
+                out.writeInt(classes.size());
+                for (String name : Lists.mutable.withAll(classes.keysView()))
+                {
+                    writeString(out, name);
+                    writeString(out, classes.get(name));
+                }
+            }
+            Files.move(tmp, this.directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to persist bytecode cache entry {}", key, e);
+        }
+    }
+
+    private static long sizeOf(MapIterable<String, String> classes)
+    {
+        return classes.keyValuesView().sumOfLong(p -> (long) p.getOne().length() + p.getTwo().length());
+    }
+
+    private static String fingerprint(String classPath)
+    {
+        MessageDigest digest = newDigest();
+        if (classPath != null)
+        {
+            for (String entry : classPath.split(File.pathSeparator))
+            {
+                File file = new File(entry);
+                update(digest, entry);
+                update(digest, file.length() + ":" + file.lastModified());
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static byte[] loadedClassesDigest(EngineJavaCompiler compiler)
+    {
+        // read before the classes, so that classes loaded meanwhile leave a stale version rather than a stale digest
+        int version = compiler.getLoadedClassesVersion();
+        LoadedClassesDigest cached = LOADED_CLASSES_DIGESTS.get(compiler.getClassLoader());
+        if (cached != null && cached.version == version)
+        {
+            return cached.digest;
+        }
+        MessageDigest digest = newDigest();
+        MutableMap<String, String> loaded = compiler.save();
+        Lists.mutable.withAll(loaded.keysView()).sortThis().forEach(name ->
+        {
+            update(digest, name);
+            update(digest, loaded.get(name));
+        });
+        byte[] loadedClassesDigest = digest.digest();
+        LOADED_CLASSES_DIGESTS.put(compiler.getClassLoader(), new LoadedClassesDigest(version, loadedClassesDigest));
+        return loadedClassesDigest;
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value)
+    {
+        byte[] bytes = value.getBytes(UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static String toHex(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static class LoadedClassesDigest
+    {
+        private final int version;
+        private final byte[] digest;
+
+        private LoadedClassesDigest(int version, byte[] digest)
+        {
+            this.version = version;
+            this.digest = digest;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException
+    {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException
+    {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -44,6 +44,8 @@ public class EngineJavaCompiler
     private final JavaVersion javaVersion;
     private final FilterControl filterControl;
     private MemoryClassLoader memoryClassLoader;
+    // changes whenever classes are compiled or loaded
+    private volatile int loadedClassesVersion;
 
     public EngineJavaCompiler(JavaVersion javaVersion, EngineJavaCompiler parent, ClassPathFilter filter)
     {
@@ -81,6 +83,7 @@ public class EngineJavaCompiler
         MetricsHandler.incrementJavaCompilationCount();
         compile(this.compiler, javaSources, this.memoryFileManager, this.javaVersion, getClassPath());
         this.memoryClassLoader = newClassLoader();
+        this.loadedClassesVersion++;
         return this;
     }
 
@@ -115,6 +118,7 @@ public class EngineJavaCompiler
             throw new UncheckedIOException(e);
         }
         cl.setEncodedBytes(message);
+        this.loadedClassesVersion++;
         return this;
     }
 
@@ -133,7 +137,22 @@ public class EngineJavaCompiler
         return new MemoryClassLoader(this.memoryFileManager, (this.parent == null) ? Thread.currentThread().getContextClassLoader() : this.parent.memoryClassLoader);
     }
 
-    private String getClassPath()
+    EngineJavaCompiler getParent()
+    {
+        return this.parent;
+    }
+
+    int getLoadedClassesVersion()
+    {
+        return this.loadedClassesVersion;
+    }
+
+    JavaVersion getJavaVersion()
+    {
+        return this.javaVersion;
+    }
+
+    String getClassPath()
     {
         return CLASSPATH_CACHE.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> new ClassGraph().getClasspath());
     }
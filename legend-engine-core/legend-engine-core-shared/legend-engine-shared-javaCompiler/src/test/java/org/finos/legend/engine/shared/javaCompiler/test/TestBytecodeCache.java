@@ -0,0 +1,107 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler.test;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.shared.javaCompiler.BytecodeCache;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+
+public class TestBytecodeCache
+{
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private final List<StringJavaSource> sources = Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", "public class Example { public static String execute() { return \"ok\"; } }"));
+    private final List<StringJavaSource> otherSources = Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Example", "public class Example { public static String execute() { return \"ko\"; } }"));
+
+    @Test
+    public void testKeyDependsOnSources()
+    {
+        BytecodeCache cache = new BytecodeCache(1024 * 1024);
+        Assert.assertEquals(cache.computeKey(new EngineJavaCompiler(), sources), cache.computeKey(new EngineJavaCompiler(), sources));
+        Assert.assertNotEquals(cache.computeKey(new EngineJavaCompiler(), sources), cache.computeKey(new EngineJavaCompiler(), otherSources));
+    }
+
+    @Test
+    public void testKeyFollowsTheClassesLoadedInTheCompilers() throws Exception
+    {
+        BytecodeCache cache = new BytecodeCache(1024 * 1024);
+        MutableMap<String, String> compiled = new EngineJavaCompiler().compile(sources).save();
+        EngineJavaCompiler parent = new EngineJavaCompiler();
+        EngineJavaCompiler compiler = new EngineJavaCompiler(parent);
+
+        String empty = cache.computeKey(compiler, otherSources);
+        Assert.assertEquals(empty, cache.computeKey(compiler, otherSources));
+
+        parent.load(compiled);
+        String parentLoaded = cache.computeKey(compiler, otherSources);
+        Assert.assertNotEquals(empty, parentLoaded);
+        Assert.assertEquals(parentLoaded, cache.computeKey(compiler, otherSources));
+
+        compiler.compile(Lists.mutable.with(StringJavaSource.newStringJavaSource("engine.generated", "Other", "public class Other { }")));
+        String compilerCompiled = cache.computeKey(compiler, otherSources);
+        Assert.assertNotEquals(parentLoaded, compilerCompiled);
+        Assert.assertEquals(compilerCompiled, cache.computeKey(new EngineJavaCompiler(new EngineJavaCompiler().load(compiled)).load(compiler.save()), otherSources));
+    }
+
+    @Test
+    public void testCachedBytecodeCanBeLoaded() throws Exception
+    {
+        BytecodeCache cache = new BytecodeCache(1024 * 1024);
+        String key = cache.computeKey(new EngineJavaCompiler(), sources);
+        Assert.assertNull(cache.get(key));
+        cache.put(key, new EngineJavaCompiler().compile(sources).save());
+
+        EngineJavaCompiler compiler = new EngineJavaCompiler().load(cache.get(key));
+        Assert.assertEquals("ok", compiler.getClassLoader().loadClass("engine.generated.Example").getMethod("execute").invoke(null));
+    }
+
+    @Test
+    public void testCachePersistsToDirectory() throws Exception
+    {
+        BytecodeCache cache = new BytecodeCache(1024 * 1024, tmpFolder.getRoot().toPath());
+        String key = cache.computeKey(new EngineJavaCompiler(), sources);
+        MutableMap<String, String> compiled = new EngineJavaCompiler().compile(sources).save();
+        cache.put(key, compiled);
+
+        BytecodeCache restarted = new BytecodeCache(1024 * 1024, tmpFolder.getRoot().toPath());
+        Assert.assertEquals(compiled, restarted.get(key));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception
+    {
+        MutableMap<String, String> compiled = new EngineJavaCompiler().compile(sources).save();
+        long entrySize = compiled.keyValuesView().sumOfLong(p -> (long) p.getOne().length() + p.getTwo().length());
+        BytecodeCache cache = new BytecodeCache(entrySize * 2);
+        cache.put("a", compiled);
+        cache.put("b", compiled);
+        Assert.assertNotNull(cache.get("a"));
+        cache.put("c", compiled);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("c"));
+    }
+}
@@ -15,6 +15,7 @@
 package org.finos.legend.engine.testable.function;
 
 import net.javacrumbs.jsonunit.JsonAssert;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.Compiler;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
@@ -28,8 +29,11 @@ import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
+import org.finos.legend.engine.testable.TestableRunner;
 import org.finos.legend.engine.testable.extension.TestRunner;
 import org.finos.legend.engine.testable.function.extension.FunctionTestableRunnerExtension;
+import org.finos.legend.engine.testable.model.RunTestsResult;
+import org.finos.legend.engine.testable.model.RunTestsTestableInput;
 import org.finos.legend.pure.generated.Root_meta_pure_test_TestSuite;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAccessor;
@@ -37,6 +41,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class TestFunctionTestSuite
@@ -186,6 +192,38 @@ public class TestFunctionTestSuite
         Assert.assertEquals(TestExecutionStatus.PASS, testExecuted.testExecutionStatus);
     }
 
+    @Test
+    public void testSuitesRunInParallel()
+    {
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel(getResourceAsString("testable/legend-testable-function-test-model.pure"));
+        PureModel pureModel = Compiler.compile(pureModelContextData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        RunTestsTestableInput input = new RunTestsTestableInput();
+        input.testable = "model::MultiSuite_String_1__String_1_";
+
+        RunTestsResult sequentialResult = new TestableRunner(1).doTests(Collections.singletonList(input), pureModel, pureModelContextData);
+        RunTestsResult parallelResult = new TestableRunner(3).doTests(Collections.singletonList(input), pureModel, pureModelContextData);
+
+        Assert.assertEquals(
+                Arrays.asList("testSuite_1.testPass:PASS", "testSuite_1.testFail:FAIL", "testSuite_2.testPass:PASS", "testSuite_3.testPass:PASS"),
+                ListIterate.collect(sequentialResult.results, r -> describe(r)));
+        Assert.assertEquals(
+                ListIterate.collect(sequentialResult.results, r -> describe(r)),
+                ListIterate.collect(parallelResult.results, r -> describe(r)));
+
+        Assert.assertEquals(
+                Arrays.asList("testSuite_1[testPass, testFail]", "testSuite_2[testPass]", "testSuite_3[testPass]"),
+                ListIterate.collect(sequentialResult.timings, t -> t.testSuiteId + t.atomicTestIds));
+        Assert.assertEquals(ListIterate.collect(sequentialResult.timings, t -> t.testable + "." + t.testSuiteId + t.atomicTestIds),
+                ListIterate.collect(parallelResult.timings, t -> t.testable + "." + t.testSuiteId + t.atomicTestIds));
+        Assert.assertTrue(parallelResult.timings.stream().allMatch(t -> t.durationInMillis >= 0));
+    }
+
+    private static String describe(TestResult result)
+    {
+        Assert.assertTrue(result instanceof TestExecuted);
+        return result.testSuiteId + "." + result.atomicTestId + ":" + ((TestExecuted) result).testExecutionStatus;
+    }
+
     private List<TestResult> executeFunctionTest(String grammar, String fullPath)
     {
         FunctionTestableRunnerExtension functionTestableRunnerExtension = new FunctionTestableRunnerExtension();
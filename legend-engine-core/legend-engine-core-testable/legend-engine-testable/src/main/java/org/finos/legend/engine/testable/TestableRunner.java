@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.testable;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -25,6 +26,7 @@ import org.finos.legend.engine.testable.model.DebugTestsResult;
 import org.finos.legend.engine.testable.model.UniqueTestId;
 import org.finos.legend.engine.testable.model.RunTestsResult;
 import org.finos.legend.engine.testable.model.RunTestsTestableInput;
+import org.finos.legend.engine.testable.model.TestTiming;
 import org.finos.legend.pure.generated.Root_meta_pure_test_AtomicTest;
 import org.finos.legend.pure.generated.Root_meta_pure_test_TestSuite;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Test;
@@ -32,13 +34,43 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAc
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Testable;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public class TestableRunner
 {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final int DEFAULT_PARALLELISM = Integer.getInteger("org.finos.legend.engine.testable.parallelism", 1);
+
+    private final int parallelism;
+
+    public TestableRunner()
+    {
+        this(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * @param parallelism the maximum number of atomic tests and test suites run at the same time, 1 to run them one
+     *                    after the other. Tests run concurrently each get their own {@link TestRunner}, as runners keep
+     *                    the state of the suite being run.
+     */
+    public TestableRunner(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Test parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
 
     public RunTestsResult doTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
-        RunTestsResult runTestsResult = new RunTestsResult();
+        List<ScheduledTest> scheduledTests = Lists.mutable.empty();
         for (RunTestsTestableInput testableInput : runTestsTestableInputs)
         {
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement packageableElement = pureModel.getPackageableElement(testableInput.testable);
@@ -56,7 +88,8 @@ public class TestableRunner
                 // We run all testIds if no `unitTestIds` are provided
                 if ((test instanceof Root_meta_pure_test_AtomicTest) && (testIds.isEmpty() || testIdStrings.contains(test._id())))
                 {
-                    runTestsResult.results.add(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data));
+                    scheduledTests.add(new ScheduledTest(testableInput.testable, testable, testRunner, null, Lists.fixedSize.with(test._id()),
+                            runner -> Lists.fixedSize.with(runner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data))));
                 }
 
                 if (test instanceof Root_meta_pure_test_TestSuite)
@@ -68,14 +101,72 @@ public class TestableRunner
                         List<String> updatedTestIds = testIds.isEmpty()
                             ? testSuite._tests().collect(TestAccessor::_id).toList()
                             : testIdsForSuite;
-                        runTestsResult.results.addAll(testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data));
+                        scheduledTests.add(new ScheduledTest(testableInput.testable, testable, testRunner, testSuite._id(), updatedTestIds,
+                                runner -> runner.executeTestSuite(testSuite, updatedTestIds, pureModel, data)));
                     }
                 }
             }
         }
+
+        if (this.parallelism == 1 || scheduledTests.size() < 2)
+        {
+            scheduledTests.forEach(scheduledTest -> scheduledTest.run(scheduledTest.testRunner));
+        }
+        else
+        {
+            this.runInParallel(scheduledTests);
+        }
+
+        RunTestsResult runTestsResult = new RunTestsResult();
+        scheduledTests.forEach(scheduledTest ->
+        {
+            runTestsResult.results.addAll(scheduledTest.results);
+            runTestsResult.timings.add(scheduledTest.timing);
+        });
         return runTestsResult;
     }
 
+    private void runInParallel(List<ScheduledTest> scheduledTests)
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(this.parallelism, scheduledTests.size()), runnable ->
+        {
+            Thread thread = new Thread(runnable, "testable-runner-" + THREAD_COUNTER.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try
+        {
+            List<Future<?>> futures = ListIterate.collect(scheduledTests, scheduledTest -> executorService.submit(() -> scheduledTest.run(TestableRunnerExtensionLoader.forTestable(scheduledTest.testable, classLoader))));
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running tests", e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
 
     public DebugTestsResult debugTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
@@ -120,4 +211,30 @@ public class TestableRunner
         }
         return debugTestsResult;
     }
+
+    private static class ScheduledTest
+    {
+        private final Testable testable;
+        private final TestRunner testRunner;
+        private final Function<TestRunner, List<TestResult>> execution;
+        private final TestTiming timing = new TestTiming();
+        private List<TestResult> results;
+
+        private ScheduledTest(String testablePath, Testable testable, TestRunner testRunner, String testSuiteId, List<String> atomicTestIds, Function<TestRunner, List<TestResult>> execution)
+        {
+            this.testable = testable;
+            this.testRunner = testRunner;
+            this.execution = execution;
+            this.timing.testable = testablePath;
+            this.timing.testSuiteId = testSuiteId;
+            this.timing.atomicTestIds.addAll(atomicTestIds);
+        }
+
+        private void run(TestRunner runner)
+        {
+            long start = System.nanoTime();
+            this.results = this.execution.apply(runner);
+            this.timing.durationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
 }
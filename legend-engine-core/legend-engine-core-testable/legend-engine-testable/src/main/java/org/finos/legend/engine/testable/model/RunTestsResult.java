@@ -22,4 +22,6 @@ import java.util.List;
 public class RunTestsResult
 {
     public List<TestResult> results = new ArrayList<>();
+
+    public List<TestTiming> timings = new ArrayList<>();
 }
@@ -0,0 +1,30 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.testable.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestTiming
+{
+    public String testable;
+
+    public String testSuiteId;
+
+    // the tests run by a suite share its setup, so they are timed together
+    public List<String> atomicTestIds = new ArrayList<>();
+
+    public long durationInMillis;
+}
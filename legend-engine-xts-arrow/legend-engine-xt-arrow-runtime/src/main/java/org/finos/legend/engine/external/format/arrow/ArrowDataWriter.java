@@ -18,6 +18,7 @@ import java.nio.charset.Charset;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfigBuilder;
@@ -31,28 +32,51 @@ import org.finos.legend.engine.external.shared.runtime.write.ExternalFormatWrite
 import java.io.IOException;
 import java.io.OutputStream;
 import java.sql.SQLException;
+import org.finos.legend.engine.plan.execution.stores.relational.result.FetchSizePolicy;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 
 public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseable
 {
+    public static final String MAX_ALLOCATION_PROPERTY_NAME = "org.finos.legend.engine.arrowMaxAllocationBytes";
+    public static final String MAX_RESULT_ALLOCATION_PROPERTY_NAME = "org.finos.legend.engine.arrowMaxResultAllocationBytes";
+    public static final String TARGET_BATCH_BYTES_PROPERTY_NAME = "org.finos.legend.engine.arrowTargetBatchBytes";
+    private static final long DEFAULT_MAX_RESULT_ALLOCATION_BYTES = 536_870_912L; /* 512MB - 512 * 1024 * 1024 */
+    private static final long DEFAULT_TARGET_BATCH_BYTES = 8_388_608L; /* 8MB - 8 * 1024 * 1024 */
+
+    // Shared by all the results so that the total memory used by Arrow serialization is bounded, each result getting a capped child allocator
+    private static final BufferAllocator ROOT_ALLOCATOR = new RootAllocator(getLongProperty(MAX_ALLOCATION_PROPERTY_NAME, Long.MAX_VALUE));
+    private static final AtomicLong RESULT_COUNTER = new AtomicLong();
+
     private final LegendArrowVectorIterator iterator;
     private final BufferAllocator allocator;
+    private boolean closed;
 
     public ArrowDataWriter(RelationalResult resultSet) throws SQLException
     {
-
-        this.allocator = new RootAllocator();
-        Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
-                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
-        JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar).setReuseVectorSchemaRoot(true).build();
-        this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config);
-
+        this.allocator = ROOT_ALLOCATOR.newChildAllocator("arrow-result-" + RESULT_COUNTER.incrementAndGet(), 0, getLongProperty(MAX_RESULT_ALLOCATION_PROPERTY_NAME, DEFAULT_MAX_RESULT_ALLOCATION_BYTES));
+        try
+        {
+            Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
+                    new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
+                    new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
+            long batchRows = getLongProperty(TARGET_BATCH_BYTES_PROPERTY_NAME, DEFAULT_TARGET_BATCH_BYTES) / FetchSizePolicy.estimateRowBytes(resultSet.getResultSet().getMetaData());
+            JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar)
+                    .setReuseVectorSchemaRoot(true)
+                    .setTargetBatchSize((int) Math.max(1, Math.min(Integer.MAX_VALUE, batchRows)))
+                    .build();
+            this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config);
+        }
+        catch (RuntimeException | SQLException e)
+        {
+            this.allocator.close();
+            throw e;
+        }
     }
 
     @Override
     public void writeData(OutputStream outputStream) throws IOException
     {
+        // batches are written from the Arrow buffers straight to the output stream, the root being reused across batches
         try (VectorSchemaRoot vector = iterator.next();
              ArrowStreamWriter writer = new ArrowStreamWriter(vector, null, outputStream);
         )
@@ -65,11 +89,11 @@ public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseab
                 writer.writeBatch();
 
             }
+            writer.end();
         }
-        catch (Exception e)
+        finally
         {
-            this.iterator.close();
-            throw e;
+            this.close();
         }
 
     }
@@ -81,25 +105,35 @@ public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseab
         {
             while (this.iterator.hasNext())
             {
-                try (VectorSchemaRoot vector = iterator.next())
-                {
-                    outputStream.write(vector.contentToTSVString().getBytes(Charset.forName("UTF-8")));
-                }
-
+                VectorSchemaRoot vector = iterator.next();
+                outputStream.write(vector.contentToTSVString().getBytes(Charset.forName("UTF-8")));
             }
-            this.close();
         }
-        catch (Exception e)
+        finally
         {
             this.close();
-            throw e;
         }
     }
 
     @Override
     public void close()
     {
-        allocator.close();
+        if (!this.closed)
+        {
+            this.closed = true;
+            this.iterator.close();
+            this.allocator.close();
+        }
     }
-}
 
+    static int openResultAllocators()
+    {
+        return ROOT_ALLOCATOR.getChildAllocators().size();
+    }
+
+    private static long getLongProperty(String name, long defaultValue)
+    {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultSerializerExtension;
+
+public class ArrowRelationalResultSerializerExtension implements RelationalResultSerializerExtension
+{
+    @Override
+    public MutableList<String> group()
+    {
+        return Lists.mutable.with("External_Format", "Arrow");
+    }
+
+    @Override
+    public Serializer getSerializer(RelationalResult result, SerializationFormat format)
+    {
+        return format == SerializationFormat.ARROW ? new RelationalResultToArrowSerializer(result) : null;
+    }
+}
@@ -0,0 +1,49 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+public class RelationalResultToArrowSerializer extends Serializer
+{
+    private final RelationalResult relationalResult;
+
+    public RelationalResultToArrowSerializer(RelationalResult relationalResult)
+    {
+        this.relationalResult = relationalResult;
+    }
+
+    @Override
+    public void stream(OutputStream targetStream) throws IOException
+    {
+        try (ArrowDataWriter writer = new ArrowDataWriter(this.relationalResult))
+        {
+            writer.writeData(targetStream);
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            this.relationalResult.close();
+        }
+    }
+}
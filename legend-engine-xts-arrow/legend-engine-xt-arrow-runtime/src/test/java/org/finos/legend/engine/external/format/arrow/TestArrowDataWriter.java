@@ -0,0 +1,204 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class TestArrowDataWriter
+{
+    private static final String URL = "jdbc:h2:mem:testArrowDataWriter;DB_CLOSE_DELAY=-1";
+    // an INTEGER column and a VARCHAR(255) column
+    private static final long ROW_BYTES = 4 + 255;
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        this.connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("DROP TABLE IF EXISTS testtable");
+            statement.execute("CREATE TABLE testtable (testInt INTEGER, testString VARCHAR(255))");
+            statement.execute("INSERT INTO testtable (testInt, testString) VALUES (1, 'A'), (2, null), (3, 'B'), (4, 'C'), (5, 'D')");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        System.clearProperty(ArrowDataWriter.MAX_RESULT_ALLOCATION_PROPERTY_NAME);
+        System.clearProperty(ArrowDataWriter.TARGET_BATCH_BYTES_PROPERTY_NAME);
+        this.connection.close();
+    }
+
+    @Test
+    public void testRelationalResultIsStreamedAsArrow() throws Exception
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        newResult().stream(outputStream, SerializationFormat.ARROW);
+
+        Assert.assertEquals(Arrays.asList("1\tA", "2\tnull", "3\tB", "4\tC", "5\tD"), readRows(outputStream));
+        Assert.assertEquals(0, ArrowDataWriter.openResultAllocators());
+    }
+
+    @Test
+    public void testBatchesAreSizedFromTheTargetBatchBytes() throws Exception
+    {
+        System.setProperty(ArrowDataWriter.TARGET_BATCH_BYTES_PROPERTY_NAME, String.valueOf(2 * ROW_BYTES));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        newResult().stream(outputStream, SerializationFormat.ARROW);
+
+        Assert.assertEquals(Arrays.asList(2, 2, 1), readBatchRowCounts(outputStream));
+        Assert.assertEquals(Arrays.asList("1\tA", "2\tnull", "3\tB", "4\tC", "5\tD"), readRows(outputStream));
+    }
+
+    @Test
+    public void testResultAllocationIsCapped() throws Exception
+    {
+        // the default target batch needs far more than 1KB of vectors
+        System.setProperty(ArrowDataWriter.MAX_RESULT_ALLOCATION_PROPERTY_NAME, "1024");
+        RelationalResult result = newResult();
+        try
+        {
+            new ArrowDataWriter(result).close();
+            Assert.fail("Expected the result allocation to be capped");
+        }
+        catch (RuntimeException e)
+        {
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof OutOfMemoryException))
+            {
+                cause = cause.getCause();
+            }
+            Assert.assertNotNull("Expected an Arrow OutOfMemoryException, got " + e, cause);
+        }
+        finally
+        {
+            result.close();
+        }
+        Assert.assertEquals(0, ArrowDataWriter.openResultAllocators());
+    }
+
+    @Test
+    public void testAllocatorIsReleasedWhenTheWriteFails() throws Exception
+    {
+        OutputStream failingStream = new OutputStream()
+        {
+            @Override
+            public void write(int b) throws IOException
+            {
+                throw new IOException("client disconnected");
+            }
+        };
+        RelationalResult result = newResult();
+        try
+        {
+            new ArrowDataWriter(result).writeData(failingStream);
+            Assert.fail("Expected the write to fail");
+        }
+        catch (IOException e)
+        {
+            Assert.assertEquals("client disconnected", e.getMessage());
+        }
+        finally
+        {
+            result.close();
+        }
+        Assert.assertEquals(0, ArrowDataWriter.openResultAllocators());
+    }
+
+    @Test
+    public void testAllocatorIsReleasedWhenTheWriterIsClosedUnused() throws Exception
+    {
+        RelationalResult result = newResult();
+        ArrowDataWriter writer = new ArrowDataWriter(result);
+        Assert.assertEquals(1, ArrowDataWriter.openResultAllocators());
+        writer.close();
+        writer.close();
+        result.close();
+        Assert.assertEquals(0, ArrowDataWriter.openResultAllocators());
+    }
+
+    private RelationalResult newResult() throws SQLException
+    {
+        RelationalExecutionNode executionNode = Mockito.mock(RelationalExecutionNode.class);
+        DatabaseConnection databaseConnection = Mockito.mock(DatabaseConnection.class);
+        executionNode.connection = databaseConnection;
+        Mockito.when(databaseConnection.accept(any())).thenReturn(false);
+        return new RelationalResult(FastList.newListWith(new RelationalExecutionActivity("SELECT * FROM testtable ORDER BY testInt", null)), executionNode, FastList.newListWith(new SQLResultColumn("testInt", "INTEGER"), new SQLResultColumn("testString", "VARCHAR")), null, null, DriverManager.getConnection(URL, "sa", ""), Identity.getAnonymousIdentity(), null, null, new RequestContext());
+    }
+
+    private static List<Integer> readBatchRowCounts(ByteArrayOutputStream outputStream) throws IOException
+    {
+        List<Integer> rowCounts = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputStream.toByteArray()), allocator))
+        {
+            while (reader.loadNextBatch())
+            {
+                rowCounts.add(reader.getVectorSchemaRoot().getRowCount());
+            }
+        }
+        return rowCounts;
+    }
+
+    private static List<String> readRows(ByteArrayOutputStream outputStream) throws IOException
+    {
+        List<String> rows = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(outputStream.toByteArray()), allocator))
+        {
+            while (reader.loadNextBatch())
+            {
+                String[] lines = reader.getVectorSchemaRoot().contentToTSVString().split("\n");
+                // the first line of each batch holds the column names
+                rows.addAll(Arrays.asList(lines).subList(1, lines.length));
+            }
+        }
+        return rows;
+    }
+}
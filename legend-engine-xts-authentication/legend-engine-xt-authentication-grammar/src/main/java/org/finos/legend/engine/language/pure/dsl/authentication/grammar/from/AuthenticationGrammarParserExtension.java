@@ -20,6 +20,7 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.PureIslandGrammarSourceCode;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.authentication.AuthenticationLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.authentication.AuthenticationParserGrammar;
@@ -91,6 +92,6 @@ public class AuthenticationGrammarParserExtension implements IAuthenticationGram
         lexer.addErrorListener(errorListener);
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, func);
     }
 }
\ No newline at end of file
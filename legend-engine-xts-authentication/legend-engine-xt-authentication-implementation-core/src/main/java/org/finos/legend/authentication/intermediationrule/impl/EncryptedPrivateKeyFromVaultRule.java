@@ -22,9 +22,12 @@ import org.bouncycastle.openssl.jcajce.JceOpenSSLPKCS8DecryptorProviderBuilder;
 import org.bouncycastle.operator.InputDecryptorProvider;
 import org.bouncycastle.pkcs.PKCS8EncryptedPrivateKeyInfo;
 import org.bouncycastle.util.encoders.Base64;
+import org.bouncycastle.util.encoders.Hex;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.impl.factory.Strings;
 import org.finos.legend.authentication.intermediationrule.IntermediationRule;
+import org.finos.legend.authentication.vault.CachingCredentialVault;
+import org.finos.legend.authentication.vault.CredentialVault;
 import org.finos.legend.authentication.vault.CredentialVaultProvider;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.specification.EncryptedPrivateKeyPairAuthenticationSpecification;
 import org.finos.legend.engine.shared.core.identity.Credential;
@@ -35,16 +38,45 @@ import javax.crypto.EncryptedPrivateKeyInfo;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.Security;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 public class EncryptedPrivateKeyFromVaultRule extends IntermediationRule<EncryptedPrivateKeyPairAuthenticationSpecification, Credential, PrivateKeyCredential>
 {
+    private static final int MAX_DECRYPTED_PRIVATE_KEYS = 64;
+
+    // decrypting is costly and is otherwise repeated for every connection, keyed by a digest of the key and passphrase.
+    // Keys are only kept as long as the caching vault they come from keeps their secrets, the least recently used ones
+    // being evicted beyond the maximum. Evicted keys are not destroyed, as credentials handed out may still use them.
+    private final Map<String, DecryptedPrivateKey> decryptedPrivateKeys;
+    private final LongSupplier nanoClock;
+
     public EncryptedPrivateKeyFromVaultRule(CredentialVaultProvider credentialVaultProvider)
+    {
+        this(credentialVaultProvider, System::nanoTime, MAX_DECRYPTED_PRIVATE_KEYS);
+    }
+
+    EncryptedPrivateKeyFromVaultRule(CredentialVaultProvider credentialVaultProvider, LongSupplier nanoClock, int maxDecryptedPrivateKeys)
     {
         super(credentialVaultProvider);
+        this.nanoClock = nanoClock;
+        this.decryptedPrivateKeys = new LinkedHashMap<String, DecryptedPrivateKey>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DecryptedPrivateKey> eldest)
+            {
+                return size() > maxDecryptedPrivateKeys;
+            }
+        };
     }
 
     @Override
@@ -52,8 +84,49 @@ public class EncryptedPrivateKeyFromVaultRule extends IntermediationRule<Encrypt
     {
         String encryptedPrivateKey = super.lookupSecret(authenticationSpecification.privateKey);
         String passphrase = super.lookupSecret(authenticationSpecification.passphrase);
-        PrivateKey privateKey = this.getDecryptedPrivateKey(encryptedPrivateKey, passphrase);
-        return new PrivateKeyCredential(authenticationSpecification.userName, privateKey);
+        CredentialVault<?> vault = this.credentialVaultProvider.getVault(authenticationSpecification.privateKey);
+        if (!(vault instanceof CachingCredentialVault))
+        {
+            // the secrets are looked up again every time, so are the keys decrypted
+            return new PrivateKeyCredential(authenticationSpecification.userName, this.getDecryptedPrivateKey(encryptedPrivateKey, passphrase));
+        }
+
+        long now = this.nanoClock.getAsLong();
+        String digest = digest(encryptedPrivateKey, passphrase);
+        DecryptedPrivateKey decryptedPrivateKey;
+        synchronized (this.decryptedPrivateKeys)
+        {
+            this.decryptedPrivateKeys.values().removeIf(key -> now - key.expiresAt >= 0);
+            decryptedPrivateKey = this.decryptedPrivateKeys.get(digest);
+        }
+        if (decryptedPrivateKey == null)
+        {
+            // decrypted outside of the lock, keeping the first key decrypted when decrypted concurrently
+            long timeToLiveNanos = ((CachingCredentialVault<?>) vault).getTimeToLive(TimeUnit.NANOSECONDS);
+            DecryptedPrivateKey decrypted = new DecryptedPrivateKey(this.getDecryptedPrivateKey(encryptedPrivateKey, passphrase), now + timeToLiveNanos);
+            synchronized (this.decryptedPrivateKeys)
+            {
+                decryptedPrivateKey = this.decryptedPrivateKeys.computeIfAbsent(digest, d -> decrypted);
+            }
+        }
+        return new PrivateKeyCredential(authenticationSpecification.userName, decryptedPrivateKey.privateKey);
+    }
+
+    int decryptedPrivateKeyCount()
+    {
+        synchronized (this.decryptedPrivateKeys)
+        {
+            return this.decryptedPrivateKeys.size();
+        }
+    }
+
+    private static String digest(String encryptedPrivateKey, String passphrase) throws NoSuchAlgorithmException
+    {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(encryptedPrivateKey.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        messageDigest.update(passphrase.getBytes(StandardCharsets.UTF_8));
+        return Hex.toHexString(messageDigest.digest());
     }
 
     private PrivateKey getDecryptedPrivateKey(String privateKey, String passPhrase)
@@ -104,6 +177,18 @@ public class EncryptedPrivateKeyFromVaultRule extends IntermediationRule<Encrypt
         }
     }
 
+    private static class DecryptedPrivateKey
+    {
+        private final PrivateKey privateKey;
+        private final long expiresAt;
+
+        private DecryptedPrivateKey(PrivateKey privateKey, long expiresAt)
+        {
+            this.privateKey = privateKey;
+            this.expiresAt = expiresAt;
+        }
+    }
+
     public static String chunk(String privateKey)
     {
         RichIterable<String> collect = Strings.asChars(privateKey).chunk(64).collect(c -> c.makeString(""));
@@ -0,0 +1,322 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.authentication.vault;
+
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.vault.CredentialVaultSecret;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the secrets looked up from another vault for a time to live.
+ * <p>
+ * Loading is single-flight: concurrent lookups of a secret which is not cached wait for the same load. Secrets looked
+ * up after their refresh-ahead time are still returned from the cache while a single background load replaces them,
+ * so that lookups only wait on the underlying vault on a miss or once the time to live is exceeded.
+ * <p>
+ * Secrets are held as character arrays which are overwritten when they are evicted. Secrets whose type does not
+ * provide a {@link CredentialVaultSecret#shortId()} identifying them are not cached.
+ */
+public class CachingCredentialVault<T extends CredentialVaultSecret> extends CredentialVault<T>
+{
+    private static final String DEFAULT_SHORT_ID = "CredentialVaultSecret";
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final CredentialVault<T> delegate;
+    private final String vaultName;
+    private final long timeToLiveNanos;
+    private final long refreshAheadNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, CompletableFuture<CachedSecret>> secrets = new ConcurrentHashMap<>();
+
+    private CachingCredentialVault(CredentialVault<T> delegate, long timeToLiveNanos, long refreshAheadNanos, Executor refreshExecutor, LongSupplier nanoClock)
+    {
+        this.delegate = delegate;
+        this.vaultName = delegate.getClass().getSimpleName();
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.refreshAheadNanos = refreshAheadNanos;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    public static <T extends CredentialVaultSecret> Builder<T> builder(CredentialVault<T> delegate)
+    {
+        return new Builder<>(delegate);
+    }
+
+    @Override
+    public Class<? extends CredentialVaultSecret> getSecretType()
+    {
+        return this.delegate.getSecretType();
+    }
+
+    public CredentialVault<T> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    public long getTimeToLive(TimeUnit unit)
+    {
+        return unit.convert(this.timeToLiveNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String lookupSecret(T vaultSecret, Identity identity) throws Exception
+    {
+        String key = cacheKey(vaultSecret, identity);
+        if (key == null)
+        {
+            return this.delegate.lookupSecret(vaultSecret, identity);
+        }
+        while (true)
+        {
+            CompletableFuture<CachedSecret> future = this.secrets.get(key);
+            boolean hit = future != null;
+            if (future == null)
+            {
+                CompletableFuture<CachedSecret> loading = new CompletableFuture<>();
+                future = this.secrets.putIfAbsent(key, loading);
+                if (future == null)
+                {
+                    this.evictExpired();
+                    this.load(vaultSecret, identity, loading, false);
+                    future = loading;
+                }
+            }
+            MetricsHandler.incrementCredentialVaultCacheRequests(this.vaultName, hit);
+
+            CachedSecret cachedSecret;
+            try
+            {
+                cachedSecret = future.join();
+            }
+            catch (CompletionException e)
+            {
+                // failed loads are not cached
+                this.secrets.remove(key, future);
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+
+            long now = this.nanoClock.getAsLong();
+            if (now - cachedSecret.loadedAt >= this.timeToLiveNanos)
+            {
+                if (this.secrets.remove(key, future))
+                {
+                    cachedSecret.clear();
+                }
+                continue;
+            }
+            String value;
+            synchronized (cachedSecret)
+            {
+                if (cachedSecret.cleared)
+                {
+                    // evicted concurrently
+                    continue;
+                }
+                value = cachedSecret.secret == null ? null : new String(cachedSecret.secret);
+            }
+            if (now - cachedSecret.loadedAt >= this.refreshAheadNanos && cachedSecret.refreshing.compareAndSet(false, true))
+            {
+                CompletableFuture<CachedSecret> current = future;
+                try
+                {
+                    this.refreshExecutor.execute(() -> this.refresh(key, vaultSecret, identity, current));
+                }
+                catch (RejectedExecutionException e)
+                {
+                    cachedSecret.refreshing.set(false);
+                }
+            }
+            return value;
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.secrets.keySet().forEach(key -> this.evict(key, this.secrets.get(key)));
+    }
+
+    int size()
+    {
+        return this.secrets.size();
+    }
+
+    private void load(T vaultSecret, Identity identity, CompletableFuture<CachedSecret> loading, boolean refresh)
+    {
+        long start = System.currentTimeMillis();
+        try
+        {
+            String secret = this.delegate.lookupSecret(vaultSecret, identity);
+            loading.complete(new CachedSecret(secret, this.nanoClock.getAsLong()));
+        }
+        catch (Throwable t)
+        {
+            loading.completeExceptionally(t);
+        }
+        finally
+        {
+            MetricsHandler.observeCredentialVaultLoad(this.vaultName, refresh, start, System.currentTimeMillis());
+        }
+    }
+
+    private void refresh(String key, T vaultSecret, Identity identity, CompletableFuture<CachedSecret> current)
+    {
+        CompletableFuture<CachedSecret> refreshed = new CompletableFuture<>();
+        this.load(vaultSecret, identity, refreshed, true);
+        if (refreshed.isCompletedExceptionally())
+        {
+            // keep serving the current secret until it expires, the next lookup tries to refresh it again
+            current.join().refreshing.set(false);
+        }
+        else if (this.secrets.replace(key, current, refreshed))
+        {
+            current.join().clear();
+        }
+        else
+        {
+            // evicted or replaced meanwhile
+            refreshed.join().clear();
+        }
+    }
+
+    private void evictExpired()
+    {
+        long now = this.nanoClock.getAsLong();
+        this.secrets.forEach((key, future) ->
+        {
+            if (future.isDone() && !future.isCompletedExceptionally() && now - future.join().loadedAt >= this.timeToLiveNanos)
+            {
+                this.evict(key, future);
+            }
+        });
+    }
+
+    private void evict(String key, CompletableFuture<CachedSecret> future)
+    {
+        if (future != null && this.secrets.remove(key, future) && future.isDone() && !future.isCompletedExceptionally())
+        {
+            future.join().clear();
+        }
+    }
+
+    private static String cacheKey(CredentialVaultSecret vaultSecret, Identity identity)
+    {
+        String shortId = vaultSecret.shortId();
+        if (shortId == null || DEFAULT_SHORT_ID.equals(shortId))
+        {
+            return null;
+        }
+        return vaultSecret.getClass().getName() + "--" + shortId + "--identity=" + (identity == null ? "" : identity.getName());
+    }
+
+    private static class CachedSecret
+    {
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final char[] secret;
+        private boolean cleared;
+
+        private CachedSecret(String secret, long loadedAt)
+        {
+            this.secret = secret == null ? null : secret.toCharArray();
+            this.loadedAt = loadedAt;
+        }
+
+        private synchronized void clear()
+        {
+            if (this.secret != null)
+            {
+                Arrays.fill(this.secret, '\0');
+            }
+            this.cleared = true;
+        }
+    }
+
+    public static class Builder<T extends CredentialVaultSecret>
+    {
+        private final CredentialVault<T> delegate;
+        private long timeToLiveNanos = TimeUnit.MINUTES.toNanos(10);
+        private Long refreshAheadNanos;
+        private Executor refreshExecutor;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        private Builder(CredentialVault<T> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        public Builder<T> withTimeToLive(long duration, TimeUnit unit)
+        {
+            this.timeToLiveNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Secrets looked up once this long after being loaded are refreshed in the background, 80% of the time to
+         * live by default.
+         */
+        public Builder<T> withRefreshAhead(long duration, TimeUnit unit)
+        {
+            this.refreshAheadNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<T> withRefreshExecutor(Executor refreshExecutor)
+        {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        Builder<T> withNanoClock(LongSupplier nanoClock)
+        {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public CachingCredentialVault<T> build()
+        {
+            if (this.timeToLiveNanos <= 0)
+            {
+                throw new IllegalArgumentException("Time to live must be positive");
+            }
+            long refreshAhead = this.refreshAheadNanos == null ? this.timeToLiveNanos / 5 * 4 : this.refreshAheadNanos;
+            if (refreshAhead < 0 || refreshAhead > this.timeToLiveNanos)
+            {
+                throw new IllegalArgumentException("Refresh ahead must be between 0 and the time to live");
+            }
+            Executor executor = this.refreshExecutor == null ? Executors.newCachedThreadPool(runnable ->
+            {
+                Thread thread = new Thread(runnable, "credential-vault-refresh-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }) : this.refreshExecutor;
+            return new CachingCredentialVault<>(this.delegate, this.timeToLiveNanos, refreshAhead, executor, this.nanoClock);
+        }
+    }
+}
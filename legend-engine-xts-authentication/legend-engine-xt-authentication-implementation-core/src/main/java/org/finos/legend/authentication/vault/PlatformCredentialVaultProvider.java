@@ -21,6 +21,8 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.vault.CredentialVaultSecret;
 
+import java.util.concurrent.TimeUnit;
+
 public class PlatformCredentialVaultProvider
 {
      private MutableMap<Class<? extends CredentialVaultSecret>, CredentialVault> vaultsByType = Maps.mutable.empty();
@@ -59,6 +61,9 @@ public class PlatformCredentialVaultProvider
      public static class Builder
      {
           private MutableList<CredentialVault> vaults = Lists.mutable.empty();
+          private long cacheTimeToLive;
+          private long cacheRefreshAhead;
+          private TimeUnit cacheTimeUnit;
 
           public Builder with(CredentialVault credentialVault)
           {
@@ -66,9 +71,27 @@ public class PlatformCredentialVaultProvider
                return this;
           }
 
+          /**
+           * Caches the secrets looked up from all the vaults, see {@link CachingCredentialVault}.
+           */
+          public Builder withCaching(long timeToLive, long refreshAhead, TimeUnit unit)
+          {
+               this.cacheTimeToLive = timeToLive;
+               this.cacheRefreshAhead = refreshAhead;
+               this.cacheTimeUnit = unit;
+               return this;
+          }
+
           public PlatformCredentialVaultProvider build()
           {
-               return new PlatformCredentialVaultProvider(this.vaults.toImmutable());
+               if (this.cacheTimeUnit == null)
+               {
+                    return new PlatformCredentialVaultProvider(this.vaults.toImmutable());
+               }
+               return new PlatformCredentialVaultProvider(this.vaults.collect(vault -> (CredentialVault) CachingCredentialVault.builder(vault)
+                         .withTimeToLive(this.cacheTimeToLive, this.cacheTimeUnit)
+                         .withRefreshAhead(this.cacheRefreshAhead, this.cacheTimeUnit)
+                         .build()).toImmutable());
           }
      }
 }
@@ -0,0 +1,124 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.authentication.intermediationrule.impl;
+
+import org.finos.legend.authentication.TestCredentialCreation_EncryptedPrivateKeyCredential;
+import org.finos.legend.authentication.vault.CachingCredentialVault;
+import org.finos.legend.authentication.vault.CredentialVault;
+import org.finos.legend.authentication.vault.CredentialVaultProvider;
+import org.finos.legend.authentication.vault.impl.PropertiesFileCredentialVault;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.specification.EncryptedPrivateKeyPairAuthenticationSpecification;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.vault.PropertiesFileSecret;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.credential.AnonymousCredential;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.PrivateKey;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestEncryptedPrivateKeyFromVaultRule
+{
+    private final Identity identity = new Identity("alice", new AnonymousCredential());
+    private final EncryptedPrivateKeyPairAuthenticationSpecification specification = new EncryptedPrivateKeyPairAuthenticationSpecification(
+            "fred",
+            new PropertiesFileSecret("reference1"),
+            new PropertiesFileSecret("reference2"));
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testDecryptedKeysAreCachedForTheVaultTimeToLive() throws Exception
+    {
+        CredentialVault<PropertiesFileSecret> vault = CachingCredentialVault.builder(propertiesVault())
+                .withTimeToLive(10, TimeUnit.MINUTES)
+                .withRefreshExecutor(Runnable::run)
+                .build();
+        EncryptedPrivateKeyFromVaultRule rule = new EncryptedPrivateKeyFromVaultRule(CredentialVaultProvider.builder().with(vault).build(), this.clock::get, 64);
+
+        PrivateKey privateKey = this.makePrivateKey(rule);
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(9));
+        Assert.assertSame(privateKey, this.makePrivateKey(rule));
+        Assert.assertEquals(1, rule.decryptedPrivateKeyCount());
+
+        // expired keys are evicted and decrypted again
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        PrivateKey decryptedAgain = this.makePrivateKey(rule);
+        Assert.assertNotSame(privateKey, decryptedAgain);
+        Assert.assertEquals(privateKey, decryptedAgain);
+        Assert.assertEquals(1, rule.decryptedPrivateKeyCount());
+    }
+
+    @Test
+    public void testDecryptedKeysAreNotCachedWithoutCachingVault() throws Exception
+    {
+        EncryptedPrivateKeyFromVaultRule rule = new EncryptedPrivateKeyFromVaultRule(CredentialVaultProvider.builder().with(propertiesVault()).build(), this.clock::get, 64);
+
+        PrivateKey privateKey = this.makePrivateKey(rule);
+        Assert.assertNotSame(privateKey, this.makePrivateKey(rule));
+        Assert.assertEquals(0, rule.decryptedPrivateKeyCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedKeyIsEvictedBeyondTheMaximum() throws Exception
+    {
+        CredentialVault<PropertiesFileSecret> vault = CachingCredentialVault.builder(propertiesVault())
+                .withTimeToLive(10, TimeUnit.MINUTES)
+                .withRefreshExecutor(Runnable::run)
+                .build();
+        EncryptedPrivateKeyFromVaultRule rule = new EncryptedPrivateKeyFromVaultRule(CredentialVaultProvider.builder().with(vault).build(), this.clock::get, 2);
+
+        PrivateKey first = this.makePrivateKey(rule, "reference1");
+        PrivateKey second = this.makePrivateKey(rule, "reference3");
+        Assert.assertSame(first, this.makePrivateKey(rule, "reference1"));
+
+        // only the least recently used key is evicted, the others are still cached
+        this.makePrivateKey(rule, "reference4");
+        Assert.assertEquals(2, rule.decryptedPrivateKeyCount());
+        Assert.assertSame(first, this.makePrivateKey(rule, "reference1"));
+        PrivateKey secondDecryptedAgain = this.makePrivateKey(rule, "reference3");
+        Assert.assertNotSame(second, secondDecryptedAgain);
+
+        // evicted keys may still be used by the credentials handed out, so they are not destroyed
+        Assert.assertFalse(second.isDestroyed());
+        Assert.assertEquals(second, secondDecryptedAgain);
+    }
+
+    private PrivateKey makePrivateKey(EncryptedPrivateKeyFromVaultRule rule) throws Exception
+    {
+        return rule.makeCredential(this.specification, null, this.identity).getPrivateKey();
+    }
+
+    private PrivateKey makePrivateKey(EncryptedPrivateKeyFromVaultRule rule, String privateKeyReference) throws Exception
+    {
+        EncryptedPrivateKeyPairAuthenticationSpecification specification = new EncryptedPrivateKeyPairAuthenticationSpecification(
+                "fred",
+                new PropertiesFileSecret(privateKeyReference),
+                new PropertiesFileSecret("reference2"));
+        return rule.makeCredential(specification, null, this.identity).getPrivateKey();
+    }
+
+    private static PropertiesFileCredentialVault propertiesVault()
+    {
+        Properties properties = new Properties();
+        properties.put("reference1", TestCredentialCreation_EncryptedPrivateKeyCredential.PK);
+        properties.put("reference2", TestCredentialCreation_EncryptedPrivateKeyCredential.PASS);
+        // the same key, with trailing lines which do not change it but make distinct secrets
+        properties.put("reference3", TestCredentialCreation_EncryptedPrivateKeyCredential.PK + "\n");
+        properties.put("reference4", TestCredentialCreation_EncryptedPrivateKeyCredential.PK + "\n\n");
+        return new PropertiesFileCredentialVault(properties);
+    }
+}
@@ -0,0 +1,153 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.authentication.vault;
+
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.vault.SystemPropertiesSecret;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestCachingCredentialVault
+{
+    private final StubVault stubVault = new StubVault();
+    private final AtomicLong clock = new AtomicLong();
+    private final CachingCredentialVault<SystemPropertiesSecret> vault = CachingCredentialVault.builder(this.stubVault)
+            .withTimeToLive(10, TimeUnit.MINUTES)
+            .withRefreshAhead(8, TimeUnit.MINUTES)
+            .withRefreshExecutor(Runnable::run)
+            .withNanoClock(this.clock::get)
+            .build();
+
+    @Test
+    public void testSecretsAreCachedUntilRefreshAhead() throws Exception
+    {
+        Assert.assertEquals(SystemPropertiesSecret.class, this.vault.getSecretType());
+
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        this.stubVault.value = "secret-2";
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(7));
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals(1, this.stubVault.lookups.get());
+
+        // other secrets and identities are cached separately
+        Assert.assertEquals("secret-2", this.vault.lookupSecret(new SystemPropertiesSecret("b"), null));
+        Assert.assertEquals("secret-2", this.vault.lookupSecret(new SystemPropertiesSecret("a"), new Identity("user")));
+        Assert.assertEquals(3, this.stubVault.lookups.get());
+    }
+
+    @Test
+    public void testSecretsAreRefreshedAhead() throws Exception
+    {
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        this.stubVault.value = "secret-2";
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(9));
+
+        // the cached secret is returned while it is refreshed
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals(2, this.stubVault.lookups.get());
+        Assert.assertEquals("secret-2", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals(2, this.stubVault.lookups.get());
+    }
+
+    @Test
+    public void testExpiredSecretsAreLoadedAgain() throws Exception
+    {
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("b"), null));
+        this.stubVault.value = "secret-2";
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        Assert.assertEquals("secret-2", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals(3, this.stubVault.lookups.get());
+        // the other expired secret was evicted on the miss
+        Assert.assertEquals(1, this.vault.size());
+    }
+
+    @Test
+    public void testFailedLookupsAreNotCached() throws Exception
+    {
+        this.stubVault.failures.set(1);
+        try
+        {
+            this.vault.lookupSecret(new SystemPropertiesSecret("a"), null);
+            Assert.fail("Expected the lookup to fail");
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("vault unavailable", e.getMessage());
+        }
+        Assert.assertEquals("secret-1", this.vault.lookupSecret(new SystemPropertiesSecret("a"), null));
+        Assert.assertEquals(2, this.stubVault.lookups.get());
+    }
+
+    @Test
+    public void testConcurrentLookupsLoadOnce() throws Exception
+    {
+        this.stubVault.release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                futures.add(executor.submit(() -> this.vault.lookupSecret(new SystemPropertiesSecret("a"), null)));
+            }
+            Thread.sleep(100);
+            this.stubVault.release.countDown();
+            for (Future<String> future : futures)
+            {
+                Assert.assertEquals("secret-1", future.get(1, TimeUnit.MINUTES));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, this.stubVault.lookups.get());
+    }
+
+    private static class StubVault extends CredentialVault<SystemPropertiesSecret>
+    {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile String value = "secret-1";
+        private volatile CountDownLatch release;
+
+        @Override
+        public String lookupSecret(SystemPropertiesSecret vaultSecret, Identity identity) throws Exception
+        {
+            this.lookups.incrementAndGet();
+            if (this.release != null)
+            {
+                this.release.await();
+            }
+            if (this.failures.getAndDecrement() > 0)
+            {
+                throw new IllegalStateException("vault unavailable");
+            }
+            return this.value;
+        }
+    }
+}
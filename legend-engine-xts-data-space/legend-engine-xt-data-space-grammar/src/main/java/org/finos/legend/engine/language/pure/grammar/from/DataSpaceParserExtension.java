@@ -72,7 +72,7 @@ public class DataSpaceParserExtension implements PureGrammarParserExtension
         DataSpaceParserGrammar parser = new DataSpaceParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, DataSpaceParserGrammar::definition));
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserContext;
 import org.finos.legend.engine.language.pure.grammar.from.SectionSourceCode;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
@@ -78,6 +79,6 @@ public class DataQualityGrammarParserExtension implements PureGrammarParserExten
                 sectionSourceCode.walkerSourceInformation,
                 lexer,
                 parser,
-                parser.definition());
+                PureGrammarParserUtility.parseWithSllFallback(parser, DataQualityParserGrammar::definition));
     }
 }
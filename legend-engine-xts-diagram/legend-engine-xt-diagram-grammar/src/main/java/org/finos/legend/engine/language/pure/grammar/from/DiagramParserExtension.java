@@ -66,6 +66,6 @@ public class DiagramParserExtension implements PureGrammarParserExtension
         DiagramParserGrammar parser = new DiagramParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, DiagramParserGrammar::definition));
     }
 }
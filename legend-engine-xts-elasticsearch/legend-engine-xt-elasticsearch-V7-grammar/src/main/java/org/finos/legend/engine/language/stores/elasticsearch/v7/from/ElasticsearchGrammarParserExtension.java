@@ -87,7 +87,7 @@ public class ElasticsearchGrammarParserExtension implements PureGrammarParserExt
         lexer.addErrorListener(errorListener);
         parser.addErrorListener(errorListener);
 
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ElasticsearchParserGrammar::definition));
     }
 
     private Elasticsearch7StoreConnection parseConnection(ConnectionValueSourceCode connectionValueSourceCode, PureGrammarParserExtensions extension)
@@ -108,6 +108,6 @@ public class ElasticsearchGrammarParserExtension implements PureGrammarParserExt
         lexer.addErrorListener(errorListener);
         parser.addErrorListener(errorListener);
 
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, rootContext.apply(parser));
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, rootContext));
     }
 }
@@ -16,6 +16,7 @@ package org.finos.legend.engine.external.format.flatdata.driver.core;
 
 import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharCursor;
 import org.finos.legend.engine.external.format.flatdata.driver.core.util.DelimitedLine;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.FlatDataUtils;
 import org.finos.legend.engine.external.format.flatdata.driver.core.util.LineReader;
 import org.finos.legend.engine.external.format.flatdata.driver.spi.FlatDataProcessingContext;
 import org.finos.legend.engine.external.format.flatdata.driver.spi.RawFlatData;
@@ -34,6 +35,9 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     static final String ESCAPING_CHAR = "escapingChar";
     static final String NULL_STRING = "nullString";
 
+    // Parse the lines of sections read until the end of the data concurrently, in chunks
+    private static final boolean PARALLEL_PARSING = Boolean.getBoolean("org.finos.legend.engine.flatdata.parallelDelimitedParsing");
+
     protected final DelimitedDriverHelper helper;
 
     DelimitedReadDriver(FlatDataSection section, FlatDataProcessingContext context)
@@ -45,6 +49,10 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     @Override
     protected LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier)
     {
+        if (PARALLEL_PARSING && FlatDataUtils.getBoolean(helper.section.sectionProperties, StreamingDriverHelper.SCOPE, StreamingDriverHelper.UNTIL_EOF) && ParallelDelimitedLineReader.supports(helper.eol, helper.delimiter))
+        {
+            return new ParallelDelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), lineNumberSupplier, helper.delimiter, helper.quoteChar, helper.escapeChar);
+        }
         return new DelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), lineNumberSupplier, helper.delimiter, helper.quoteChar, helper.escapeChar);
     }
 
@@ -0,0 +1,334 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core;
+
+import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharCursor;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.DelimitedLine;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.LineReader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads delimited lines by splitting the data into chunks of whole lines which are parsed concurrently by
+ * {@link DelimitedLineReader}s, the lines being returned in their original order.
+ * <p>
+ * Chunk boundaries are found by a scan which follows the transitions of the {@link DelimitedLineReader} state machine
+ * that decide where a line ends (quoted values can span several lines, escapes...), without building any value. Only
+ * single character delimiters and end of lines are supported, see {@link #supports(String, String)}.
+ * <p>
+ * The scan peeks at the whole chunk before advancing over it, so it is bounded to leave room in the connection buffer.
+ * A line too long to be scanned within that bound (a very large record, or a stray quote never closed) is read by a
+ * sequential {@link DelimitedLineReader} once the chunks before it have been read.
+ */
+class ParallelDelimitedLineReader implements LineReader
+{
+    // well below the capacity of the connection buffer, which must hold a whole chunk
+    static final int TARGET_CHUNK_CHARS = 16 * 1024;
+    // half the capacity of the connection buffer, which also holds the partly read blocks around the peeked characters
+    static final int MAX_SCAN_CHARS = 32 * 1024;
+
+    private static final int START_OF_VALUE = 0;
+    private static final int IN_UNQUOTED_VALUE = 1;
+    private static final int IN_QUOTED_VALUE = 2;
+    private static final int POSSIBLY_CLOSING_QUOTED_VALUE = 3;
+    private static final int AFTER_QUOTED_VALUE = 4;
+    private static final int SKIP_TO_NEXT_DELIMITER = 5;
+    private static final int SKIP_TO_CLOSING_QUOTE = 6;
+    private static final int POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING = 7;
+    private static final int ESCAPE_IN_UNQUOTED_VALUE = 8;
+    private static final int ESCAPE_IN_QUOTED_VALUE = 9;
+    private static final int ESCAPE_WHILE_SKIPPING_TO_DELIMITER = 10;
+
+    private final CharCursor cursor;
+    private final String eol;
+    private final String storePath;
+    private final LongSupplier lineNumberSupplier;
+    private final String delimiter;
+    private final String quoteChar;
+    private final String escapeChar;
+    private final int maxChunksInFlight;
+    private final DelimitedLineReader sequentialReader;
+    private final Deque<CompletableFuture<List<DelimitedLine>>> chunks = new ArrayDeque<>();
+    private Iterator<DelimitedLine> lines;
+    private int chunkLines;
+    private boolean sequentialLinePending;
+
+    ParallelDelimitedLineReader(CharCursor cursor, String eol, String storePath, LongSupplier lineNumberSupplier, String delimiter, String quoteChar, String escapeChar)
+    {
+        this.cursor = cursor;
+        this.eol = eol;
+        this.storePath = storePath;
+        this.lineNumberSupplier = lineNumberSupplier;
+        this.delimiter = delimiter;
+        this.quoteChar = quoteChar;
+        this.escapeChar = escapeChar;
+        this.maxChunksInFlight = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+        this.sequentialReader = new DelimitedLineReader(cursor, eol, storePath, lineNumberSupplier, delimiter, quoteChar, escapeChar);
+    }
+
+    static boolean supports(String eol, String delimiter)
+    {
+        return delimiter.length() == 1 && (eol == null || eol.length() == 1);
+    }
+
+    @Override
+    public DelimitedLine readLine()
+    {
+        while (lines == null || !lines.hasNext())
+        {
+            submitChunks();
+            if (chunks.isEmpty())
+            {
+                if (sequentialLinePending)
+                {
+                    sequentialLinePending = false;
+                    return sequentialReader.readLine();
+                }
+                throw new IllegalStateException("Unexpected EOF Reached");
+            }
+            try
+            {
+                lines = chunks.poll().join().iterator();
+            }
+            catch (CompletionException e)
+            {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return lines.next();
+    }
+
+    @Override
+    public boolean hasBufferedLines()
+    {
+        return (lines != null && lines.hasNext()) || !chunks.isEmpty() || sequentialLinePending;
+    }
+
+    private void submitChunks()
+    {
+        while (!sequentialLinePending && chunks.size() < maxChunksInFlight && !cursor.isEndOfData())
+        {
+            int length = scanChunk();
+            if (length < 0)
+            {
+                // the line is read sequentially once the chunks before it have been read
+                sequentialLinePending = true;
+                return;
+            }
+            // line numbers are allocated in order here, as the sequential reader would
+            long[] lineNumbers = new long[chunkLines];
+            for (int i = 0; i < lineNumbers.length; i++)
+            {
+                lineNumbers[i] = lineNumberSupplier.getAsLong();
+            }
+            char[] chars = cursor.advance(length);
+            chunks.add(CompletableFuture.supplyAsync(() -> parseChunk(chars, lineNumbers), ForkJoinPool.commonPool()));
+        }
+    }
+
+    private List<DelimitedLine> parseChunk(char[] chars, long[] lineNumbers)
+    {
+        CharArrayCursor chunkCursor = new CharArrayCursor(chars, 0);
+        int[] nextLine = {0};
+        DelimitedLineReader reader = new DelimitedLineReader(chunkCursor, eol, storePath, () -> lineNumbers[nextLine[0]++], delimiter, quoteChar, escapeChar);
+        List<DelimitedLine> result = new ArrayList<>(lineNumbers.length);
+        while (!chunkCursor.isEndOfData())
+        {
+            result.add(reader.readLine());
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of characters of the lines making the next chunk, the number of lines being left in chunkLines,
+     * or -1 when the next line is too long to be scanned
+     */
+    private int scanChunk()
+    {
+        int length = 0;
+        int lineStart = 0;
+        int state = START_OF_VALUE;
+        chunkLines = 0;
+        while (true)
+        {
+            if (length >= MAX_SCAN_CHARS)
+            {
+                return chunkLines > 0 ? lineStart : -1;
+            }
+            int ch = cursor.peek(length + 1);
+            if (ch == CharCursor.END_OF_DATA)
+            {
+                if (length > lineStart)
+                {
+                    chunkLines++;
+                }
+                return length;
+            }
+            length++;
+            if (state != IN_QUOTED_VALUE && isEol(ch))
+            {
+                if (eol == null && ch == '\r' && cursor.peek(length + 1) == '\n')
+                {
+                    length++;
+                }
+                chunkLines++;
+                if (length >= TARGET_CHUNK_CHARS)
+                {
+                    return length;
+                }
+                lineStart = length;
+                state = START_OF_VALUE;
+            }
+            else
+            {
+                state = nextState(state, ch);
+            }
+        }
+    }
+
+    private int nextState(int state, int ch)
+    {
+        switch (state)
+        {
+            case START_OF_VALUE:
+                return isDelimiter(ch) ? START_OF_VALUE
+                        : isEscape(ch) ? ESCAPE_IN_UNQUOTED_VALUE
+                        : Character.isWhitespace(ch) ? START_OF_VALUE
+                        : isQuote(ch) ? IN_QUOTED_VALUE
+                        : IN_UNQUOTED_VALUE;
+            case IN_UNQUOTED_VALUE:
+                return isEscape(ch) ? ESCAPE_IN_UNQUOTED_VALUE
+                        : isDelimiter(ch) ? START_OF_VALUE
+                        : IN_UNQUOTED_VALUE;
+            case IN_QUOTED_VALUE:
+                return isEscape(ch) ? ESCAPE_IN_QUOTED_VALUE
+                        : isQuote(ch) ? POSSIBLY_CLOSING_QUOTED_VALUE
+                        : IN_QUOTED_VALUE;
+            case POSSIBLY_CLOSING_QUOTED_VALUE:
+            case POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING:
+                return isQuote(ch) ? (state == POSSIBLY_CLOSING_QUOTED_VALUE ? IN_QUOTED_VALUE : SKIP_TO_CLOSING_QUOTE)
+                        : Character.isWhitespace(ch) ? AFTER_QUOTED_VALUE
+                        : isDelimiter(ch) ? START_OF_VALUE
+                        : SKIP_TO_NEXT_DELIMITER;
+            case AFTER_QUOTED_VALUE:
+                return Character.isWhitespace(ch) ? AFTER_QUOTED_VALUE
+                        : isDelimiter(ch) ? START_OF_VALUE
+                        : SKIP_TO_NEXT_DELIMITER;
+            case SKIP_TO_NEXT_DELIMITER:
+                return isEscape(ch) ? ESCAPE_WHILE_SKIPPING_TO_DELIMITER
+                        : isDelimiter(ch) ? START_OF_VALUE
+                        : SKIP_TO_NEXT_DELIMITER;
+            case SKIP_TO_CLOSING_QUOTE:
+                return isQuote(ch) ? POSSIBLY_CLOSING_QUOTED_VALUE_WHILE_SKIPPING : SKIP_TO_CLOSING_QUOTE;
+            case ESCAPE_IN_UNQUOTED_VALUE:
+                return isEscapable(ch) ? IN_UNQUOTED_VALUE : SKIP_TO_NEXT_DELIMITER;
+            case ESCAPE_IN_QUOTED_VALUE:
+                return isEscapable(ch) ? IN_QUOTED_VALUE : SKIP_TO_CLOSING_QUOTE;
+            case ESCAPE_WHILE_SKIPPING_TO_DELIMITER:
+                return SKIP_TO_NEXT_DELIMITER;
+            default:
+                throw new IllegalStateException("Unknown state " + state);
+        }
+    }
+
+    private boolean isEol(int ch)
+    {
+        return eol == null ? ch == '\n' || ch == '\r' : ch == eol.charAt(0);
+    }
+
+    private boolean isDelimiter(int ch)
+    {
+        return ch == delimiter.charAt(0);
+    }
+
+    private boolean isQuote(int ch)
+    {
+        return quoteChar != null && ch == quoteChar.charAt(0);
+    }
+
+    private boolean isEscape(int ch)
+    {
+        return escapeChar != null && ch == escapeChar.charAt(0);
+    }
+
+    private boolean isEscapable(int ch)
+    {
+        return isEscape(ch) || isDelimiter(ch) || isQuote(ch);
+    }
+
+    private static class CharArrayCursor implements CharCursor
+    {
+        private final char[] chars;
+        private int position;
+
+        private CharArrayCursor(char[] chars, int position)
+        {
+            this.chars = chars;
+            this.position = position;
+        }
+
+        @Override
+        public boolean isEndOfData()
+        {
+            return position >= chars.length;
+        }
+
+        @Override
+        public int advance()
+        {
+            return position < chars.length ? chars[position++] : END_OF_DATA;
+        }
+
+        @Override
+        public char[] advance(int howMany)
+        {
+            if (position + howMany > chars.length)
+            {
+                throw new IllegalStateException("Cannot advance beyond the end of the chunk");
+            }
+            char[] result = Arrays.copyOfRange(chars, position, position + howMany);
+            position += howMany;
+            return result;
+        }
+
+        @Override
+        public int peek(int ahead)
+        {
+            int index = position + ahead - 1;
+            return index < chars.length ? chars[index] : END_OF_DATA;
+        }
+
+        @Override
+        public CharCursor copy()
+        {
+            return new CharArrayCursor(chars, position);
+        }
+
+        @Override
+        public void destroy()
+        {
+            // Nothing to release
+        }
+    }
+}
@@ -196,7 +196,7 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
                 BooleanSupplier sectionHasConsumedAllItsRawLines;
                 if (FlatDataUtils.getBoolean(helper.section.sectionProperties, StreamingDriverHelper.SCOPE, StreamingDriverHelper.UNTIL_EOF))
                 {
-                    sectionHasConsumedAllItsRawLines = StreamingReadDriver.this.connection::isConsumedToEof;
+                    sectionHasConsumedAllItsRawLines = () -> StreamingReadDriver.this.connection.isConsumedToEof() && !lineReader.hasBufferedLines();
                 }
                 else if (FlatDataUtils.getString(helper.section.sectionProperties, StreamingDriverHelper.SCOPE, StreamingDriverHelper.UNTIL_LINE_EQUALS).isPresent())
                 {
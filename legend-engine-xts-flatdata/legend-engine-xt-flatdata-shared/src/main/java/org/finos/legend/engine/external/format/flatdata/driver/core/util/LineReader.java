@@ -18,6 +18,14 @@ public interface LineReader
 {
     Line readLine();
 
+    /**
+     * @return whether lines have been read ahead from the data, and so can be read even once the data is consumed
+     */
+    default boolean hasBufferedLines()
+    {
+        return false;
+    }
+
     interface Line
     {
         long getLineNumber();
@@ -23,6 +23,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public abstract class DateTimeParser implements ValueParser
@@ -49,6 +50,7 @@ public abstract class DateTimeParser implements ValueParser
     {
         private final List<String> possibleFormats;
         private final List<DateTimeFormatter> possibleFormatters;
+        private final Map<String, Boolean> replacesBst;
         private final ZoneId timeZone;
         private String format;
         private DateTimeFormatter formatter;
@@ -57,6 +59,7 @@ public abstract class DateTimeParser implements ValueParser
         {
             this.possibleFormats = formats;
             this.possibleFormatters = formats.stream().map(DateTimeFormatter::ofPattern).collect(Collectors.toList());
+            this.replacesBst = formats.stream().distinct().collect(Collectors.toMap(f -> f, f -> Arrays.asList(f.split(" ")).contains("zz")));
             this.timeZone = ZoneId.of(timeZone, ZoneId.SHORT_IDS);
             if (possibleFormats.size() == 1)
             {
@@ -174,7 +177,7 @@ public abstract class DateTimeParser implements ValueParser
         // TODO Allow configuration of this - in the interim zz implies do this while z or zzz will not invoke it
         private String fixTimezone(String s, String fmt)
         {
-            return Arrays.asList(fmt.split(" ")).contains("zz")
+            return replacesBst.get(fmt)
                     ? s.replace("BST", "+01:00")
                     : s;
         }
@@ -22,7 +22,8 @@ import java.util.regex.Pattern;
 
 public abstract class DecimalParser implements ValueParser
 {
-    private static final Predicate<String> DEFAULT_IS_VALID_DECIMAL = Pattern.compile("[+-]?(\\d+|\\d*\\.\\d+|\\d+\\.\\d*)([eE]\\d+)?").asPredicate();
+    // Same as finding [+-]?(\d+|\d*\.\d+|\d+\.\d*)([eE]\d+)? in the value, without running a regular expression on every value
+    private static final Predicate<String> DEFAULT_IS_VALID_DECIMAL = IntegerParser::containsDigit;
     private static final Predicate<String> VALID_FORMAT = Pattern.compile("#,#*(#|0+)(\\.0*#*)?(E\\d+)?").asPredicate();
 
     public abstract double parseDouble(String s) throws ParseException;
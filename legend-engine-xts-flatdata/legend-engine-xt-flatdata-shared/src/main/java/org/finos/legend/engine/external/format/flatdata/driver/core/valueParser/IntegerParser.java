@@ -23,7 +23,8 @@ import java.util.regex.Pattern;
 
 public abstract class IntegerParser implements ValueParser
 {
-    private static final Predicate<String> DEFAULT_IS_VALID_INTEGER = Pattern.compile("[+-]?\\d+").asPredicate();
+    // Same as finding [+-]?\d+ in the value, without running a regular expression on every value
+    private static final Predicate<String> DEFAULT_IS_VALID_INTEGER = IntegerParser::containsDigit;
     private static final Predicate<String> VALID_FORMAT = Pattern.compile("#,#*(#|0+)").asPredicate();
 
     public abstract long parseLong(String s) throws ParseException;
@@ -57,6 +58,19 @@ public abstract class IntegerParser implements ValueParser
         return VALID_FORMAT.test(format);
     }
 
+    static boolean containsDigit(String s)
+    {
+        for (int i = 0; i < s.length(); i++)
+        {
+            char ch = s.charAt(i);
+            if (ch >= '0' && ch <= '9')
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static class BasicIntegerParser extends IntegerParser
     {
         private static final String INVALID_INTEGER_MESSAGE = "Should be digits optionally preceded by '+' or '-'";
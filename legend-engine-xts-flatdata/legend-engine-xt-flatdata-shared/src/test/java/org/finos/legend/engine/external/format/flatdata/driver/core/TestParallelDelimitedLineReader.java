@@ -0,0 +1,142 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core;
+
+import org.finos.legend.engine.external.format.flatdata.driver.core.connection.BufferedReader;
+import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharCursor;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.DelimitedLine;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.LineReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestParallelDelimitedLineReader
+{
+    @Test
+    public void readsTheSameLinesAsTheSequentialReader()
+    {
+        String data = "a,b,c\n" +
+                "1,\"quoted, with delimiter\",3\r\n" +
+                "2,\"spanning\nlines\",x\r" +
+                "3,\"escaped \\\" quote\",\"doubled \"\" quote\"\n" +
+                "4,unquoted \\, escaped delimiter, \"after\" \n" +
+                "5,\"bad\" text,\"bad \\escape\nstill skipping\"\n" +
+                "6,\"unclosed\n";
+        assertSameLines(data, null, ",", "\"", "\\");
+        assertSameLines(data, "\n", ",", "\"", "\\");
+        assertSameLines(data.replace(',', '\t'), null, "\t", "\"", null);
+    }
+
+    @Test
+    public void readsLargeDataInOrder()
+    {
+        StringBuilder data = new StringBuilder("id,name,amount\n");
+        for (int i = 0; i < 20_000; i++)
+        {
+            data.append(i).append(",\"name ").append(i).append(i % 7 == 0 ? "\nsecond line" : "").append("\",").append(i * 1.5).append('\n');
+        }
+        Assert.assertTrue(data.length() > 4 * ParallelDelimitedLineReader.TARGET_CHUNK_CHARS);
+
+        List<DelimitedLine> lines = assertSameLines(data.toString(), null, ",", "\"", null);
+        Assert.assertEquals(20_001, lines.size());
+        Assert.assertEquals("19999", lines.get(20_000).getValues().get(0));
+        Assert.assertEquals(20_001, lines.get(20_000).getLineNumber());
+    }
+
+    @Test
+    public void readsRecordsTooLongToBeScanned()
+    {
+        StringBuilder largeValue = new StringBuilder();
+        while (largeValue.length() < ParallelDelimitedLineReader.MAX_SCAN_CHARS + 10_000)
+        {
+            largeValue.append("large value, with\nline breaks ");
+        }
+        StringBuilder data = new StringBuilder("id,value\n");
+        appendLines(data, 0, 1_000);
+        data.append("1000,\"").append(largeValue).append("\"\n");
+        appendLines(data, 1_001, 2_000);
+        Assert.assertTrue(ParallelDelimitedLineReader.TARGET_CHUNK_CHARS + largeValue.length() > 48 * 1024);
+
+        List<DelimitedLine> lines = assertSameLines(data.toString(), null, ",", "\"", null);
+        Assert.assertEquals(2_001, lines.size());
+        Assert.assertEquals(largeValue.toString(), lines.get(1_001).getValues().get(1));
+        Assert.assertEquals("1999", lines.get(2_000).getValues().get(0));
+    }
+
+    @Test
+    public void readsUnclosedQuoteUntilTheEndOfData()
+    {
+        StringBuilder data = new StringBuilder("id,value\n");
+        appendLines(data, 0, 1_000);
+        data.append("1000,\"unclosed\n");
+        appendLines(data, 1_001, 4_000);
+        Assert.assertTrue(data.length() > ParallelDelimitedLineReader.MAX_SCAN_CHARS + ParallelDelimitedLineReader.TARGET_CHUNK_CHARS);
+
+        List<DelimitedLine> lines = assertSameLines(data.toString(), null, ",", "\"", null);
+        Assert.assertEquals(1_002, lines.size());
+    }
+
+    @Test
+    public void supportsSingleCharacterDelimitersAndEndOfLines()
+    {
+        Assert.assertTrue(ParallelDelimitedLineReader.supports(null, ","));
+        Assert.assertTrue(ParallelDelimitedLineReader.supports("\n", "|"));
+        Assert.assertFalse(ParallelDelimitedLineReader.supports("\r\n", ","));
+        Assert.assertFalse(ParallelDelimitedLineReader.supports(null, "||"));
+    }
+
+    private List<DelimitedLine> assertSameLines(String data, String eol, String delimiter, String quoteChar, String escapeChar)
+    {
+        CharCursor sequentialCursor = new BufferedReader(4 * 1024, 64 * 1024, new StringReader(data)).openCursor();
+        AtomicLong sequentialLineNumber = new AtomicLong();
+        List<DelimitedLine> expected = readAll(sequentialCursor, new DelimitedLineReader(sequentialCursor, eol, "test", sequentialLineNumber::incrementAndGet, delimiter, quoteChar, escapeChar));
+
+        CharCursor parallelCursor = new BufferedReader(4 * 1024, 64 * 1024, new StringReader(data)).openCursor();
+        AtomicLong parallelLineNumber = new AtomicLong();
+        List<DelimitedLine> actual = readAll(parallelCursor, new ParallelDelimitedLineReader(parallelCursor, eol, "test", parallelLineNumber::incrementAndGet, delimiter, quoteChar, escapeChar));
+
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(expected.get(i).getLineNumber(), actual.get(i).getLineNumber());
+            Assert.assertEquals(expected.get(i).getText(), actual.get(i).getText());
+            Assert.assertEquals(expected.get(i).getValues(), actual.get(i).getValues());
+            Assert.assertEquals(expected.get(i).getDefects().size(), actual.get(i).getDefects().size());
+        }
+        return actual;
+    }
+
+    private static void appendLines(StringBuilder data, int from, int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            data.append(i).append(",value ").append(i).append('\n');
+        }
+    }
+
+    private List<DelimitedLine> readAll(CharCursor cursor, LineReader reader)
+    {
+        List<DelimitedLine> lines = new ArrayList<>();
+        while (!cursor.isEndOfData() || reader.hasBufferedLines())
+        {
+            lines.add((DelimitedLine) reader.readLine());
+        }
+        return lines;
+    }
+}
@@ -25,9 +25,12 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -42,29 +45,62 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public abstract class JsonDataReader<T>
 {
+    public static final String DECODE_PARALLELISM_PROPERTY_NAME = "org.finos.legend.engine.jsonDecodeParallelism";
+    private static final int DECODE_BATCH_SIZE_PER_THREAD = 64;
+    private static final ConcurrentMap<Integer, ForkJoinPool> DECODE_POOLS = new ConcurrentHashMap<>();
+
+    // Reflection on the generated readers is done once per class rather than once per record
+    private static final ClassValue<Set<String>> DECLARED_METHODS = new ClassValue<Set<String>>()
+    {
+        @Override
+        protected Set<String> computeValue(Class<?> type)
+        {
+            return Arrays.stream(type.getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+        }
+    };
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> READ_METHODS = new ClassValue<ConcurrentMap<String, MethodHandle>>()
+    {
+        @Override
+        protected ConcurrentMap<String, MethodHandle> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final SourceCapturingInputStream source;
     private final JsonParser parser;
     private final ObjectMapper objectMapper;
+    private final int decodeParallelism = Integer.getInteger(DECODE_PARALLELISM_PROPERTY_NAME, 1);
 
     private boolean finishedReading = false;
     private boolean inArray = false;
     private long recordCount = 0;
 
     private final Queue<IChecked<T>> queue = new LinkedList<>();
-    private final Set<String> declaredMethods = Arrays.stream(this.getClass().getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+    private final Set<String> declaredMethods = DECLARED_METHODS.get(this.getClass());
+    // Generated readers hold state while decoding a record, so each decoding thread borrows its own instance
+    private final Queue<JsonDataReader<T>> decoders = new ConcurrentLinkedQueue<>();
 
     public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
     {
         try
         {
-            JsonParser baseParser = new JsonFactory().createParser(in);
+            this.source = new SourceCapturingInputStream(in);
+            JsonParser baseParser = new JsonFactory().createParser(this.source);
             if (pathOffset != null)
             {
                 this.parser = new FilteringParserDelegate(baseParser, new JsonPointerBasedFilter(pathOffset), false, false);
@@ -122,12 +158,93 @@ public abstract class JsonDataReader<T>
     protected abstract IChecked<T> readCheckedObject(JsonNode node, JsonDataRecord source);
 
     private Collection<IChecked<T>> readCheckedObjects()
+    {
+        if (this.decodeParallelism > 1)
+        {
+            return readCheckedObjectsInParallel();
+        }
+        long start = recordStart();
+        JsonNode node = readNode();
+        return Collections.singleton(readCheckedObject(node, newRecord(start, node)));
+    }
+
+    /**
+     * Tokenizing the input is sequential, but once a batch of records is read decoding them into the generated classes
+     * is independent per record
+     */
+    private Collection<IChecked<T>> readCheckedObjectsInParallel()
+    {
+        List<JsonNode> nodes = new ArrayList<>();
+        List<JsonDataRecord> records = new ArrayList<>();
+        do
+        {
+            long start = recordStart();
+            JsonNode node = readNode();
+            nodes.add(node);
+            records.add(newRecord(start, node));
+        }
+        while (nodes.size() < DECODE_BATCH_SIZE_PER_THREAD * this.decodeParallelism && !isFinished());
+
+        if (nodes.size() == 1)
+        {
+            return Collections.singleton(readCheckedObject(nodes.get(0), records.get(0)));
+        }
+        try
+        {
+            ForkJoinPool pool = DECODE_POOLS.computeIfAbsent(this.decodeParallelism, ForkJoinPool::new);
+            return pool.submit(() -> IntStream.range(0, nodes.size()).parallel().mapToObj(i -> decode(nodes.get(i), records.get(i))).collect(Collectors.toList())).get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+        }
+    }
+
+    private IChecked<T> decode(JsonNode node, JsonDataRecord record)
+    {
+        JsonDataReader<T> decoder = this.decoders.poll();
+        if (decoder == null)
+        {
+            decoder = newDecoder();
+        }
+        try
+        {
+            return decoder.readCheckedObject(node, record);
+        }
+        finally
+        {
+            this.decoders.add(decoder);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonDataReader<T> newDecoder()
+    {
+        try
+        {
+            return this.getClass().getConstructor(InputStream.class).newInstance(new ByteArrayInputStream(new byte[0]));
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new RuntimeException("Unable to create a decoder for parallel reading of " + this.getClass().getName(), e);
+        }
+    }
+
+    private JsonNode readNode()
     {
         try
         {
             this.recordCount++;
-            JsonNode node = this.objectMapper.readValue(this.parser, JsonNode.class);
-            return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node.toString())));
+            return this.objectMapper.readValue(this.parser, JsonNode.class);
         }
         catch (IOException e)
         {
@@ -135,6 +252,23 @@ public abstract class JsonDataReader<T>
         }
     }
 
+    private long recordStart()
+    {
+        long start = this.parser.getTokenLocation().getByteOffset();
+        this.source.discardBefore(start);
+        return start;
+    }
+
+    /**
+     * The record keeps the bytes it was read from rather than the parsed node, and renders them as text only if it is
+     * requested. Parsers over text that is not UTF-8 do not report byte offsets, so their records are rendered now.
+     */
+    private JsonDataRecord newRecord(long start, JsonNode node)
+    {
+        byte[] bytes = this.source.capture(start, this.parser.getCurrentLocation().getByteOffset());
+        return bytes == null ? new JsonDataRecord(this.recordCount, node.toString()) : new JsonDataRecord(this.recordCount, bytes, this.objectMapper);
+    }
+
     private boolean isFinished()
     {
         nextToken();
@@ -194,21 +328,28 @@ public abstract class JsonDataReader<T>
 
     protected Object readMethodInvoke(String name, JsonNode node)
     {
-        Method m;
+        MethodHandle m = READ_METHODS.get(this.getClass()).computeIfAbsent(name, this::findReadMethod);
         try
         {
-            m = this.getClass().getMethod(name, JsonNode.class);
+            return m.invoke(this, node);
         }
-        catch (NoSuchMethodException e)
+        catch (Error e)
         {
-            throw new RuntimeException(e.getMessage());
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new RuntimeException(e.getMessage(), e);
         }
+    }
 
+    private MethodHandle findReadMethod(String name)
+    {
         try
         {
-            return m.invoke(this, node);
+            return MethodHandles.publicLookup().unreflect(this.getClass().getMethod(name, JsonNode.class));
         }
-        catch (IllegalAccessException | InvocationTargetException e)
+        catch (NoSuchMethodException | IllegalAccessException e)
         {
             throw new RuntimeException(e.getMessage());
         }
@@ -427,4 +568,86 @@ public abstract class JsonDataReader<T>
             throw new org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException(errorMessage);
         }
     }
+
+    /**
+     * Keeps the bytes read since the start of the current record, so that the record can be captured once it is parsed
+     */
+    private static class SourceCapturingInputStream extends FilterInputStream
+    {
+        private byte[] buffer = new byte[8192];
+        private long bufferOffset = 0;
+        private int length = 0;
+
+        SourceCapturingInputStream(InputStream in)
+        {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            int b = super.read();
+            if (b >= 0)
+            {
+                ensureCapacity(1);
+                this.buffer[this.length++] = (byte) b;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            int read = super.read(b, off, len);
+            if (read > 0)
+            {
+                ensureCapacity(read);
+                System.arraycopy(b, off, this.buffer, this.length, read);
+                this.length += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException
+        {
+            return Math.max(read(new byte[(int) Math.min(n, 8192)]), 0);
+        }
+
+        @Override
+        public boolean markSupported()
+        {
+            return false;
+        }
+
+        // A negative offset is unknown, so nothing read so far can be captured
+        void discardBefore(long offset)
+        {
+            int discarded = offset < 0 ? this.length : (int) Math.min(Math.max(offset - this.bufferOffset, 0), this.length);
+            System.arraycopy(this.buffer, discarded, this.buffer, 0, this.length - discarded);
+            this.length -= discarded;
+            this.bufferOffset += discarded;
+        }
+
+        byte[] capture(long start, long end)
+        {
+            if (start < this.bufferOffset || end <= start || end > this.bufferOffset + this.length)
+            {
+                discardBefore(end);
+                return null;
+            }
+            int from = (int) (start - this.bufferOffset);
+            byte[] captured = Arrays.copyOfRange(this.buffer, from, from + (int) (end - start));
+            discardBefore(end);
+            return captured;
+        }
+
+        private void ensureCapacity(int extra)
+        {
+            if (this.length + extra > this.buffer.length)
+            {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.length + extra));
+            }
+        }
+    }
 }
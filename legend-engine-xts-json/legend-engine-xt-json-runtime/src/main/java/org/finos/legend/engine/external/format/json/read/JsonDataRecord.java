@@ -14,10 +14,16 @@
 
 package org.finos.legend.engine.external.format.json.read;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
 public class JsonDataRecord
 {
     private final long number;
-    private final String record;
+    private String record;
+    private byte[] source;
+    private ObjectMapper objectMapper;
 
     public JsonDataRecord(long number, String record)
     {
@@ -25,14 +31,38 @@ public class JsonDataRecord
         this.record = record;
     }
 
+    /**
+     * The text of the record is only rendered from the bytes it was read from if it is requested, typically to report
+     * a defect
+     */
+    public JsonDataRecord(long number, byte[] source, ObjectMapper objectMapper)
+    {
+        this.number = number;
+        this.source = source;
+        this.objectMapper = objectMapper;
+    }
+
     public long getNumber()
     {
         return number;
     }
 
-    public String getRecord()
+    public synchronized String getRecord()
     {
-        return record;
+        if (this.record == null && this.source != null)
+        {
+            try
+            {
+                this.record = this.objectMapper.readTree(this.source).toString();
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+            this.source = null;
+            this.objectMapper = null;
+        }
+        return this.record;
     }
 
     public String typePath$()
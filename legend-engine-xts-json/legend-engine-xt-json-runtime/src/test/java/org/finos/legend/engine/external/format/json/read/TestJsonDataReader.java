@@ -0,0 +1,159 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.external.format.json.read;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestJsonDataReader
+{
+    @After
+    public void clearDecodeParallelism()
+    {
+        System.clearProperty(JsonDataReader.DECODE_PARALLELISM_PROPERTY_NAME);
+    }
+
+    @Test
+    public void testReadsArrayAndNewlineDelimitedRecords()
+    {
+        Assert.assertEquals("[1:alice, 2:bob]", read("[{\"name\": \"alice\"}, {\"name\": \"bob\"}]").toString());
+        Assert.assertEquals("[1:alice, 2:bob, 3:carol]", read("{\"name\": \"alice\"}\n{\"name\": \"bob\"}\n{\"name\": \"carol\"}\n").toString());
+    }
+
+    @Test
+    public void testRecordSourceIsRenderedOnRequest()
+    {
+        List<IChecked<String>> checked = new NameReader(new ByteArrayInputStream("{\"name\": \"alice\"}".getBytes(StandardCharsets.UTF_8))).startStream().collect(Collectors.toList());
+        JsonDataRecord record = (JsonDataRecord) checked.get(0).getSource();
+        Assert.assertEquals(1, record.getNumber());
+        Assert.assertEquals("{\"name\":\"alice\"}", record.getRecord());
+    }
+
+    @Test
+    public void testRecordSourceIsCapturedFromTheInput()
+    {
+        String longName = IntStream.range(0, 20000).mapToObj(i -> "x").collect(Collectors.joining());
+        String json = "[\n  {\"name\": \"zo\u00eb\"},\n  {\n    \"name\": \"" + longName + "\"\n  },\n  {\"name\": \"bob\"}\n]";
+        List<String> expected = Arrays.asList("{\"name\":\"zo\u00eb\"}", "{\"name\":\"" + longName + "\"}", "{\"name\":\"bob\"}");
+
+        Assert.assertEquals(expected, records(json.getBytes(StandardCharsets.UTF_8)));
+        // text that is not UTF-8 is not read by byte offset, so its records are rendered as they are read
+        Assert.assertEquals(expected, records(json.getBytes(StandardCharsets.UTF_16)));
+    }
+
+    @Test
+    public void testParallelDecodingKeepsRecordOrder()
+    {
+        String json = IntStream.range(0, 1000).mapToObj(i -> "{\"name\": \"name-" + i + "\"}").collect(Collectors.joining("\n"));
+        List<String> sequential = read(json);
+
+        System.setProperty(JsonDataReader.DECODE_PARALLELISM_PROPERTY_NAME, "4");
+        List<String> parallel = read(json);
+
+        Assert.assertEquals(1000, parallel.size());
+        Assert.assertEquals("1:name-0", parallel.get(0));
+        Assert.assertEquals("1000:name-999", parallel.get(999));
+        Assert.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testErrorsAreNotWrapped()
+    {
+        String json = "{\"name\": \"alice\"}\n{\"name\": \"bob\"}\n{\"name\": \"carol\"}\n";
+        assertReadFailsWithError(json);
+
+        System.setProperty(JsonDataReader.DECODE_PARALLELISM_PROPERTY_NAME, "4");
+        assertReadFailsWithError(json);
+    }
+
+    private static void assertReadFailsWithError(String json)
+    {
+        try
+        {
+            new FailingNameReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).startStream().collect(Collectors.toList());
+            Assert.fail("Expected the read to fail");
+        }
+        catch (AssertionError e)
+        {
+            // an error rethrown by the fork join pool can be a copy of the error thrown by the worker, caused by it
+            Throwable thrown = e.getMessage() == null ? e.getCause() : e;
+            Assert.assertEquals("cannot read bob", thrown.getMessage());
+        }
+    }
+
+    private static List<String> records(byte[] json)
+    {
+        return new NameReader(new ByteArrayInputStream(json)).startStream()
+                .map(c -> ((JsonDataRecord) c.getSource()).getRecord())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> read(String json)
+    {
+        return new NameReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).startStream()
+                .map(c -> ((JsonDataRecord) c.getSource()).getNumber() + ":" + c.getValue())
+                .collect(Collectors.toList());
+    }
+
+    public static class NameReader extends JsonDataReader<String>
+    {
+        public NameReader(InputStream in)
+        {
+            super(in, false, null);
+        }
+
+        @Override
+        protected IChecked<String> readCheckedObject(JsonNode node, JsonDataRecord source)
+        {
+            return BasicChecked.newChecked((String) readMethodInvoke("readName", node), source);
+        }
+
+        public String readName(JsonNode node)
+        {
+            return acceptString(node.path("name"));
+        }
+    }
+
+    public static class FailingNameReader extends NameReader
+    {
+        public FailingNameReader(InputStream in)
+        {
+            super(in);
+        }
+
+        @Override
+        public String readName(JsonNode node)
+        {
+            String name = super.readName(node);
+            if ("bob".equals(name))
+            {
+                throw new AssertionError("cannot read " + name);
+            }
+            return name;
+        }
+    }
+}
@@ -67,7 +67,7 @@ public class MongoDBGrammarParserExtension implements IMongoDBGrammarParserExten
         MongoDBSchemaParserGrammar parser = new MongoDBSchemaParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, MongoDBSchemaParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getMongoDBConnectionParserInfo(ConnectionValueSourceCode connectionValueSourceCode)
@@ -80,7 +80,7 @@ public class MongoDBGrammarParserExtension implements IMongoDBGrammarParserExten
         MongoDBConnectionParserGrammar parser = new MongoDBConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, MongoDBConnectionParserGrammar::definition));
     }
 
     @Override
@@ -122,7 +122,7 @@ public class MongoDBGrammarParserExtension implements IMongoDBGrammarParserExten
         MongoDBMappingParserGrammar parser = new MongoDBMappingParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        MongoDBMappingParserGrammar.DefinitionContext definitionContext = parser.definition();
+        MongoDBMappingParserGrammar.DefinitionContext definitionContext = PureGrammarParserUtility.parseWithSllFallback(parser, MongoDBMappingParserGrammar::definition);
         ParserRuleContext classMapppingCtx = definitionContext.classMapping();
         return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, classMapppingCtx);
     }
@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.dsl.persistence.grammar.from.IPersistenceParserExtension;
 import org.finos.legend.engine.language.pure.dsl.persistence.grammar.from.context.PersistencePlatformSourceCode;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.PersistenceCloudLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.PersistenceCloudParserGrammar;
 import org.finos.legend.engine.protocol.pure.v1.model.context.EngineErrorType;
@@ -72,6 +73,6 @@ public class PersistenceCloudParserExtension implements IPersistenceParserExtens
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return function.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, function);
     }
 }
@@ -30,6 +30,14 @@ public interface RelationalTransactionManager
 
     boolean executeInCurrentTransaction(String sql) throws SQLException;
 
+    default void executeBatchInCurrentTransaction(List<String> sqls) throws SQLException
+    {
+        for (String sql : sqls)
+        {
+            executeInCurrentTransaction(sql);
+        }
+    }
+
     List<Map<String, Object>> convertResultSetToList(String sql) throws SQLException;
 
     List<Map<String, Object>> convertResultSetToList(String sql, int rows) throws SQLException;
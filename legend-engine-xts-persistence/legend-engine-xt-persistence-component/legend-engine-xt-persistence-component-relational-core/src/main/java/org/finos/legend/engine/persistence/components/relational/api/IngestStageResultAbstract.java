@@ -34,4 +34,8 @@ public abstract class IngestStageResultAbstract
     public abstract String ingestionEndTimestampUTC();
 
     public abstract Map<StatisticName, Object> statisticByName();
+
+    // Wall clock time spent in each phase of the ingestion, not part of the equality of results
+    @Value.Auxiliary
+    public abstract Map<IngestPhase, Long> phaseTimingsInMillis();
 }
@@ -52,6 +52,10 @@ public abstract class IngestorResultAbstract
 
     public abstract String ingestionEndTimestampUTC();
 
+    // Wall clock time spent in each phase of the ingestion, not part of the equality of results
+    @Value.Auxiliary
+    public abstract Map<IngestPhase, Long> phaseTimingsInMillis();
+
     @Value.Default
     public boolean previouslyProcessed()
     {
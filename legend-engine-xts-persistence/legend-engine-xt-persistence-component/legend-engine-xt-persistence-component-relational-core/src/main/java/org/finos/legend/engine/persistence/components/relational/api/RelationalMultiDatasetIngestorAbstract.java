@@ -58,6 +58,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -569,10 +570,13 @@ public abstract class RelationalMultiDatasetIngestorAbstract
             try
             {
                 // 1. Check if staging dataset is empty
+                Map<IngestPhase, Long> phaseTimings = new EnumMap<>(IngestPhase.class);
                 Resources.Builder resourcesBuilder = Resources.builder();
                 if (enrichedIngestMode.accept(IngestModeVisitors.NEED_TO_CHECK_STAGING_EMPTY) && executor.datasetExists(enrichedDatasets.stagingDataset()))
                 {
+                    long phaseStart = System.currentTimeMillis();
                     boolean isStagingDatasetEmpty = IngestionUtils.datasetEmpty(enrichedDatasets.stagingDataset(), transformer, executor, placeHolderKeyValues);
+                    IngestionUtils.recordPhaseTiming(phaseTimings, IngestPhase.STAGING_EMPTY_CHECK, phaseStart);
                     LOGGER.info(String.format("Checking if staging dataset is empty : {%s}", isStagingDatasetEmpty));
                     resourcesBuilder.stagingDataSetEmpty(isStagingDatasetEmpty);
                 }
@@ -583,7 +587,9 @@ public abstract class RelationalMultiDatasetIngestorAbstract
                 // 3. Perform deduplication and versioning
                 if (generatorResult.deduplicationAndVersioningSqlPlan().isPresent())
                 {
+                    long phaseStart = System.currentTimeMillis();
                     IngestionUtils.dedupAndVersion(executor, generatorResult, enrichedDatasets, caseConversion(), placeHolderKeyValues);
+                    IngestionUtils.recordPhaseTiming(phaseTimings, IngestPhase.DEDUPLICATION_AND_VERSIONING, phaseStart);
                 }
 
                 // 4. Perform ingestion
@@ -614,7 +620,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
                 }
 
                 // 5. Build ingest stage result
-                List<IngestStageResult> mappedResults = Collections.unmodifiableList(ingestorResults.stream().map(this::buildIngestStageResult).collect(Collectors.toList()));
+                List<IngestStageResult> mappedResults = Collections.unmodifiableList(ingestorResults.stream().map(ingestorResult -> buildIngestStageResult(ingestorResult, phaseTimings)).collect(Collectors.toList()));
                 ingestStageResults.addAll(mappedResults);
 
                 ingestStageCallBack().ifPresent(ingestStageCallBack -> ingestStageCallBack.onStageSuccess(dataset, batchId, ingestStageMetadata.ingestMode(), mappedResults));
@@ -653,12 +659,14 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         }
     }
 
-    private IngestStageResult buildIngestStageResult(IngestorResult ingestorResult)
+    private IngestStageResult buildIngestStageResult(IngestorResult ingestorResult, Map<IngestPhase, Long> stagePhaseTimings)
     {
         return IngestStageResult.builder()
             .ingestionStartTimestampUTC(ingestorResult.ingestionTimestampUTC())
             .ingestionEndTimestampUTC(ingestorResult.ingestionEndTimestampUTC())
             .putAllStatisticByName(ingestorResult.statisticByName())
+            .putAllPhaseTimingsInMillis(stagePhaseTimings)
+            .putAllPhaseTimingsInMillis(ingestorResult.phaseTimingsInMillis())
             .build();
     }
 
@@ -159,9 +159,11 @@ public class IngestionUtils
             // Extract the Placeholders values
             Map<String, PlaceholderValue> placeHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, dataSplitRange, additionalMetadata, executionTimestampClock, batchId);
             // Load main table, extract stats and update metadata table
-            Map<StatisticName, Object> statisticsResultMap = loadData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock);
+            Map<IngestPhase, Long> phaseTimings = new EnumMap<>(IngestPhase.class);
+            Map<StatisticName, Object> statisticsResultMap = loadData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock, phaseTimings);
             IngestorResult result = IngestorResult.builder()
                 .putAllStatisticByName(statisticsResultMap)
+                .putAllPhaseTimingsInMillis(phaseTimings)
                 .updatedDatasets(datasets)
                 .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
                 .dataSplitRange(dataSplitRange)
@@ -179,24 +181,39 @@ public class IngestionUtils
         return results;
     }
 
-    private static Map<StatisticName, Object> loadData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues, Clock executionTimestampClock)
+    private static Map<StatisticName, Object> loadData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues, Clock executionTimestampClock, Map<IngestPhase, Long> phaseTimings)
     {
         // Extract preIngest Statistics
+        long phaseStart = System.currentTimeMillis();
         Map<StatisticName, Object> statisticsResultMap = new HashMap<>(
             executeStatisticsPhysicalPlan(executor, generatorResult.preIngestStatisticsSqlPlan(), placeHolderKeyValues));
+        phaseStart = recordPhaseTiming(phaseTimings, IngestPhase.PRE_INGEST_STATISTICS, phaseStart);
         // Execute ingest SqlPlan
         executor.executePhysicalPlan(generatorResult.ingestSqlPlan(), placeHolderKeyValues);
+        phaseStart = recordPhaseTiming(phaseTimings, IngestPhase.INGEST, phaseStart);
         // Extract postIngest Statistics
         statisticsResultMap.putAll(
             executeStatisticsPhysicalPlan(executor, generatorResult.postIngestStatisticsSqlPlan(), placeHolderKeyValues));
+        phaseStart = recordPhaseTiming(phaseTimings, IngestPhase.POST_INGEST_STATISTICS, phaseStart);
         // Execute metadata ingest SqlPlan
         // add batchEndTimestamp
         placeHolderKeyValues.put(BATCH_END_TS_PATTERN, PlaceholderValue.of(LocalDateTime.now(executionTimestampClock).format(DATE_TIME_FORMATTER), false));
         placeHolderKeyValues.put(MetadataUtils.BATCH_STATISTICS_PATTERN, PlaceholderValue.of(writeValueAsString(statisticsResultMap), false));
         executor.executePhysicalPlan(generatorResult.metadataIngestSqlPlan(), placeHolderKeyValues);
+        recordPhaseTiming(phaseTimings, IngestPhase.METADATA_INGEST, phaseStart);
         return statisticsResultMap;
     }
 
+    /**
+     * Records the time elapsed since phaseStart against the phase and returns the end of the phase
+     */
+    public static long recordPhaseTiming(Map<IngestPhase, Long> phaseTimings, IngestPhase phase, long phaseStart)
+    {
+        long phaseEnd = System.currentTimeMillis();
+        phaseTimings.merge(phase, phaseEnd - phaseStart, Long::sum);
+        return phaseEnd;
+    }
+
     private static Map<StatisticName, Object> executeStatisticsPhysicalPlan(Executor<SqlGen, TabularData, SqlPlan> executor,
                                                                      Map<StatisticName, SqlPlan> statisticsSqlPlan,
                                                                      Map<String, PlaceholderValue> placeHolderKeyValues)
@@ -59,13 +59,14 @@ public class RelationalExecutor implements Executor<SqlGen, TabularData, SqlPlan
     @Override
     public void executePhysicalPlan(SqlPlan physicalPlan, Map<String, PlaceholderValue> placeholderKeyValues)
     {
-        List<String> sqlList = physicalPlan.getSqlList();
-        for (String sql : sqlList)
+        List<String> enrichedSqlList = new ArrayList<>();
+        for (String sql : physicalPlan.getSqlList())
         {
             String enrichedSql = SqlUtils.getEnrichedSql(placeholderKeyValues, sql, BATCH_ID_PATTERN);
             SqlUtils.logSql(LOGGER, sqlLogging, sql, enrichedSql, placeholderKeyValues, BATCH_ID_PATTERN);
-            relationalExecutionHelper.executeStatement(enrichedSql);
+            enrichedSqlList.add(enrichedSql);
         }
+        relationalExecutionHelper.executeStatements(enrichedSqlList);
     }
 
     @Override
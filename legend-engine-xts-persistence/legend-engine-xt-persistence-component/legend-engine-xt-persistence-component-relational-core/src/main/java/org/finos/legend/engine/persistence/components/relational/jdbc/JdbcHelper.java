@@ -59,6 +59,10 @@ public class JdbcHelper implements RelationalExecutionHelper
     protected final Connection connection;
     private RelationalTransactionManager transactionManager;
 
+    // Catalog metadata read while a transaction is open, dropped at the end of the transaction or when a statement may change the schema
+    private final Map<String, Set<String>> tableNamesBySchema = new HashMap<>();
+    private final Map<String, SchemaDefinition> schemaDefinitionsByTable = new HashMap<>();
+
     public static final String TYPE_NAME = "TYPE_NAME";
     public static final String DATA_TYPE = "DATA_TYPE";
     public static final String COLUMN_SIZE = "COLUMN_SIZE";
@@ -68,6 +72,9 @@ public class JdbcHelper implements RelationalExecutionHelper
     public static final String BOOL_TRUE_STRING_VALUE = "YES";
     public static final String INDEX_NAME = "INDEX_NAME";
     public static final String NON_UNIQUE = "NON_UNIQUE";
+    public static final String TABLE_NAME = "TABLE_NAME";
+
+    private static final Pattern DATA_STATEMENT = Pattern.compile("^\\s*(INSERT|UPDATE|DELETE|MERGE|SELECT|WITH)\\b", Pattern.CASE_INSENSITIVE);
 
     public static JdbcHelper of(Connection connection)
     {
@@ -94,6 +101,7 @@ public class JdbcHelper implements RelationalExecutionHelper
     {
         try
         {
+            clearMetadataCache();
             this.transactionManager = intializeTransactionManager(connection);
             this.transactionManager.beginTransaction();
         }
@@ -124,6 +132,7 @@ public class JdbcHelper implements RelationalExecutionHelper
     {
         if (this.transactionManager != null)
         {
+            clearMetadataCache();
             try
             {
                 this.transactionManager.revertTransaction();
@@ -151,6 +160,7 @@ public class JdbcHelper implements RelationalExecutionHelper
             finally
             {
                 this.transactionManager = null;
+                clearMetadataCache();
             }
         }
     }
@@ -163,6 +173,10 @@ public class JdbcHelper implements RelationalExecutionHelper
             String name = dataset.datasetReference().name().orElseThrow(IllegalStateException::new);
             String database = dataset.datasetReference().database().orElse(null);
             String schema = dataset.datasetReference().group().orElse(null);
+            if (this.transactionManager != null)
+            {
+                return getTableNames(database, schema).contains(name);
+            }
             try (ResultSet result = this.connection.getMetaData().getTables(database, schema, name, new String[] {Clause.TABLE.get()}))
             {
                 return result.isBeforeFirst(); // This method returns true if ResultSet is not empty
@@ -174,6 +188,48 @@ public class JdbcHelper implements RelationalExecutionHelper
         }
     }
 
+    /**
+     * Lists the tables of the whole schema with a single catalog query, so that checking the existence of the datasets of
+     * an ingestion does not cost a round trip per dataset
+     */
+    private Set<String> getTableNames(String database, String schema) throws SQLException
+    {
+        String key = metadataCacheKey(database, schema);
+        Set<String> tableNames = this.tableNamesBySchema.get(key);
+        if (tableNames == null)
+        {
+            tableNames = new HashSet<>();
+            try (ResultSet result = this.connection.getMetaData().getTables(database, schema, null, new String[] {Clause.TABLE.get()}))
+            {
+                while (result.next())
+                {
+                    tableNames.add(result.getString(TABLE_NAME));
+                }
+            }
+            this.tableNamesBySchema.put(key, tableNames);
+        }
+        return tableNames;
+    }
+
+    private void clearMetadataCache()
+    {
+        this.tableNamesBySchema.clear();
+        this.schemaDefinitionsByTable.clear();
+    }
+
+    private void clearMetadataCacheIfSchemaMayChange(List<String> sqls)
+    {
+        if (sqls.stream().anyMatch(sql -> !DATA_STATEMENT.matcher(sql).find()))
+        {
+            clearMetadataCache();
+        }
+    }
+
+    private static String metadataCacheKey(String... parts)
+    {
+        return String.join("\n", parts);
+    }
+
     @Override
     public void validateDatasetSchema(Dataset dataset, TypeMapping typeMapping)
     {
@@ -286,6 +342,12 @@ public class JdbcHelper implements RelationalExecutionHelper
                 throw new IllegalStateException("Only JdbcPropertiesToLogicalDataTypeMapping allowed in constructDatasetFromDatabase");
             }
             JdbcPropertiesToLogicalDataTypeMapping mapping = (JdbcPropertiesToLogicalDataTypeMapping) typeMapping;
+            String cacheKey = metadataCacheKey(databaseName, schemaName, tableName, String.valueOf(escape), mapping.getClass().getName());
+            SchemaDefinition cachedSchemaDefinition = this.transactionManager == null ? null : this.schemaDefinitionsByTable.get(cacheKey);
+            if (cachedSchemaDefinition != null)
+            {
+                return DatasetDefinition.builder().name(tableName).database(databaseName).group(schemaName).schema(cachedSchemaDefinition).datasetAdditionalProperties(dataset.datasetAdditionalProperties()).build();
+            }
             DatabaseMetaData dbMetaData = this.connection.getMetaData();
 
             // Get primary keys
@@ -365,6 +427,10 @@ public class JdbcHelper implements RelationalExecutionHelper
             }
 
             SchemaDefinition schemaDefinition = SchemaDefinition.builder().addAllFields(fields).addAllIndexes(indices).build();
+            if (this.transactionManager != null)
+            {
+                this.schemaDefinitionsByTable.put(cacheKey, schemaDefinition);
+            }
             return DatasetDefinition.builder().name(tableName).database(databaseName).group(schemaName).schema(schemaDefinition).datasetAdditionalProperties(dataset.datasetAdditionalProperties()).build();
         }
         catch (SQLException e)
@@ -428,14 +494,12 @@ public class JdbcHelper implements RelationalExecutionHelper
     @Override
     public void executeStatements(List<String> sqls)
     {
+        clearMetadataCacheIfSchemaMayChange(sqls);
         if (this.transactionManager != null)
         {
             try
             {
-                for (String sql : sqls)
-                {
-                    this.transactionManager.executeInCurrentTransaction(sql);
-                }
+                this.transactionManager.executeBatchInCurrentTransaction(sqls);
             }
             catch (SQLException e)
             {
@@ -449,10 +513,7 @@ public class JdbcHelper implements RelationalExecutionHelper
             {
                 txManager = intializeTransactionManager(connection);
                 txManager.beginTransaction();
-                for (String sql : sqls)
-                {
-                    txManager.executeInCurrentTransaction(sql);
-                }
+                txManager.executeBatchInCurrentTransaction(sqls);
                 txManager.commitTransaction();
             }
             catch (SQLException e)
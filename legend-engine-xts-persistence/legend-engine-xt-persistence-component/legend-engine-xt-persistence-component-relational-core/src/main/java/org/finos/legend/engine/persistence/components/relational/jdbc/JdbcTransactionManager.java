@@ -17,6 +17,7 @@ package org.finos.legend.engine.persistence.components.relational.jdbc;
 import org.finos.legend.engine.persistence.components.executor.RelationalTransactionManager;
 
 import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -26,12 +27,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class JdbcTransactionManager implements RelationalTransactionManager
 {
+    private static final Pattern DML_STATEMENT = Pattern.compile("^\\s*(INSERT|UPDATE|DELETE|MERGE)\\b", Pattern.CASE_INSENSITIVE);
+
     protected final Statement statement;
     private Connection connection;
     private boolean previousAutoCommit;
+    private Boolean supportsBatchUpdates;
 
     public JdbcTransactionManager(Connection connection) throws SQLException
     {
@@ -78,6 +83,89 @@ public class JdbcTransactionManager implements RelationalTransactionManager
         return this.statement.execute(sql);
     }
 
+    /**
+     * Sends each run of consecutive DML statements to the database in a single round trip when the driver supports
+     * batches, other statements (DDL, queries) being executed on their own. The statements are still executed in order
+     */
+    public void executeBatchInCurrentTransaction(List<String> sqls) throws SQLException
+    {
+        if (sqls.size() < 2 || !this.supportsBatchUpdates())
+        {
+            RelationalTransactionManager.super.executeBatchInCurrentTransaction(sqls);
+            return;
+        }
+        int from = 0;
+        while (from < sqls.size())
+        {
+            int to = from;
+            while (to < sqls.size() && DML_STATEMENT.matcher(sqls.get(to)).find())
+            {
+                to++;
+            }
+            if (to - from > 1)
+            {
+                executeBatch(sqls.subList(from, to));
+                from = to;
+            }
+            else
+            {
+                this.executeInCurrentTransaction(sqls.get(from));
+                from++;
+            }
+        }
+    }
+
+    private void executeBatch(List<String> sqls) throws SQLException
+    {
+        try
+        {
+            for (String sql : sqls)
+            {
+                this.statement.addBatch(sql);
+            }
+            this.statement.executeBatch();
+        }
+        catch (BatchUpdateException e)
+        {
+            int failedIndex = failedStatementIndex(e.getUpdateCounts(), sqls.size());
+            String failedStatement = failedIndex < 0 ? "A statement of a batch of " + sqls.size() + " failed" : "Statement " + (failedIndex + 1) + " of a batch of " + sqls.size() + " failed: " + sqls.get(failedIndex);
+            throw new BatchUpdateException(failedStatement + ". " + e.getMessage(), e.getSQLState(), e.getErrorCode(), e.getUpdateCounts(), e);
+        }
+        finally
+        {
+            this.statement.clearBatch();
+        }
+    }
+
+    /**
+     * Drivers either stop at the failing statement, returning the update counts of the statements before it, or go on
+     * and flag the failing statements as failed
+     */
+    private static int failedStatementIndex(int[] updateCounts, int batchSize)
+    {
+        if (updateCounts == null)
+        {
+            return -1;
+        }
+        for (int i = 0; i < updateCounts.length; i++)
+        {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED)
+            {
+                return i;
+            }
+        }
+        return updateCounts.length < batchSize ? updateCounts.length : -1;
+    }
+
+    private boolean supportsBatchUpdates() throws SQLException
+    {
+        if (this.supportsBatchUpdates == null)
+        {
+            this.supportsBatchUpdates = this.connection.getMetaData().supportsBatchUpdates();
+        }
+        return this.supportsBatchUpdates;
+    }
+
     // todo: find a better way to return both the data and schema
     public List<Map<String, Object>> convertResultSetToList(String sql) throws SQLException
     {
@@ -15,11 +15,16 @@
 package org.finos.legend.engine.persistence.components.relational.jdbc;
 
 import org.finos.legend.engine.persistence.components.executor.RelationalExecutionHelper;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DatasetReferenceImpl;
+import org.finos.legend.engine.persistence.components.relational.exception.ConstraintViolationException;
 import org.finos.legend.engine.persistence.components.relational.h2.H2Sink;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class JdbcHelperTest
 {
@@ -45,4 +50,57 @@ public class JdbcHelperTest
         list2.add("INSERT INTO PERSON VALUES (2, 'B', '2021-01-01 00:00:00')");
         sink.executeStatements(list2);
     }
+
+    @Test
+    void testMetadataCacheAndBatchedStatementsInTransaction() throws Exception
+    {
+        RelationalExecutionHelper sink = JdbcHelper.of(H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL));
+        sink.executeStatement(H2_CREATE_TEST_SCHEMA_SQL);
+        DatasetReferenceImpl address = DatasetReferenceImpl.builder().group(TEST_SCHEMA).name("ADDRESS").build();
+        DatasetReferenceImpl city = DatasetReferenceImpl.builder().group(TEST_SCHEMA).name("CITY").build();
+
+        sink.beginTransaction();
+        try
+        {
+            Assertions.assertFalse(sink.doesTableExist(address));
+            Assertions.assertFalse(sink.doesTableExist(city));
+
+            // Schema changes invalidate the cached table names
+            sink.executeStatements(Arrays.asList(
+                "CREATE TABLE TEST_SCHEMA.ADDRESS(ID INT PRIMARY KEY, STREET VARCHAR(255))",
+                "INSERT INTO TEST_SCHEMA.ADDRESS VALUES (1, 'A')",
+                "INSERT INTO TEST_SCHEMA.ADDRESS VALUES (2, 'B')"));
+            Assertions.assertTrue(sink.doesTableExist(address));
+            Assertions.assertFalse(sink.doesTableExist(city));
+
+            sink.executeStatements(Arrays.asList(
+                "INSERT INTO TEST_SCHEMA.ADDRESS VALUES (3, 'C')",
+                "UPDATE TEST_SCHEMA.ADDRESS SET STREET = 'D' WHERE ID = 1"));
+            sink.commitTransaction();
+        }
+        finally
+        {
+            sink.closeTransactionManager();
+        }
+
+        List<Map<String, Object>> rows = sink.executeQuery("SELECT COUNT(*) AS CNT, SUM(CASE WHEN STREET = 'D' THEN 1 ELSE 0 END) AS UPDATED FROM TEST_SCHEMA.ADDRESS");
+        Assertions.assertEquals(3L, ((Number) rows.get(0).get("CNT")).longValue());
+        Assertions.assertEquals(1L, ((Number) rows.get(0).get("UPDATED")).longValue());
+        Assertions.assertTrue(sink.doesTableExist(address));
+    }
+
+    @Test
+    void testFailingBatchedStatementIsReported() throws Exception
+    {
+        RelationalExecutionHelper sink = JdbcHelper.of(H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL));
+        sink.executeStatement(H2_CREATE_TEST_SCHEMA_SQL);
+
+        // DDL runs on its own, the DML statements which follow it are batched
+        ConstraintViolationException e = Assertions.assertThrows(ConstraintViolationException.class, () -> sink.executeStatements(Arrays.asList(
+            "CREATE TABLE TEST_SCHEMA.ACCOUNT(ID INT PRIMARY KEY, NAME VARCHAR(255))",
+            "INSERT INTO TEST_SCHEMA.ACCOUNT VALUES (1, 'A')",
+            "INSERT INTO TEST_SCHEMA.ACCOUNT VALUES (2, 'B')",
+            "INSERT INTO TEST_SCHEMA.ACCOUNT VALUES (1, 'C')")));
+        Assertions.assertTrue(e.getMessage().startsWith("Statement 3 of a batch of 3 failed: INSERT INTO TEST_SCHEMA.ACCOUNT VALUES (1, 'C')"), e.getMessage());
+    }
 }
@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.dsl.persistence.grammar.from.IPersistenceParserExtension;
 import org.finos.legend.engine.language.pure.dsl.persistence.grammar.from.PersistenceTargetSourceCode;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.protocol.pure.v1.model.context.EngineErrorType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.persistence.sink.PersistenceTarget;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
@@ -72,6 +73,6 @@ public class PersistenceRelationalParserExtension implements IPersistenceParserE
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return function.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, function);
     }
 }
@@ -18,6 +18,8 @@ public enum IngestionMethod
 {
     BATCH_INSERT,
     CLIENT_FILE,
-    DIRECT_INSERT
+    DIRECT_INSERT,
+    // rows are bound to a prepared INSERT and sent in JDBC batches, without intermediate files or SQL literals
+    PREPARED_BATCH
 
     }
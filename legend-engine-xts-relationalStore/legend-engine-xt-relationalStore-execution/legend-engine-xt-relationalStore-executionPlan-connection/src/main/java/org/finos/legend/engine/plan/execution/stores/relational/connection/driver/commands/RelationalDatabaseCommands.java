@@ -46,6 +46,14 @@ public abstract class RelationalDatabaseCommands
 
     public abstract IngestionMethod getDefaultIngestionMethod();
 
+    /**
+     * @return whether temp tables can be staged with the given ingestion method, databases support their default one
+     */
+    public boolean supportsIngestionMethod(IngestionMethod ingestionMethod)
+    {
+        return ingestionMethod == this.getDefaultIngestionMethod();
+    }
+
     public boolean supportsHeaderOnCsvFile()
     {
         return true;
@@ -52,6 +52,12 @@ public class H2Commands extends RelationalDatabaseCommands
         return IngestionMethod.CLIENT_FILE;
     }
 
+    @Override
+    public boolean supportsIngestionMethod(IngestionMethod ingestionMethod)
+    {
+        return ingestionMethod == IngestionMethod.PREPARED_BATCH || super.supportsIngestionMethod(ingestionMethod);
+    }
+
     @Override
     public String load(String tableName, String location)
     {
@@ -25,8 +25,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -40,6 +43,11 @@ public class LocalH2DataSourceSpecification extends StaticDataSourceSpecificatio
     private static final int MAX_POOL_SIZE = 100;
     private static final int MIN_POOL_SIZE = 0;
 
+    // Every pooled connection gets its own private in-memory database, which is otherwise seeded again each time the
+    // connection is borrowed. Only enable when the tests using the data do not modify it.
+    private static final String SEED_ONCE_PER_CONNECTION = "org.finos.legend.engine.relational.localH2.seedOncePerConnection";
+    private static final Map<Connection, List<String>> SEEDED_CONNECTIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
     public LocalH2DataSourceSpecification(List<String> setupSQLs, DatabaseManager databaseManager, AuthenticationStrategy authenticationStrategy)
     {
         super(new LocalH2DataSourceSpecificationKey(setupSQLs), databaseManager, authenticationStrategy, new Properties(), MAX_POOL_SIZE, MIN_POOL_SIZE);
@@ -57,7 +65,7 @@ public class LocalH2DataSourceSpecification extends StaticDataSourceSpecificatio
         LocalH2DataSourceSpecificationKey _key = (LocalH2DataSourceSpecificationKey) this.datasourceKey;
 
 
-        if (_key.getTestDataSetupSqls() != null && !_key.getTestDataSetupSqls().isEmpty())
+        if (_key.getTestDataSetupSqls() != null && !_key.getTestDataSetupSqls().isEmpty() && !isSeeded(connection, _key.getTestDataSetupSqls()))
         {
             try
             {
@@ -85,6 +93,10 @@ public class LocalH2DataSourceSpecification extends StaticDataSourceSpecificatio
                         statement.executeUpdate(sql);
                     }
                 }
+                if (Boolean.getBoolean(SEED_ONCE_PER_CONNECTION))
+                {
+                    SEEDED_CONNECTIONS.put(physicalConnection(connection), _key.getTestDataSetupSqls());
+                }
             }
             catch (SQLException e)
             {
@@ -94,5 +106,23 @@ public class LocalH2DataSourceSpecification extends StaticDataSourceSpecificatio
         return connection;
     }
 
+    private static boolean isSeeded(Connection connection, List<String> setupSQLs)
+    {
+        return Boolean.getBoolean(SEED_ONCE_PER_CONNECTION) && setupSQLs.equals(SEEDED_CONNECTIONS.get(physicalConnection(connection)));
+    }
+
+    private static Connection physicalConnection(Connection connection)
+    {
+        try
+        {
+            // the pool hands out a new proxy every time a connection is borrowed
+            return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        }
+        catch (SQLException e)
+        {
+            return connection;
+        }
+    }
+
 
 }
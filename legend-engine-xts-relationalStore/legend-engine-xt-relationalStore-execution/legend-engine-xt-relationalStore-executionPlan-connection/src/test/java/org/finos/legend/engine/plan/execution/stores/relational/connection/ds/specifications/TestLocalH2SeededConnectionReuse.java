@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.security.auth.Subject;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class TestLocalH2SeededConnectionReuse
+{
+    private static final String SEED_ONCE_PER_CONNECTION = "org.finos.legend.engine.relational.localH2.seedOncePerConnection";
+
+    @After
+    public void clearSeedOncePerConnection()
+    {
+        System.clearProperty(SEED_ONCE_PER_CONNECTION);
+    }
+
+    @Test
+    public void testReusedConnectionIsNotSeededAgain() throws Exception
+    {
+        System.setProperty(SEED_ONCE_PER_CONNECTION, "true");
+        LocalH2DataSourceSpecification specification = newSpecification("SEEDED_ONCE");
+
+        Connection physicalConnection;
+        try (Connection connection = getConnection(specification))
+        {
+            physicalConnection = connection.unwrap(Connection.class);
+            Assert.assertEquals(1, countRows(connection, "SEEDED_ONCE"));
+            insertRow(connection, "SEEDED_ONCE");
+        }
+
+        try (Connection connection = getConnection(specification))
+        {
+            Assert.assertSame(physicalConnection, connection.unwrap(Connection.class));
+            // the row added by the previous borrower is still there, as the setup SQLs did not run again
+            Assert.assertEquals(2, countRows(connection, "SEEDED_ONCE"));
+        }
+    }
+
+    @Test
+    public void testConnectionIsSeededOnEveryBorrowByDefault() throws Exception
+    {
+        LocalH2DataSourceSpecification specification = newSpecification("SEEDED_ON_BORROW");
+
+        try (Connection connection = getConnection(specification))
+        {
+            Assert.assertEquals(1, countRows(connection, "SEEDED_ON_BORROW"));
+            insertRow(connection, "SEEDED_ON_BORROW");
+        }
+
+        try (Connection connection = getConnection(specification))
+        {
+            Assert.assertEquals(1, countRows(connection, "SEEDED_ON_BORROW"));
+        }
+    }
+
+    private static LocalH2DataSourceSpecification newSpecification(String table)
+    {
+        return new LocalH2DataSourceSpecification(
+                Lists.mutable.with("drop table if exists " + table + ";", "create table " + table + "(id INT);", "insert into " + table + " values (1);"),
+                new H2Manager(),
+                new TestDatabaseAuthenticationStrategy());
+    }
+
+    private static Connection getConnection(LocalH2DataSourceSpecification specification)
+    {
+        return specification.getConnectionUsingIdentity(Identity.makeIdentity((Subject) null), TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier());
+    }
+
+    private static int countRows(Connection connection, String table) throws SQLException
+    {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select count(*) from " + table))
+        {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static void insertRow(Connection connection, String table) throws SQLException
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.executeUpdate("insert into " + table + " values (2)");
+        }
+    }
+}
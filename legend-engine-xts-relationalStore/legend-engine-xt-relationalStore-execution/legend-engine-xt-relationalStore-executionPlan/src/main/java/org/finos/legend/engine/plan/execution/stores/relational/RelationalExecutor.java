@@ -46,9 +46,11 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.drive
 import org.finos.legend.engine.plan.execution.stores.relational.connection.manager.ConnectionManagerSelector;
 import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.relational.result.DeferredRelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.FetchSizePolicy;
 import org.finos.legend.engine.plan.execution.stores.relational.result.PreparedTempTableResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResultCache;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtension;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtensionLoader;
 import org.finos.legend.engine.plan.execution.stores.relational.result.SQLExecutionResult;
@@ -82,6 +84,8 @@ public class RelationalExecutor
 
     private final ConnectionManagerSelector connectionManager;
     private final RelationalExecutionConfiguration relationalExecutionConfiguration;
+    private final FetchSizePolicy fetchSizePolicy;
+    private final RelationalResultCache resultCache;
     private MutableList<Function2<ExecutionState, List<Map<String, Object>>, Result>> resultInterpreterExtensions;
 
     private static final MutableMap<String, String> DATA_TYPE_RELATIONAL_TYPE_MAP = Maps.mutable.empty();
@@ -110,6 +114,8 @@ public class RelationalExecutor
         this.flowProviderHolder = flowProviderHolder;
         this.connectionManager = new ConnectionManagerSelector(temporarytestdb, relationalExecutionConfiguration.oauthProfiles, flowProviderHolder);
         this.relationalExecutionConfiguration = relationalExecutionConfiguration;
+        this.fetchSizePolicy = new FetchSizePolicy(relationalExecutionConfiguration.getRelationalFetchSizeConfig());
+        this.resultCache = relationalExecutionConfiguration.getRelationalResultCacheConfig() != null && relationalExecutionConfiguration.getRelationalResultCacheConfig().isEnabled() ? new RelationalResultCache(relationalExecutionConfiguration.getRelationalResultCacheConfig()) : null;
         this.resultInterpreterExtensions = Iterate.addAllTo(ResultInterpreterExtensionLoader.extensions(), Lists.mutable.empty()).collect(ResultInterpreterExtension::additionalResultBuilder);
     }
 
@@ -143,7 +149,7 @@ public class RelationalExecutor
         {
             if ((ExecutionNodeTDSResultHelper.isResultTDS(node) || (ExecutionNodeResultHelper.isResultSizeRangeSet(node) && !ExecutionNodeResultHelper.isSingleRecordResult(node))) && !executionState.realizeInMemory)
             {
-                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.fetchSizePolicy, this.newResultCacheScope(node, identity, databaseTypeName, tempTableList, executionState));
             }
             else if (node.isResultVoid())
             {
@@ -152,7 +158,7 @@ public class RelationalExecutor
             else
             {
                 // Refactor and clean up the flush to Constant
-                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.fetchSizePolicy, this.newResultCacheScope(node, identity, databaseTypeName, tempTableList, executionState));
 
                 if (node.isResultPrimitiveType())
                 {
@@ -207,7 +213,25 @@ public class RelationalExecutor
         }
         else
         {
-            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.fetchSizePolicy, this.newResultCacheScope(node, identity, databaseTypeName, tempTableList, executionState));
+        }
+    }
+
+    private RelationalResultCache.Scope newResultCacheScope(RelationalExecutionNode node, Identity identity, String databaseTypeName, List<String> tempTableList, ExecutionState executionState)
+    {
+        // results computed from temporary tables depend on more than the SQL of the query
+        if (this.resultCache == null || !tempTableList.isEmpty())
+        {
+            return null;
+        }
+        try
+        {
+            return this.resultCache.newScope(identity, this.connectionManager.generateKeyFromDatabaseConnection(node.connection).shortId(), databaseTypeName, executionState.getRequestContext());
+        }
+        catch (RuntimeException e)
+        {
+            LOGGER.debug("Relational result not cached, no key for connection {}", node.connection.getClass().getSimpleName());
+            return null;
         }
     }
 
@@ -17,9 +17,11 @@ package org.finos.legend.engine.plan.execution.stores.relational;
 import com.google.common.collect.Iterators;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
+import org.finos.legend.engine.plan.execution.result.date.EngineDate;
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResultCSVSerializer;
 import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer;
@@ -42,17 +44,27 @@ import org.slf4j.Logger;
 
 import java.io.ByteArrayOutputStream;
 import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
 import java.util.Iterator;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StreamResultToTempTableVisitor implements RelationalDatabaseCommandsVisitor<Boolean>
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(StreamResultToTempTableVisitor.class);
+    private static final int PREPARED_BATCH_SIZE = 1000;
 
     public RelationalExecutionConfiguration config;
     public Connection connection;
@@ -76,12 +88,29 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
     {
         if (this.ingestionMethod == null)
         {
-            this.ingestionMethod = databaseCommands.getDefaultIngestionMethod();
+            IngestionMethod configuredIngestionMethod = this.config == null ? null : this.config.getTempTableIngestionMethod();
+            if (configuredIngestionMethod != null && databaseCommands.supportsIngestionMethod(configuredIngestionMethod) && this.supportsResult(configuredIngestionMethod))
+            {
+                this.ingestionMethod = configuredIngestionMethod;
+            }
+            else
+            {
+                this.ingestionMethod = databaseCommands.getDefaultIngestionMethod();
+                if (configuredIngestionMethod != null && configuredIngestionMethod != this.ingestionMethod)
+                {
+                    LOGGER.warn("Temp table ingestion method " + configuredIngestionMethod + " is not supported by " + databaseCommands.getClass().getSimpleName() + " for " + this.result.getClass().getSimpleName() + ", using " + this.ingestionMethod + " instead");
+                }
+            }
         }
 
         return this.streamResultToTable(databaseCommands);
     }
 
+    private boolean supportsResult(IngestionMethod ingestionMethod)
+    {
+        return ingestionMethod != IngestionMethod.PREPARED_BATCH || this.result instanceof RelationalResult || this.result instanceof RealizedRelationalResult;
+    }
+
     public Boolean streamResultToTable(RelationalDatabaseCommands dbCommands)
     {
         if (ingestionMethod == IngestionMethod.CLIENT_FILE)
@@ -156,6 +185,36 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         {
             streamResultToNewTarget(((RelationalResult) result).resultSet, connection, tableName, 100);
         }
+        else if (ingestionMethod == IngestionMethod.PREPARED_BATCH)
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute(dbCommands.dropTempTable(tableName));
+                if (result instanceof RelationalResult)
+                {
+                    RelationalResult relationalResult = (RelationalResult) result;
+                    List<Column> columns = result.getResultBuilder() instanceof TDSBuilder ?
+                            relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList()) :
+                            relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                    checkedExecute(statement, dbCommands.createTempTable(tableName, columns));
+                    preparedBatchInsertResultSet(relationalResult.resultSet, relationalResult.getRelationalDatabaseTimeZone(), connection, tableName, PREPARED_BATCH_SIZE);
+                }
+                else if (result instanceof RealizedRelationalResult)
+                {
+                    RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
+                    checkedExecute(statement, dbCommands.createTempTable(tableName, realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList())));
+                    preparedBatchInsertRows(realizedRelationalResult, connection, tableName, PREPARED_BATCH_SIZE);
+                }
+                else
+                {
+                    throw new RuntimeException("Result not supported yet for " + ingestionMethod + ": " + result.getClass().getName());
+                }
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
         return true;
     }
 
@@ -233,6 +292,117 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         }
     }
 
+    private static String preparedInsert(String targetTableName, int columnCount)
+    {
+        return "INSERT INTO " + targetTableName + " VALUES (" + String.join(",", Collections.nCopies(columnCount, "?")) + ")";
+    }
+
+    private void preparedBatchInsertResultSet(ResultSet source, String sourceTimeZone, Connection targetConnection, String targetTableName, int batchSize) throws SQLException
+    {
+        // timestamps are read in the time zone of the source database, and written in the one of the target database
+        Calendar sourceCalendar = new GregorianCalendar(TimeZone.getTimeZone(sourceTimeZone == null ? "GMT" : sourceTimeZone));
+        ResultSetMetaData metaData = source.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        int[] columnTypes = new int[columnCount + 1];
+        for (int c = 1; c <= columnCount; c++)
+        {
+            columnTypes[c] = metaData.getColumnType(c);
+        }
+        try (Scope ignored = GlobalTracer.get().buildSpan("temp table prepared batch insert").withTag("tableName", targetTableName).startActive(true);
+             PreparedStatement statement = targetConnection.prepareStatement(preparedInsert(targetTableName, columnCount)))
+        {
+            int pending = 0;
+            while (source.next())
+            {
+                for (int c = 1; c <= columnCount; c++)
+                {
+                    Object value = columnTypes[c] == Types.TIMESTAMP ? source.getTimestamp(c, sourceCalendar) : source.getObject(c);
+                    if (value == null)
+                    {
+                        statement.setNull(c, columnTypes[c]);
+                    }
+                    else if (columnTypes[c] == Types.TIMESTAMP)
+                    {
+                        statement.setString(c, (String) ResultNormalizer.normalizeToSql(PureDate.fromSQLTimestamp((Timestamp) value), this.databaseTimeZone));
+                    }
+                    else
+                    {
+                        statement.setObject(c, value, columnTypes[c]);
+                    }
+                }
+                statement.addBatch();
+                if (++pending == batchSize)
+                {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void preparedBatchInsertRows(RealizedRelationalResult realizedRelationalResult, Connection targetConnection, String targetTableName, int batchSize) throws SQLException
+    {
+        int columnCount = realizedRelationalResult.columns.size();
+        int[] columnTypes = realizedRelationalResult.columns.stream().mapToInt(c -> toJdbcType(c.dataType)).toArray();
+        try (Scope ignored = GlobalTracer.get().buildSpan("temp table prepared batch insert").withTag("tableName", targetTableName).startActive(true);
+             PreparedStatement statement = targetConnection.prepareStatement(preparedInsert(targetTableName, columnCount)))
+        {
+            int pending = 0;
+            for (List<Object> row : realizedRelationalResult.resultSetRows)
+            {
+                for (int c = 1; c <= columnCount; c++)
+                {
+                    Object value = row.get(c - 1);
+                    if (value == null)
+                    {
+                        statement.setNull(c, columnTypes[c - 1]);
+                    }
+                    else if (value instanceof PureDate || value instanceof EngineDate)
+                    {
+                        // dates are bound in their SQL literal form, leaving the conversion to the target column type to the database
+                        statement.setString(c, (String) ResultNormalizer.normalizeToSql(value, this.databaseTimeZone));
+                    }
+                    else
+                    {
+                        statement.setObject(c, value);
+                    }
+                }
+                statement.addBatch();
+                if (++pending == batchSize)
+                {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static int toJdbcType(String dataType)
+    {
+        if (dataType != null)
+        {
+            int parameters = dataType.indexOf('(');
+            String typeName = (parameters < 0 ? dataType : dataType.substring(0, parameters)).trim().toUpperCase().replace(' ', '_');
+            try
+            {
+                return JDBCType.valueOf(typeName).getVendorTypeNumber();
+            }
+            catch (IllegalArgumentException ignored)
+            {
+                // not a standard SQL type name
+            }
+        }
+        return Types.VARCHAR;
+    }
+
     private String parseObjectForInsert(Object value)
     {  //TODO:: This probably doesn't work for complex types
         return value instanceof CharSequence ? "'" + value.toString() + "'" : value.toString();
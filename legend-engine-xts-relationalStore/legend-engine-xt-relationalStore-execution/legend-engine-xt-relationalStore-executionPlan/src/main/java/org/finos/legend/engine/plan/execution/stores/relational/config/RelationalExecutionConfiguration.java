@@ -22,6 +22,7 @@ import org.finos.legend.engine.authentication.provider.DatabaseAuthenticationFlo
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.OAuthProfile;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 
 import java.util.List;
 
@@ -35,6 +36,12 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     private CredentialProviderProvider credentialProviderProvider;
     @JsonProperty
     private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+    @JsonProperty
+    private RelationalFetchSizeConfig relationalFetchSizeConfig;
+    @JsonProperty
+    private RelationalResultCacheConfig relationalResultCacheConfig;
+    @JsonProperty
+    private IngestionMethod tempTableIngestionMethod;
 
     @Override
     public StoreType getStoreType()
@@ -96,6 +103,25 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return this.relationalGraphFetchExecutionConfig;
     }
 
+    public RelationalFetchSizeConfig getRelationalFetchSizeConfig()
+    {
+        return this.relationalFetchSizeConfig;
+    }
+
+    public RelationalResultCacheConfig getRelationalResultCacheConfig()
+    {
+        return this.relationalResultCacheConfig;
+    }
+
+    /**
+     * @return the ingestion method used to stage results in temporary tables, or null to use the database default.
+     * Databases which do not support this method, or results it cannot stage, still use the database default.
+     */
+    public IngestionMethod getTempTableIngestionMethod()
+    {
+        return this.tempTableIngestionMethod;
+    }
+
     public static class Builder
     {
         public String tempPath;
@@ -105,6 +131,9 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
         private CredentialProviderProvider credentialProviderProvider;
         private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+        private RelationalFetchSizeConfig relationalFetchSizeConfig;
+        private RelationalResultCacheConfig relationalResultCacheConfig;
+        private IngestionMethod tempTableIngestionMethod;
 
         public Builder withTempPath(String tempPath)
         {
@@ -151,6 +180,24 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withRelationalFetchSizeConfig(RelationalFetchSizeConfig config)
+        {
+            this.relationalFetchSizeConfig = config;
+            return this;
+        }
+
+        public Builder withRelationalResultCacheConfig(RelationalResultCacheConfig config)
+        {
+            this.relationalResultCacheConfig = config;
+            return this;
+        }
+
+        public Builder withTempTableIngestionMethod(IngestionMethod tempTableIngestionMethod)
+        {
+            this.tempTableIngestionMethod = tempTableIngestionMethod;
+            return this;
+        }
+
         public RelationalExecutionConfiguration build()
         {
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
@@ -161,6 +208,9 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
             relationalExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
             relationalExecutionConfiguration.relationalGraphFetchExecutionConfig = relationalGraphFetchExecutionConfig;
+            relationalExecutionConfiguration.relationalFetchSizeConfig = relationalFetchSizeConfig;
+            relationalExecutionConfiguration.relationalResultCacheConfig = relationalResultCacheConfig;
+            relationalExecutionConfiguration.tempTableIngestionMethod = tempTableIngestionMethod;
             return relationalExecutionConfiguration;
         }
     }
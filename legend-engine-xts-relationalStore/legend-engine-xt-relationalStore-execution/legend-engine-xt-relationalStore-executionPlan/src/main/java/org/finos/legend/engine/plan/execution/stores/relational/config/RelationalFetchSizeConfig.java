@@ -0,0 +1,81 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RelationalFetchSizeConfig
+{
+    public static final boolean DEFAULT_ADAPTIVE = false;
+    public static final int DEFAULT_MIN_FETCH_SIZE = 100;
+    public static final int DEFAULT_MAX_FETCH_SIZE = 10_000;
+    public static final long DEFAULT_TARGET_FETCH_BYTES = 4_194_304L; /* 4MB - 4 * 1024 * 1024 */
+
+    @JsonProperty
+    private final boolean adaptive;
+    @JsonProperty
+    private final int minFetchSize;
+    @JsonProperty
+    private final int maxFetchSize;
+    @JsonProperty
+    private final long targetFetchBytes;
+    @JsonProperty
+    private final Map<String, Integer> fetchSizePerDatabaseTypeOverrides;
+
+    public RelationalFetchSizeConfig()
+    {
+        this(DEFAULT_ADAPTIVE, DEFAULT_MIN_FETCH_SIZE, DEFAULT_MAX_FETCH_SIZE, DEFAULT_TARGET_FETCH_BYTES, new HashMap<>());
+    }
+
+    public RelationalFetchSizeConfig(boolean adaptive, int minFetchSize, int maxFetchSize, long targetFetchBytes, Map<String, Integer> fetchSizePerDatabaseTypeOverrides)
+    {
+        this.adaptive = adaptive;
+        this.minFetchSize = minFetchSize;
+        this.maxFetchSize = maxFetchSize;
+        this.targetFetchBytes = targetFetchBytes;
+        this.fetchSizePerDatabaseTypeOverrides = fetchSizePerDatabaseTypeOverrides;
+    }
+
+    public boolean isAdaptive()
+    {
+        return this.adaptive;
+    }
+
+    public int getMinFetchSize()
+    {
+        return this.minFetchSize;
+    }
+
+    public int getMaxFetchSize()
+    {
+        return this.maxFetchSize;
+    }
+
+    public long getTargetFetchBytes()
+    {
+        return this.targetFetchBytes;
+    }
+
+    /**
+     * @return the configured fetch size for the database type, or null if the driver default should be used
+     */
+    public Integer getFetchSizeForDatabaseType(String databaseType)
+    {
+        return this.fetchSizePerDatabaseTypeOverrides == null ? null : this.fetchSizePerDatabaseTypeOverrides.get(databaseType);
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RelationalResultCacheConfig
+{
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final long DEFAULT_TTL_SECONDS = 300;
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 268_435_456L; /* 256MB - 256 * 1024 * 1024 */
+    public static final long DEFAULT_MAX_ENTRY_BYTES = 16_777_216L; /* 16MB - 16 * 1024 * 1024 */
+    public static final long DEFAULT_MAX_DISK_BYTES = 2_147_483_648L; /* 2GB - 2 * 1024 * 1024 * 1024 */
+
+    @JsonProperty
+    private final boolean enabled;
+    @JsonProperty
+    private final long ttlSeconds;
+    @JsonProperty
+    private final long maxMemoryBytes;
+    @JsonProperty
+    private final long maxEntryBytes;
+    @JsonProperty
+    private final String diskDirectory;
+    @JsonProperty
+    private final long maxDiskBytes;
+    @JsonProperty
+    private final Map<String, Long> ttlSecondsPerService;
+
+    public RelationalResultCacheConfig()
+    {
+        this(DEFAULT_ENABLED, DEFAULT_TTL_SECONDS, DEFAULT_MAX_MEMORY_BYTES, DEFAULT_MAX_ENTRY_BYTES, null, DEFAULT_MAX_DISK_BYTES, new HashMap<>());
+    }
+
+    public RelationalResultCacheConfig(boolean enabled, long ttlSeconds, long maxMemoryBytes, long maxEntryBytes, String diskDirectory, long maxDiskBytes, Map<String, Long> ttlSecondsPerService)
+    {
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.diskDirectory = diskDirectory;
+        this.maxDiskBytes = maxDiskBytes;
+        this.ttlSecondsPerService = ttlSecondsPerService;
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    public long getMaxMemoryBytes()
+    {
+        return this.maxMemoryBytes;
+    }
+
+    public long getMaxEntryBytes()
+    {
+        return this.maxEntryBytes;
+    }
+
+    /**
+     * @return the directory results evicted from memory are spilled to, or null if results are only cached in memory
+     */
+    public String getDiskDirectory()
+    {
+        return this.diskDirectory;
+    }
+
+    public long getMaxDiskBytes()
+    {
+        return this.maxDiskBytes;
+    }
+
+    /**
+     * @return how long the results of a request are cached, 0 meaning they are not, based on the longest service path
+     * which is the path of the referral of the request or one of its parent paths (falling back to the default time to live)
+     */
+    public long getTtlSeconds(String referral)
+    {
+        String path = referralPath(referral);
+        if (this.ttlSecondsPerService == null || path == null)
+        {
+            return this.ttlSeconds;
+        }
+        String matchedServicePath = null;
+        for (String servicePath : this.ttlSecondsPerService.keySet())
+        {
+            boolean matches = path.equals(servicePath) || path.startsWith(servicePath.endsWith("/") ? servicePath : servicePath + "/");
+            if (matches && (matchedServicePath == null || servicePath.length() > matchedServicePath.length()))
+            {
+                matchedServicePath = servicePath;
+            }
+        }
+        return matchedServicePath == null ? this.ttlSeconds : this.ttlSecondsPerService.get(matchedServicePath);
+    }
+
+    private static String referralPath(String referral)
+    {
+        if (referral == null)
+        {
+            return null;
+        }
+        String path = referral;
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0)
+        {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart < 0 ? "/" : path.substring(pathStart);
+        }
+        int queryStart = path.indexOf('?');
+        path = queryStart < 0 ? path : path.substring(0, queryStart);
+        int fragmentStart = path.indexOf('#');
+        return fragmentStart < 0 ? path : path.substring(0, fragmentStart);
+    }
+}
@@ -18,7 +18,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterators;
+import com.google.common.hash.Hashing;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
@@ -143,6 +146,7 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -174,6 +178,8 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
     private MutableList<Function2<ExecutionState, List<Map<String, Object>>, Result>> resultInterpreterExtensions;
     private Identity identity;
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    // the tree and query of a plan node do not change once the plan is built, so its key is computed once per node (weak keys compare by identity)
+    private static final Cache<RelationalRootQueryTempTableGraphFetchExecutionNode, String> BATCH_SIZE_ESTIMATE_KEYS = CacheBuilder.newBuilder().weakKeys().build();
 
     public RelationalExecutionNodeExecutor(ExecutionState executionState, Identity identity)
     {
@@ -1455,6 +1461,19 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
+    private static String getBatchSizeEstimateKey(RelationalRootQueryTempTableGraphFetchExecutionNode node) throws JsonProcessingException
+    {
+        String key = BATCH_SIZE_ESTIMATE_KEYS.getIfPresent(node);
+        if (key == null)
+        {
+            // objects of the same class are of different sizes when fetched with another tree or by another query
+            String treeAndQuery = OBJECT_MAPPER.writeValueAsString(node.graphFetchTree) + OBJECT_MAPPER.writeValueAsString(node.executionNodes);
+            key = ((RootGraphFetchTree) node.graphFetchTree)._class + "@" + Hashing.sha256().hashString(treeAndQuery, StandardCharsets.UTF_8);
+            BATCH_SIZE_ESTIMATE_KEYS.put(node, key);
+        }
+        return key;
+    }
+
     private Result executeRelationalRootQueryTempTableGraphFetchExecutionNode(RelationalRootQueryTempTableGraphFetchExecutionNode node)
     {
         boolean isLeaf = node.children == null || node.children.isEmpty();
@@ -1484,6 +1503,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             boolean isUnion = setIdCount > 1;
             AtomicLong batchIndex = new AtomicLong(0L);
+            String batchSizeEstimateKey = executionState.getGraphFetchExecutionConfiguration().shouldUseAdaptiveBatching() && (node.batchSize == null) ? getBatchSizeEstimateKey(node) : null;
             Spliterator<GraphObjectsBatch> graphObjectsBatchSpliterator = new Spliterators.AbstractSpliterator<GraphObjectsBatch>(Long.MAX_VALUE, Spliterator.ORDERED)
             {
                 @Override
@@ -1491,7 +1511,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 {
                     long batchSize;
                     boolean useAdaptiveBatching = executionState.getGraphFetchExecutionConfiguration().shouldUseAdaptiveBatching() && (node.batchSize == null);
-                    batchSize = useAdaptiveBatching ? AdaptiveBatching.getAdaptiveBatchSize(executionState) : (node.batchSize == null ? executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : node.batchSize);
+                    batchSize = useAdaptiveBatching ? AdaptiveBatching.getAdaptiveBatchSize(executionState, batchSizeEstimateKey) : (node.batchSize == null ? executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : node.batchSize);
 
                     /* Ensure all children run in the same connection */
                     RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational);
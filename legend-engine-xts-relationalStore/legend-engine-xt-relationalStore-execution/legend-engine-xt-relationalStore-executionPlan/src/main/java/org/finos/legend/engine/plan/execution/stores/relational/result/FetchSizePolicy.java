@@ -0,0 +1,183 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Chooses the JDBC fetch size used to stream a {@link RelationalResult}.
+ * <p>
+ * When adaptive, the fetch size is bounded so that a single fetch stays within the configured number of bytes (based on
+ * the width of the rows estimated from the result set metadata), and is learnt per query from the number of rows the
+ * previous executions returned: queries which needed many round trips, each taking long enough to matter, get a bigger
+ * fetch size, queries which only filled a fraction of the first fetch get a smaller one. Otherwise, the per database type overrides are used, falling
+ * back to the driver defaults.
+ */
+public class FetchSizePolicy
+{
+    static final int LEGACY_MEMSQL_FETCH_SIZE = 100;
+    private static final int MAXIMUM_LEARNT_QUERIES = 10_000;
+    private static final int GROWTH_THRESHOLD_FETCHES = 4;
+    private static final int SHRINK_THRESHOLD_RATIO = 4;
+    // below this, round trips are too cheap (e.g. local databases) for a bigger fetch size to be worth its memory
+    private static final long GROWTH_THRESHOLD_MILLIS_PER_FETCH = 1;
+
+    private final RelationalFetchSizeConfig config;
+    private final Cache<String, Integer> learntFetchSizes = CacheBuilder.newBuilder().maximumSize(MAXIMUM_LEARNT_QUERIES).build();
+
+    public FetchSizePolicy(RelationalFetchSizeConfig config)
+    {
+        this.config = config == null ? new RelationalFetchSizeConfig() : config;
+    }
+
+    public boolean isAdaptive()
+    {
+        return this.config.isAdaptive();
+    }
+
+    /**
+     * @return the fetch size to set on the statement before executing the query, 0 meaning the driver default
+     */
+    public int initialFetchSize(String databaseType, String sql)
+    {
+        if (this.config.isAdaptive())
+        {
+            Integer learnt = this.learntFetchSizes.getIfPresent(key(databaseType, sql));
+            if (learnt != null)
+            {
+                return learnt;
+            }
+        }
+        Integer configured = this.config.getFetchSizeForDatabaseType(databaseType);
+        if (configured != null)
+        {
+            return configured;
+        }
+        if (this.config.isAdaptive())
+        {
+            return this.config.getMinFetchSize();
+        }
+        return DatabaseType.MemSQL.name().equals(databaseType) ? LEGACY_MEMSQL_FETCH_SIZE : 0;
+    }
+
+    /**
+     * @return the fetch size to use for the remaining fetches once the shape of the rows is known
+     */
+    public int fetchSizeForRows(int fetchSize, ResultSetMetaData metaData) throws SQLException
+    {
+        if (!this.config.isAdaptive())
+        {
+            return fetchSize;
+        }
+        long rowsWithinBudget = this.config.getTargetFetchBytes() / estimateRowBytes(metaData);
+        return clamp(fetchSize <= 0 ? rowsWithinBudget : Math.min(fetchSize, rowsWithinBudget));
+    }
+
+    /**
+     * Records the rows streamed by an execution of the query, learning the fetch size of its next executions.
+     * <p>
+     * The stream spans from start to end (in milliseconds), which includes the time the caller spent consuming the
+     * rows: the time per fetch derived from it is an upper bound of the round trip time, so it is only used to keep
+     * the fetch size from growing when fetches are too fast for round trips to matter.
+     */
+    public void recordFetch(String databaseType, String sql, int fetchSize, long rows, long start, long end)
+    {
+        long fetches = fetchSize <= 0 ? 1 : rows / fetchSize + 1;
+        MetricsHandler.observeRelationalFetch(databaseType, rows, fetches, start, end);
+        if (this.config.isAdaptive() && fetchSize > 0)
+        {
+            long next = fetchSize;
+            if (fetches > GROWTH_THRESHOLD_FETCHES && end - start >= fetches * GROWTH_THRESHOLD_MILLIS_PER_FETCH)
+            {
+                next = (long) fetchSize * 2;
+            }
+            else if (rows < fetchSize / SHRINK_THRESHOLD_RATIO)
+            {
+                next = rows * 2;
+            }
+            this.learntFetchSizes.put(key(databaseType, sql), clamp(next));
+        }
+    }
+
+    private int clamp(long fetchSize)
+    {
+        return (int) Math.max(this.config.getMinFetchSize(), Math.min(this.config.getMaxFetchSize(), fetchSize));
+    }
+
+    public static long estimateRowBytes(ResultSetMetaData metaData) throws SQLException
+    {
+        long bytes = 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            bytes += estimateColumnBytes(metaData.getColumnType(i), metaData.getPrecision(i));
+        }
+        return Math.max(1, bytes);
+    }
+
+    private static long estimateColumnBytes(int sqlType, int precision)
+    {
+        switch (sqlType)
+        {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return 4;
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DATE:
+                return 8;
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return 16;
+            case Types.CHAR:
+            case Types.NCHAR:
+            case Types.VARCHAR:
+            case Types.NVARCHAR:
+            case Types.BINARY:
+            case Types.VARBINARY:
+                // declared widths are an upper bound (or meaningless when unbounded), cap them to a typical value
+                return precision > 0 ? Math.min(precision, 1024) : 256;
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.LONGVARBINARY:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.BLOB:
+                return 4096;
+            default:
+                return 64;
+        }
+    }
+
+    private static String key(String databaseType, String sql)
+    {
+        return databaseType + "\n" + sql;
+    }
+}
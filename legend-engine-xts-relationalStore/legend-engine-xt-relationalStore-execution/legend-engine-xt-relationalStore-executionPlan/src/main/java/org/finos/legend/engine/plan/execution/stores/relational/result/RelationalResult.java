@@ -68,6 +68,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.activity.Relatio
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToBinaryTDSSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializer;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
 import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
@@ -80,7 +81,6 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExe
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -92,6 +92,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(RelationalResult.class);
     private static final ImmutableList<String> TEMPORAL_DATE_ALIASES = Lists.immutable.of("k_businessDate", "k_processingDate");
+    private static final FetchSizePolicy DEFAULT_FETCH_SIZE_POLICY = new FetchSizePolicy(null);
 
     public final List<String> sqlColumns;
     private final List<String> temporaryTables;
@@ -117,6 +118,13 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public Builder builder;
     private Calendar calendar;
 
+    private final FetchSizePolicy fetchSizePolicy;
+    private final String fetchSizePolicyKey;
+    private int fetchSize;
+    private long streamStart;
+    private boolean rowsFetchedRecorded;
+    private RelationalResultCache.Scope resultCacheScope;
+
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan)
     {
         this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, new RequestContext());
@@ -128,6 +136,19 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     }
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues)
+    {
+        this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, DEFAULT_FETCH_SIZE_POLICY);
+    }
+
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, FetchSizePolicy fetchSizePolicy)
+    {
+        this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, fetchSizePolicy, null);
+    }
+
+    /**
+     * @param resultCacheScope scope in which the result is looked up and recorded, or null if the result is not cached
+     */
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, FetchSizePolicy fetchSizePolicy, RelationalResultCache.Scope resultCacheScope)
     {
         super(activities);
         this.databaseType = databaseType;
@@ -135,13 +156,16 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         this.temporaryTables = temporaryTables;
         this.topSpan = topSpan;
         this.requestContext = requestContext;
+        this.fetchSizePolicy = fetchSizePolicy == null ? DEFAULT_FETCH_SIZE_POLICY : fetchSizePolicy;
+        this.fetchSizePolicyKey = node.sqlQuery();
         try
         {
             this.connection = connection;
             this.statement = connection.createStatement();
-            if (DatabaseType.MemSQL.name().equals(databaseType))
+            this.fetchSize = this.fetchSizePolicy.initialFetchSize(databaseType, this.fetchSizePolicyKey);
+            if (this.fetchSize > 0)
             {
-                this.statement.setFetchSize(100);
+                this.statement.setFetchSize(this.fetchSize);
             }
 
             if (requestContext != null)
@@ -154,11 +178,26 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
             String logMessage = logSQLWithParamValues ? sql : node.sqlQuery();
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_START, logMessage).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            this.resultSet = resultCacheScope == null ? this.statement.executeQuery(sql) : resultCacheScope.executeQuery(this.statement, sql, activity.sql);
             this.executedSQl = sql;
+            if (resultCacheScope != null && resultCacheScope.isReplayed())
+            {
+                // rows replayed from the cache say nothing about the fetch size the query needs
+                this.rowsFetchedRecorded = true;
+            }
+            else
+            {
+                this.resultCacheScope = resultCacheScope;
+            }
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
             this.columnCount = this.resultSetMetaData.getColumnCount();
+            if (this.fetchSizePolicy.isAdaptive())
+            {
+                this.fetchSize = this.fetchSizePolicy.fetchSizeForRows(this.fetchSize, this.resultSetMetaData);
+                this.resultSet.setFetchSize(this.fetchSize);
+            }
+            this.streamStart = System.currentTimeMillis();
             this.resultColumns = sqlResultColumns;
             this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
 
@@ -195,6 +234,8 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         this.temporaryTables = sqlExecutionResult.getTemporaryTables();
         this.topSpan = sqlExecutionResult.getTopSpan();
         this.requestContext = sqlExecutionResult.getRequestContext();
+        this.fetchSizePolicy = DEFAULT_FETCH_SIZE_POLICY;
+        this.fetchSizePolicyKey = null;
         try
         {
             this.connection = sqlExecutionResult.getConnection();
@@ -372,6 +413,25 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.databaseTimeZone;
     }
 
+    /**
+     * Reports the number of rows streamed from the result set, so that the fetch size of subsequent executions of the
+     * same query can be adjusted, and the rows read through {@link #getValue} cached. Only the first call is taken into
+     * account.
+     */
+    public void recordRowsFetched(long rows)
+    {
+        if (this.resultCacheScope != null)
+        {
+            this.resultCacheScope.complete(rows);
+            this.resultCacheScope = null;
+        }
+        if (!this.rowsFetchedRecorded && this.fetchSizePolicyKey != null)
+        {
+            this.rowsFetchedRecorded = true;
+            this.fetchSizePolicy.recordFetch(this.databaseType, this.fetchSizePolicyKey, this.fetchSize, rows, this.streamStart, System.currentTimeMillis());
+        }
+    }
+
     @Override
     public void close()
     {
@@ -460,10 +520,12 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public Object getValue(int columnIndex) throws SQLException
     {
         Object result;
+        Calendar calendar = null;
         if (resultDBColumnsMetaData.isTimestampColumn(columnIndex))
         {
             Timestamp ts;
-            ts = resultSet.getTimestamp(columnIndex, getCalendar());
+            calendar = getCalendar();
+            ts = resultSet.getTimestamp(columnIndex, calendar);
             result = ts;
         }
         else if (resultDBColumnsMetaData.isDateColumn(columnIndex))
@@ -474,6 +536,10 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         {
             result = resultSet.getObject(columnIndex);
         }
+        if (this.resultCacheScope != null)
+        {
+            this.resultCacheScope.capture(columnIndex, result, calendar);
+        }
         return result;
     }
 
@@ -620,7 +686,17 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 return new RelationalResultToCSVSerializerWithTransformersApplied(this, true);
             case DEFAULT:
                 return new RelationalResultToJsonDefaultSerializer(this);
+            case BINARY:
+                return new RelationalResultToBinaryTDSSerializer(this);
             default:
+                for (RelationalResultSerializerExtension extension : RelationalResultSerializerExtensionLoader.extensions())
+                {
+                    Serializer serializer = extension.getSerializer(this, format);
+                    if (serializer != null)
+                    {
+                        return serializer;
+                    }
+                }
                 this.close();
                 throw new RuntimeException(format.toString() + " format not currently supported with RelationalResult");
         }
@@ -683,6 +759,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     @Override
     public void cancel()
     {
+        RelationalResultCache.Scope scope = this.resultCacheScope;
+        if (scope != null)
+        {
+            scope.abandon();
+        }
         try
         {
             if (!statement.isClosed())
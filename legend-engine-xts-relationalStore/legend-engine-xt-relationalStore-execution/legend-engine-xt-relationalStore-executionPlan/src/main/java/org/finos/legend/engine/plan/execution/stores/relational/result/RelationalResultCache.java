@@ -0,0 +1,832 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hashing;
+import org.eclipse.collections.api.factory.Sets;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalResultCacheConfig;
+import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.rowset.RowSetMetaDataImpl;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the rows of relational queries for a bounded time, so that identical queries (same SQL with its parameter
+ * values, same connection, same identity) issued again within that time are replayed without going to the database.
+ * <p>
+ * The rows are recorded as their values are read by the serializers streaming the result, and stored once it has been
+ * fully read, column by column in a compressed form. Results which are too big, not fully read, or have columns which
+ * cannot be faithfully replayed (LOBs, arrays, time zone aware types...) are not stored. Cached results are kept in
+ * memory up to the configured number of bytes, the least recently used ones being spilled to disk (when a directory is
+ * configured) and then dropped. Only the classes a cached result is made of are accepted when it is read back.
+ * <p>
+ * A replayed result is a read only, forward only {@link ResultSet} with the same metadata as the original one, so that it
+ * goes through the usual {@link RelationalResult} builders and serializers.
+ */
+public class RelationalResultCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(RelationalResultCache.class);
+    static final String MEMORY = "memory";
+    static final String DISK = "disk";
+
+    private static final Set<Class<?>> CACHEABLE_VALUE_TYPES = Sets.immutable.<Class<?>>with(
+            String.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, byte[].class, LocalDate.class, LocalTime.class, LocalDateTime.class
+    ).castToSet();
+
+    // the values above, the classes they are serialized through, and the structure of a cached result
+    private static final Set<String> DESERIALIZABLE_CLASS_NAMES = Sets.immutable.with(
+            CachedResult.class.getName(), RowSetMetaDataImpl.class.getName(), RowSetMetaDataImpl.class.getName() + "$ColInfo", "[L" + RowSetMetaDataImpl.class.getName() + "$ColInfo;",
+            Object[][].class.getName(), Object[].class.getName(), byte[].class.getName(),
+            Number.class.getName(), Boolean.class.getName(), Byte.class.getName(), Short.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(),
+            BigInteger.class.getName(), BigDecimal.class.getName(), "java.time.Ser"
+    ).castToSet();
+
+    private final RelationalResultCacheConfig config;
+    private final AtomicLong memoryBytes = new AtomicLong();
+    private final Cache<String, Entry> memory;
+    private final DiskTier disk;
+
+    public RelationalResultCache(RelationalResultCacheConfig config)
+    {
+        this.config = config;
+        this.memory = CacheBuilder.newBuilder()
+                .maximumWeight(config.getMaxMemoryBytes())
+                .weigher((String key, Entry entry) -> entry.bytes.length)
+                .removalListener(this::onRemoval)
+                .build();
+        this.disk = config.getDiskDirectory() == null ? null : DiskTier.create(Paths.get(config.getDiskDirectory()), config.getMaxDiskBytes());
+    }
+
+    /**
+     * @return the scope in which the queries of a request are cached, or null if the results of the request are not cached
+     */
+    public Scope newScope(Identity identity, String connectionKey, String databaseType, RequestContext requestContext)
+    {
+        long ttlSeconds = this.config.getTtlSeconds(RequestContext.getReferral(requestContext));
+        return ttlSeconds <= 0 ? null : new Scope(identity.getName() + "\n" + connectionKey + "\n" + databaseType, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    public void invalidateAll()
+    {
+        this.memory.invalidateAll();
+        if (this.disk != null)
+        {
+            this.disk.clear();
+        }
+    }
+
+    private Entry lookup(String key)
+    {
+        Entry entry = this.memory.getIfPresent(key);
+        if (entry != null && entry.isExpired())
+        {
+            this.memory.invalidate(key);
+            entry = null;
+        }
+        MetricsHandler.incrementRelationalResultCacheRequests(MEMORY, entry != null);
+        if (entry != null || this.disk == null)
+        {
+            return entry;
+        }
+        // entries read from disk move back to memory, and are spilled again if evicted from there
+        entry = this.disk.remove(key);
+        if (entry != null && entry.isExpired())
+        {
+            entry = null;
+        }
+        MetricsHandler.incrementRelationalResultCacheRequests(DISK, entry != null);
+        if (entry != null)
+        {
+            this.put(key, entry);
+        }
+        return entry;
+    }
+
+    private void put(String key, Entry entry)
+    {
+        MetricsHandler.setRelationalResultCacheBytes(MEMORY, this.memoryBytes.addAndGet(entry.bytes.length));
+        this.memory.put(key, entry);
+    }
+
+    private void onRemoval(RemovalNotification<String, Entry> notification)
+    {
+        Entry entry = notification.getValue();
+        MetricsHandler.setRelationalResultCacheBytes(MEMORY, this.memoryBytes.addAndGet(-entry.bytes.length));
+        if (notification.getCause() == RemovalCause.SIZE && this.disk != null && !entry.isExpired())
+        {
+            this.disk.put(notification.getKey(), entry);
+        }
+    }
+
+    public final class Scope
+    {
+        private final String partition;
+        private final long ttlMillis;
+        private boolean replayed;
+        private volatile Recording recording;
+
+        private Scope(String partition, long ttlMillis)
+        {
+            this.partition = partition;
+            this.ttlMillis = ttlMillis;
+        }
+
+        /**
+         * Replays the cached result of the query if there is one, executes it otherwise. The rows of an executed query are
+         * recorded as they are {@link #capture captured}, and stored when {@link #complete completed}.
+         *
+         * @param sql    the SQL sent to the database
+         * @param keySql the SQL identifying the query, without the parts which vary from one execution to the other (comments)
+         */
+        public ResultSet executeQuery(Statement statement, String sql, String keySql) throws SQLException
+        {
+            String key = Hashing.sha256().hashString(this.partition + "\n" + keySql, StandardCharsets.UTF_8).toString();
+            Entry entry = lookup(key);
+            if (entry != null)
+            {
+                try
+                {
+                    ResultSet resultSet = entry.replay();
+                    this.replayed = true;
+                    return resultSet;
+                }
+                catch (IOException | ClassNotFoundException e)
+                {
+                    LOGGER.warn("Unable to read cached relational result, executing the query instead", e);
+                    memory.invalidate(key);
+                }
+            }
+            ResultSet resultSet = statement.executeQuery(sql);
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            if (isCacheable(metaData))
+            {
+                this.recording = new Recording(metaData, key, System.currentTimeMillis() + this.ttlMillis);
+            }
+            return resultSet;
+        }
+
+        public boolean isReplayed()
+        {
+            return this.replayed;
+        }
+
+        /**
+         * Records a value of the result, read from the current row of the result set of the database.
+         *
+         * @param calendar the calendar the value was read with, if it is a timestamp read with one
+         */
+        void capture(int column, Object value, Calendar calendar)
+        {
+            Recording current = this.recording;
+            if (current != null)
+            {
+                current.capture(column, value, calendar);
+            }
+        }
+
+        /**
+         * Stores the recorded rows if the result has been fully read, and each of its values captured.
+         *
+         * @param rows the number of rows read from the result set of the database
+         */
+        void complete(long rows)
+        {
+            Recording current = this.recording;
+            this.recording = null;
+            if (current != null)
+            {
+                current.complete(rows);
+            }
+        }
+
+        void abandon()
+        {
+            this.recording = null;
+        }
+    }
+
+    private static boolean isCacheable(ResultSetMetaData metaData) throws SQLException
+    {
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            switch (metaData.getColumnType(i))
+            {
+                case Types.ARRAY:
+                case Types.BLOB:
+                case Types.CLOB:
+                case Types.NCLOB:
+                case Types.DATALINK:
+                case Types.DISTINCT:
+                case Types.JAVA_OBJECT:
+                case Types.OTHER:
+                case Types.REF:
+                case Types.REF_CURSOR:
+                case Types.ROWID:
+                case Types.SQLXML:
+                case Types.STRUCT:
+                case Types.TIME_WITH_TIMEZONE:
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                    return false;
+                default:
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Values of the rows of a result, captured as they are read while the result is streamed.
+     */
+    private final class Recording
+    {
+        private final ResultSetMetaData metaData;
+        private final String key;
+        private final long expiresAt;
+        private List<Object>[] columns;
+        private int rowCount;
+        private int nextColumn = 1;
+        private long bytes;
+
+        @SuppressWarnings("unchecked")
+        private Recording(ResultSetMetaData metaData, String key, long expiresAt) throws SQLException
+        {
+            this.metaData = metaData;
+            this.key = key;
+            this.expiresAt = expiresAt;
+            this.columns = new List[metaData.getColumnCount()];
+            for (int i = 0; i < this.columns.length; i++)
+            {
+                this.columns[i] = new ArrayList<>();
+            }
+        }
+
+        private void capture(int column, Object value, Calendar calendar)
+        {
+            if (this.columns == null)
+            {
+                return;
+            }
+            Object local = toLocal(value, calendar);
+            // every column of every row has to be read once, in order, for the rows to be complete
+            if (column != this.nextColumn || (local != null && !CACHEABLE_VALUE_TYPES.contains(local.getClass())))
+            {
+                this.columns = null;
+                return;
+            }
+            this.columns[column - 1].add(local);
+            this.bytes += estimateBytes(local);
+            if (this.bytes > config.getMaxEntryBytes())
+            {
+                this.columns = null;
+                return;
+            }
+            if (column == this.columns.length)
+            {
+                this.rowCount++;
+                this.nextColumn = 1;
+            }
+            else
+            {
+                this.nextColumn++;
+            }
+        }
+
+        private void complete(long rows)
+        {
+            if (this.columns == null || this.nextColumn != 1 || rows != this.rowCount)
+            {
+                this.columns = null;
+                return;
+            }
+            try
+            {
+                Object[][] values = new Object[this.columns.length][];
+                for (int i = 0; i < this.columns.length; i++)
+                {
+                    values[i] = this.columns[i].toArray();
+                }
+                byte[] serialized = serialize(new CachedResult(copyMetaData(this.metaData), this.rowCount, values));
+                if (serialized.length <= config.getMaxEntryBytes())
+                {
+                    put(this.key, new Entry(this.expiresAt, serialized));
+                }
+            }
+            catch (IOException | SQLException e)
+            {
+                LOGGER.debug("Unable to store relational result, it will not be cached", e);
+            }
+            finally
+            {
+                this.columns = null;
+            }
+        }
+    }
+
+    private static Object toLocal(Object value, Calendar calendar)
+    {
+        // date and times are kept as local values, to be interpreted in the time zone of the caller when replayed
+        if (value instanceof Timestamp)
+        {
+            Timestamp timestamp = (Timestamp) value;
+            return calendar == null ? timestamp.toLocalDateTime() : LocalDateTime.ofInstant(timestamp.toInstant(), calendar.getTimeZone().toZoneId());
+        }
+        if (value instanceof Date)
+        {
+            return ((Date) value).toLocalDate();
+        }
+        if (value instanceof Time)
+        {
+            return ((Time) value).toLocalTime();
+        }
+        return value;
+    }
+
+    private static long estimateBytes(Object value)
+    {
+        if (value instanceof String)
+        {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[])
+        {
+            return 16 + ((byte[]) value).length;
+        }
+        return 16;
+    }
+
+    private static RowSetMetaDataImpl copyMetaData(ResultSetMetaData metaData) throws SQLException
+    {
+        RowSetMetaDataImpl copy = new RowSetMetaDataImpl();
+        copy.setColumnCount(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            copy.setColumnName(i, metaData.getColumnName(i));
+            copy.setColumnLabel(i, metaData.getColumnLabel(i));
+            copy.setColumnType(i, metaData.getColumnType(i));
+            copy.setColumnTypeName(i, metaData.getColumnTypeName(i));
+            copy.setPrecision(i, Math.max(0, metaData.getPrecision(i)));
+            copy.setScale(i, Math.max(0, metaData.getScale(i)));
+            copy.setNullable(i, metaData.isNullable(i));
+            copy.setSigned(i, metaData.isSigned(i));
+            copy.setTableName(i, metaData.getTableName(i));
+            copy.setSchemaName(i, metaData.getSchemaName(i));
+            copy.setCatalogName(i, metaData.getCatalogName(i));
+        }
+        return copy;
+    }
+
+    private static byte[] serialize(CachedResult result) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes)))
+        {
+            out.writeObject(result);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class CachedResult implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final RowSetMetaDataImpl metaData;
+        private final int rowCount;
+        private final Object[][] columns;
+
+        private CachedResult(RowSetMetaDataImpl metaData, int rowCount, Object[][] columns)
+        {
+            this.metaData = metaData;
+            this.rowCount = rowCount;
+            this.columns = columns;
+        }
+    }
+
+    private static final class Entry
+    {
+        private final long expiresAt;
+        private final byte[] bytes;
+
+        private Entry(long expiresAt, byte[] bytes)
+        {
+            this.expiresAt = expiresAt;
+            this.bytes = bytes;
+        }
+
+        private boolean isExpired()
+        {
+            return System.currentTimeMillis() >= this.expiresAt;
+        }
+
+        private ResultSet replay() throws IOException, ClassNotFoundException
+        {
+            try (ObjectInputStream in = new CachedResultInputStream(new GZIPInputStream(new ByteArrayInputStream(this.bytes))))
+            {
+                Object result = in.readObject();
+                if (!(result instanceof CachedResult))
+                {
+                    throw new InvalidObjectException("Not a cached relational result");
+                }
+                return (ResultSet) Proxy.newProxyInstance(RelationalResultCache.class.getClassLoader(), new Class<?>[]{ResultSet.class}, new Replay((CachedResult) result));
+            }
+        }
+    }
+
+    /**
+     * Deserializes cached results, refusing any class other than the ones a cached result is made of.
+     */
+    private static final class CachedResultInputStream extends ObjectInputStream
+    {
+        private CachedResultInputStream(InputStream in) throws IOException
+        {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException
+        {
+            if (!DESERIALIZABLE_CLASS_NAMES.contains(desc.getName()))
+            {
+                throw new InvalidClassException(desc.getName(), "not expected in a cached relational result");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws InvalidClassException
+        {
+            throw new InvalidClassException("proxy", "not expected in a cached relational result");
+        }
+    }
+
+    /**
+     * Read only, forward only result set over a cached result.
+     */
+    private static final class Replay implements InvocationHandler
+    {
+        private final CachedResult result;
+        private int row = -1;
+        private boolean closed;
+        private boolean wasNull;
+
+        private Replay(CachedResult result)
+        {
+            this.result = result;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            switch (method.getName())
+            {
+                case "next":
+                    this.checkOpen();
+                    this.row = Math.min(this.row + 1, this.result.rowCount);
+                    return this.row < this.result.rowCount;
+                case "close":
+                    this.closed = true;
+                    return null;
+                case "isClosed":
+                    return this.closed;
+                case "getMetaData":
+                    return this.result.metaData;
+                case "findColumn":
+                    return this.findColumn((String) args[0]);
+                case "wasNull":
+                    return this.wasNull;
+                case "getRow":
+                    return this.row < this.result.rowCount ? this.row + 1 : 0;
+                case "getFetchSize":
+                    return 0;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "getConcurrency":
+                    return ResultSet.CONCUR_READ_ONLY;
+                case "getStatement":
+                case "getWarnings":
+                case "clearWarnings":
+                case "setFetchSize":
+                case "setFetchDirection":
+                    return null;
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                case "unwrap":
+                    return ((Class<?>) args[0]).cast(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedRelationalResult[rows=" + this.result.rowCount + "]";
+                default:
+                    if (method.getName().startsWith("get") && args != null && args.length > 0 && (args[0] instanceof Integer || args[0] instanceof String))
+                    {
+                        return this.getValue(method, args);
+                    }
+                    throw new SQLFeatureNotSupportedException(method.getName() + " is not supported on cached relational results");
+            }
+        }
+
+        private void checkOpen() throws SQLException
+        {
+            if (this.closed)
+            {
+                throw new SQLException("Result set is closed");
+            }
+        }
+
+        private int findColumn(String label) throws SQLException
+        {
+            for (int i = 1; i <= this.result.columns.length; i++)
+            {
+                if (label.equalsIgnoreCase(this.result.metaData.getColumnLabel(i)))
+                {
+                    return i;
+                }
+            }
+            throw new SQLException("Column not found: " + label);
+        }
+
+        private Object getValue(Method method, Object[] args) throws SQLException
+        {
+            this.checkOpen();
+            if (this.row < 0 || this.row >= this.result.rowCount)
+            {
+                throw new SQLException("Result set is not positioned on a row");
+            }
+            int column = args[0] instanceof String ? this.findColumn((String) args[0]) : (Integer) args[0];
+            if (column < 1 || column > this.result.columns.length)
+            {
+                throw new SQLException("Invalid column index: " + column);
+            }
+            Object value = this.result.columns[column - 1][this.row];
+            this.wasNull = value == null;
+            Calendar calendar = args.length > 1 && args[1] instanceof Calendar ? (Calendar) args[1] : null;
+            Class<?> type = method.getReturnType();
+            switch (method.getName())
+            {
+                case "getObject":
+                    if (args.length > 1 && args[1] instanceof Class && value != null && !((Class<?>) args[1]).isInstance(toJdbc(value)))
+                    {
+                        throw new SQLFeatureNotSupportedException("Conversion to " + args[1] + " is not supported on cached relational results");
+                    }
+                    return toJdbc(value);
+                case "getString":
+                case "getNString":
+                    return value == null ? null : toJdbc(value).toString();
+                case "getTimestamp":
+                    return toTimestamp(value, calendar);
+                case "getDate":
+                    return value instanceof LocalDateTime ? Date.valueOf(((LocalDateTime) value).toLocalDate()) : (Date) toJdbc(value);
+                case "getTime":
+                    return value instanceof LocalDateTime ? Time.valueOf(((LocalDateTime) value).toLocalTime()) : (Time) toJdbc(value);
+                case "getBoolean":
+                    return value instanceof Number ? ((Number) value).intValue() != 0 : value instanceof String ? "1".equals(value) || Boolean.parseBoolean((String) value) : value != null && (Boolean) value;
+                case "getBigDecimal":
+                    return value == null || value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+                case "getBytes":
+                    return value;
+                case "getByte":
+                case "getShort":
+                case "getInt":
+                case "getLong":
+                case "getFloat":
+                case "getDouble":
+                    return toNumber(value, type);
+                default:
+                    throw new SQLFeatureNotSupportedException(method.getName() + " is not supported on cached relational results");
+            }
+        }
+
+        private static Object toJdbc(Object value)
+        {
+            if (value instanceof LocalDateTime)
+            {
+                return Timestamp.valueOf((LocalDateTime) value);
+            }
+            if (value instanceof LocalDate)
+            {
+                return Date.valueOf((LocalDate) value);
+            }
+            if (value instanceof LocalTime)
+            {
+                return Time.valueOf((LocalTime) value);
+            }
+            return value;
+        }
+
+        private static Timestamp toTimestamp(Object value, Calendar calendar)
+        {
+            if (value == null)
+            {
+                return null;
+            }
+            LocalDateTime localDateTime = value instanceof LocalDate ? ((LocalDate) value).atStartOfDay() : (LocalDateTime) value;
+            // same as the drivers: the local value is read in the time zone of the calendar when one is given
+            return calendar == null ? Timestamp.valueOf(localDateTime) : Timestamp.from(localDateTime.atZone(calendar.getTimeZone().toZoneId()).toInstant());
+        }
+
+        private static Object toNumber(Object value, Class<?> type)
+        {
+            Number number = value == null ? 0 : value instanceof Number ? (Number) value : value instanceof Boolean ? ((Boolean) value ? 1 : 0) : new BigDecimal(value.toString());
+            if (type == byte.class)
+            {
+                return number.byteValue();
+            }
+            if (type == short.class)
+            {
+                return number.shortValue();
+            }
+            if (type == int.class)
+            {
+                return number.intValue();
+            }
+            if (type == long.class)
+            {
+                return number.longValue();
+            }
+            if (type == float.class)
+            {
+                return number.floatValue();
+            }
+            return number.doubleValue();
+        }
+    }
+
+    /**
+     * Cached results evicted from memory, one file per result in a directory of its own, bounded in size by dropping the
+     * least recently spilled ones.
+     */
+    private static final class DiskTier
+    {
+        private final Path directory;
+        private final long maxBytes;
+        private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        private DiskTier(Path directory, long maxBytes)
+        {
+            this.directory = directory;
+            this.maxBytes = maxBytes;
+        }
+
+        private static DiskTier create(Path directory, long maxBytes)
+        {
+            try
+            {
+                Files.createDirectories(directory);
+                return new DiskTier(Files.createTempDirectory(directory, "relational-result-cache"), maxBytes);
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Unable to create the relational result cache directory in " + directory + ", results will only be cached in memory", e);
+                return null;
+            }
+        }
+
+        private synchronized void put(String key, Entry entry)
+        {
+            if (entry.bytes.length > this.maxBytes)
+            {
+                return;
+            }
+            Path file = this.directory.resolve(key);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file))))
+            {
+                out.writeLong(entry.expiresAt);
+                out.write(entry.bytes);
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Unable to spill relational result to disk", e);
+                this.delete(key);
+                return;
+            }
+            Long previous = this.files.put(key, (long) entry.bytes.length);
+            this.bytes += entry.bytes.length - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = this.files.entrySet().iterator();
+            while (this.bytes > this.maxBytes && eldest.hasNext())
+            {
+                Map.Entry<String, Long> spilled = eldest.next();
+                if (!key.equals(spilled.getKey()))
+                {
+                    this.delete(spilled.getKey());
+                    this.bytes -= spilled.getValue();
+                    eldest.remove();
+                }
+            }
+            MetricsHandler.setRelationalResultCacheBytes(DISK, this.bytes);
+        }
+
+        private synchronized Entry remove(String key)
+        {
+            Long size = this.files.remove(key);
+            if (size == null)
+            {
+                return null;
+            }
+            this.bytes -= size;
+            MetricsHandler.setRelationalResultCacheBytes(DISK, this.bytes);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.directory.resolve(key)))))
+            {
+                long expiresAt = in.readLong();
+                byte[] entryBytes = new byte[(int) (long) size];
+                in.readFully(entryBytes);
+                return new Entry(expiresAt, entryBytes);
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Unable to read relational result spilled to disk", e);
+                return null;
+            }
+            finally
+            {
+                this.delete(key);
+            }
+        }
+
+        private synchronized void clear()
+        {
+            this.files.keySet().forEach(this::delete);
+            this.files.clear();
+            this.bytes = 0;
+            MetricsHandler.setRelationalResultCacheBytes(DISK, this.bytes);
+        }
+
+        private void delete(String key)
+        {
+            try
+            {
+                Files.deleteIfExists(this.directory.resolve(key));
+            }
+            catch (IOException e)
+            {
+                LOGGER.debug("Unable to delete relational result spilled to disk", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.shared.core.extension.LegendModuleSpecificExtension;
+
+/**
+ * Provides serializers for the formats that {@link RelationalResult} does not support natively.
+ */
+public interface RelationalResultSerializerExtension extends LegendModuleSpecificExtension
+{
+    /**
+     * @return a serializer of the result in the given format, or null if the format is not supported by this extension
+     */
+    Serializer getSerializer(RelationalResult result, SerializationFormat format);
+}
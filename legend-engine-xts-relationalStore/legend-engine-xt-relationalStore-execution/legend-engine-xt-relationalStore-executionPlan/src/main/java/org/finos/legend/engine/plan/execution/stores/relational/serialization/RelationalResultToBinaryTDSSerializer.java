@@ -0,0 +1,106 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.shared.core.api.result.BinaryTDSFormat;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Streams a TDS relational result using {@link BinaryTDSFormat}. Dates and timestamps are sent as epoch
+ * milliseconds (UTC), so the consumer does not have to parse them back from their string representation.
+ */
+public class RelationalResultToBinaryTDSSerializer extends Serializer
+{
+    private final RelationalResult relationalResult;
+
+    public RelationalResultToBinaryTDSSerializer(RelationalResult relationalResult)
+    {
+        this.relationalResult = relationalResult;
+    }
+
+    @Override
+    public void stream(OutputStream stream)
+    {
+        try
+        {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            List<String> columnTypes = relationalResult.builder instanceof TDSBuilder ? ListIterate.collect(((TDSBuilder) relationalResult.builder).columns, c -> c.type) : null;
+            List<String> columnNames = relationalResult.builder instanceof TDSBuilder ? ListIterate.collect(((TDSBuilder) relationalResult.builder).columns, c -> c.name) : relationalResult.getColumnListForSerializer();
+            BinaryTDSFormat.writeHeader(out, columnNames, columnTypes);
+            streamRows(out);
+            out.writeByte(BinaryTDSFormat.END);
+            out.flush();
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            relationalResult.close();
+        }
+    }
+
+    private void streamRows(DataOutputStream out) throws Exception
+    {
+        int rowCount = 0;
+        try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: binary rows").startActive(true))
+        {
+            MutableList<Function<Object, Object>> transformers = relationalResult.getTransformers();
+            while (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
+            {
+                out.writeByte(BinaryTDSFormat.ROW);
+                for (int i = 1; i <= relationalResult.columnCount; i++)
+                {
+                    BinaryTDSFormat.writeValue(out, transform(relationalResult.getValue(i), transformers.get(i - 1)));
+                }
+                rowCount++;
+            }
+            scope.span().setTag("rowCount", rowCount);
+            if (relationalResult.topSpan != null)
+            {
+                relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
+            }
+            relationalResult.recordRowsFetched(rowCount);
+        }
+    }
+
+    private static Object transform(Object value, Function<Object, Object> transformer)
+    {
+        if (value instanceof Timestamp)
+        {
+            return ((Timestamp) value).toInstant().toEpochMilli();
+        }
+        if (value instanceof java.sql.Date)
+        {
+            return ((java.sql.Date) value).toLocalDate().atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        return transformer.valueOf(value);
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.eclipse.collections.api.block.function.Function;
+import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
+import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Streams a window of the rows of a {@link RelationalResult} as newline delimited JSON chunks, each chunk holding the
+ * values of its rows column by column:
+ * <pre>
+ * {"columns": ["a", "b"]}
+ * {"offset": 0, "rowCount": 2, "values": [[1, 2], ["x", "y"]]}
+ * {"rowCount": 2, "complete": true}
+ * </pre>
+ * The window is expected to be applied by the query (e.g. with a slice fetching one row more than the limit, telling
+ * whether the window reached the end of the result). An error raised once streaming started is sent as a last
+ * {@code {"error": "...", "complete": false}} chunk, as the response can no longer change.
+ * <p>
+ * A chunk is flushed once its values reach the maximum number of buffered bytes (and early for the first chunk), so that
+ * the first rows reach the client without waiting for the whole result and the memory used does not grow with it.
+ */
+public class RelationalResultToColumnarJsonSerializer extends Serializer
+{
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = 1_048_576L; /* 1MB - 1024 * 1024 */
+    static final int FIRST_CHUNK_ROWS = 100;
+
+    private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
+    private final Function<Object, String> purePrimitiveToJsonConverter = ExecutionResultObjectMapperFactory.getPurePrimitiveToJsonConverter();
+    private final ValueTransformer transformer = new ValueTransformer();
+    private final RelationalResult relationalResult;
+    private final long offset;
+    private final long limit;
+    private final long maxBufferedBytes;
+
+    public RelationalResultToColumnarJsonSerializer(RelationalResult relationalResult)
+    {
+        this(relationalResult, 0, -1, DEFAULT_MAX_BUFFERED_BYTES);
+    }
+
+    /**
+     * @param offset           index of the first row of the result in the whole query result, the rows before it being
+     *                         skipped by the query
+     * @param limit            maximum number of rows to stream, a non-positive value meaning all the rows
+     * @param maxBufferedBytes number of bytes of values after which a chunk is flushed
+     */
+    public RelationalResultToColumnarJsonSerializer(RelationalResult relationalResult, long offset, long limit, long maxBufferedBytes)
+    {
+        this.relationalResult = relationalResult;
+        this.offset = Math.max(0, offset);
+        this.limit = limit;
+        this.maxBufferedBytes = maxBufferedBytes > 0 ? maxBufferedBytes : DEFAULT_MAX_BUFFERED_BYTES;
+    }
+
+    @Override
+    public void stream(OutputStream stream)
+    {
+        try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: columnar chunks").startActive(true))
+        {
+            stream.write("{\"columns\": ".getBytes(StandardCharsets.UTF_8));
+            this.objectMapper.writeValue(stream, this.relationalResult.getColumnListForSerializer());
+            stream.write("}\n".getBytes(StandardCharsets.UTF_8));
+            stream.flush();
+
+            StringBuilder[] columns = new StringBuilder[this.relationalResult.columnCount];
+            long rowCount = 0;
+            long chunkOffset = this.offset;
+            int chunkRows = 0;
+            long chunkBytes = 0;
+            boolean complete = true;
+            while (this.next())
+            {
+                if (this.limit > 0 && rowCount == this.limit)
+                {
+                    complete = false;
+                    break;
+                }
+                for (int i = 1; i <= columns.length; i++)
+                {
+                    String value = this.transformer.transformWrappedRelationalValueForJSON(this.relationalResult.getValue(i), this.relationalResult.getTransformers().get(i - 1).andThen(this.purePrimitiveToJsonConverter));
+                    StringBuilder column = columns[i - 1];
+                    if (column == null)
+                    {
+                        column = columns[i - 1] = new StringBuilder();
+                    }
+                    else if (chunkRows > 0)
+                    {
+                        column.append(',');
+                    }
+                    column.append(value);
+                    chunkBytes += value.length() + 1;
+                }
+                rowCount++;
+                chunkRows++;
+                if (chunkBytes >= this.maxBufferedBytes || (rowCount == chunkRows && chunkRows == FIRST_CHUNK_ROWS))
+                {
+                    writeChunk(stream, columns, chunkOffset, chunkRows);
+                    chunkOffset += chunkRows;
+                    chunkRows = 0;
+                    chunkBytes = 0;
+                }
+            }
+            if (chunkRows > 0)
+            {
+                writeChunk(stream, columns, chunkOffset, chunkRows);
+            }
+            stream.write(("{\"rowCount\": " + rowCount + ", \"complete\": " + complete + "}\n").getBytes(StandardCharsets.UTF_8));
+            stream.flush();
+
+            scope.span().setTag("rowCount", rowCount);
+            if (this.relationalResult.topSpan != null)
+            {
+                this.relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
+            }
+            this.relationalResult.recordRowsFetched(complete ? rowCount : rowCount + 1);
+        }
+        catch (Exception e)
+        {
+            writeError(stream, e);
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            this.relationalResult.close();
+        }
+    }
+
+    private boolean next() throws SQLException
+    {
+        return !this.relationalResult.resultSet.isClosed() && this.relationalResult.resultSet.next();
+    }
+
+    private void writeError(OutputStream stream, Exception e)
+    {
+        try
+        {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            stream.write(("{\"error\": " + this.objectMapper.writeValueAsString(message) + ", \"complete\": false}\n").getBytes(StandardCharsets.UTF_8));
+            stream.flush();
+        }
+        catch (IOException ignored)
+        {
+            // the client is gone
+        }
+    }
+
+    private static void writeChunk(OutputStream stream, StringBuilder[] columns, long offset, int rowCount) throws IOException
+    {
+        StringBuilder chunk = new StringBuilder("{\"offset\": ").append(offset).append(", \"rowCount\": ").append(rowCount).append(", \"values\": [");
+        for (int i = 0; i < columns.length; i++)
+        {
+            chunk.append(i == 0 ? "[" : ", [").append(columns[i]).append(']');
+            columns[i].setLength(0);
+        }
+        chunk.append("]}\n");
+        stream.write(chunk.toString().getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+    }
+}
@@ -119,6 +119,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
             }
+            relationalResult.recordRowsFetched(rowCount);
         }
     }
 
@@ -0,0 +1,157 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Commands;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RealizedRelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.result.SQLExecutionResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RelationalTdsInstantiationExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.DataTypeResultType;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class TestStreamResultToTempTableVisitor
+{
+    @Test
+    public void testPreparedBatchIngestionOfRealizedResult() throws Exception
+    {
+        RealizedRelationalResult result = RealizedRelationalResult.emptyRealizedRelationalResult(Lists.mutable.with(new SQLResultColumn("ID", "INTEGER"), new SQLResultColumn("NAME", "VARCHAR(100)"), new SQLResultColumn("AMOUNT", "DOUBLE")));
+        for (int i = 0; i < 2500; i++)
+        {
+            result.addRow(Lists.mutable.with(i, i % 10 == 0 ? null : "name 'quoted' " + i, i % 3 == 0 ? null : i), Lists.mutable.empty());
+        }
+
+        RelationalExecutionConfiguration config = RelationalExecutionConfiguration.newInstance().withTempTableIngestionMethod(IngestionMethod.PREPARED_BATCH).build();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testPreparedBatchIngestion"))
+        {
+            StreamResultToTempTableVisitor visitor = new StreamResultToTempTableVisitor(config, connection, result, "TEMP_TABLE", "GMT");
+            new H2Commands().accept(visitor);
+            Assert.assertEquals(IngestionMethod.PREPARED_BATCH, visitor.ingestionMethod);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select count(*), count(NAME), max(ID), count(AMOUNT) from TEMP_TABLE"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(2500, resultSet.getInt(1));
+                Assert.assertEquals(2250, resultSet.getInt(2));
+                Assert.assertEquals(2499, resultSet.getInt(3));
+                Assert.assertEquals(1666, resultSet.getInt(4));
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select NAME from TEMP_TABLE where ID = 1"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("name 'quoted' 1", resultSet.getString(1));
+            }
+        }
+    }
+
+    @Test
+    public void testPreparedBatchIngestionWritesTimestampsInTheTargetTimeZone() throws Exception
+    {
+        RelationalExecutionConfiguration config = RelationalExecutionConfiguration.newInstance().withTempTableIngestionMethod(IngestionMethod.PREPARED_BATCH).build();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testPreparedBatchTimeZones"))
+        {
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute("create table SOURCE(ID INTEGER, TS TIMESTAMP)");
+                statement.execute("insert into SOURCE values (1, '2020-01-01 12:00:00'), (2, null)");
+            }
+
+            SQLExecutionNode sqlExecutionNode = new SQLExecutionNode();
+            sqlExecutionNode.isResultColumnsDynamic = true;
+            sqlExecutionNode.connection = Mockito.mock(DatabaseConnection.class);
+            Mockito.when(sqlExecutionNode.connection.accept(any())).thenReturn(false);
+            RelationalTdsInstantiationExecutionNode node = new RelationalTdsInstantiationExecutionNode();
+            node.resultType = new DataTypeResultType();
+            SQLExecutionResult sqlExecutionResult = new SQLExecutionResult(Lists.mutable.with(new RelationalExecutionActivity("select ID, TS from SOURCE order by ID", null)), sqlExecutionNode, "H2", "GMT", connection, Identity.getAnonymousIdentity(), Lists.mutable.empty(), null);
+            RelationalResult result = new RelationalResult(sqlExecutionResult, node);
+
+            // the source database is in GMT and the target one in New York
+            StreamResultToTempTableVisitor visitor = new StreamResultToTempTableVisitor(config, connection, result, "TEMP_TABLE", "America/New_York");
+            new H2Commands().accept(visitor);
+            Assert.assertEquals(IngestionMethod.PREPARED_BATCH, visitor.ingestionMethod);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select FORMATDATETIME(TS, 'yyyy-MM-dd HH:mm:ss') from TEMP_TABLE order by ID"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("2020-01-01 07:00:00", resultSet.getString(1));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertNull(resultSet.getString(1));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+    @Test
+    public void testConfiguredIngestionMethodFallsBackToDatabaseDefault()
+    {
+        RealizedRelationalResult result = RealizedRelationalResult.emptyRealizedRelationalResult(Lists.mutable.with(new SQLResultColumn("ID", "INTEGER")));
+        RelationalExecutionConfiguration config = RelationalExecutionConfiguration.newInstance().withTempTableIngestionMethod(IngestionMethod.PREPARED_BATCH).build();
+
+        StreamResultToTempTableVisitor visitor = new StreamResultToTempTableVisitor(config, null, result, "TEMP_TABLE", "GMT");
+        new DirectInsertCommands().accept(visitor);
+        Assert.assertEquals(IngestionMethod.DIRECT_INSERT, visitor.ingestionMethod);
+    }
+
+    private static class DirectInsertCommands extends RelationalDatabaseCommands
+    {
+        @Override
+        public String dropTempTable(String tableName)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> createAndLoadTempTable(String tableName, List<Column> columns, String optionalCSVFileLocation)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T accept(RelationalDatabaseCommandsVisitor<T> visitor)
+        {
+            return visitor.visit(this);
+        }
+
+        @Override
+        public IngestionMethod getDefaultIngestionMethod()
+        {
+            return IngestionMethod.DIRECT_INSERT;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+public class TestFetchSizePolicy
+{
+    private static final String SQL = "select * from personTable";
+
+    @Test
+    public void testDefaultPolicyKeepsDriverDefaults()
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(null);
+        Assert.assertEquals(0, policy.initialFetchSize("H2", SQL));
+        Assert.assertEquals(FetchSizePolicy.LEGACY_MEMSQL_FETCH_SIZE, policy.initialFetchSize("MemSQL", SQL));
+
+        policy.recordFetch("H2", SQL, 0, 1_000_000, 0, 10);
+        Assert.assertEquals(0, policy.initialFetchSize("H2", SQL));
+    }
+
+    @Test
+    public void testDatabaseTypeOverride()
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalFetchSizeConfig(false, 100, 10_000, 4_194_304L, Maps.mutable.with("Snowflake", 5000)));
+        Assert.assertEquals(5000, policy.initialFetchSize("Snowflake", SQL));
+        Assert.assertEquals(0, policy.initialFetchSize("H2", SQL));
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeGrowsAndShrinks()
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalFetchSizeConfig(true, 100, 1000, 4_194_304L, null));
+        Assert.assertEquals(100, policy.initialFetchSize("H2", SQL));
+
+        policy.recordFetch("H2", SQL, 100, 10_000, 0, 1000);
+        Assert.assertEquals(200, policy.initialFetchSize("H2", SQL));
+
+        policy.recordFetch("H2", SQL, 800, 10_000, 0, 1000);
+        Assert.assertEquals(1000, policy.initialFetchSize("H2", SQL));
+
+        policy.recordFetch("H2", SQL, 1000, 10, 0, 10);
+        Assert.assertEquals(100, policy.initialFetchSize("H2", SQL));
+        Assert.assertEquals(100, policy.initialFetchSize("H2", "select 1"));
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeDoesNotGrowForFastFetches()
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalFetchSizeConfig(true, 100, 1000, 4_194_304L, null));
+
+        // 101 fetches in 10ms, the round trips are not worth a bigger fetch size
+        policy.recordFetch("H2", SQL, 100, 10_000, 0, 10);
+        Assert.assertEquals(100, policy.initialFetchSize("H2", SQL));
+
+        policy.recordFetch("H2", SQL, 100, 10_000, 0, 101);
+        Assert.assertEquals(200, policy.initialFetchSize("H2", SQL));
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeIsBoundedByRowWidth() throws SQLException
+    {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(2);
+        Mockito.when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        Mockito.when(metaData.getColumnType(2)).thenReturn(Types.CLOB);
+
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalFetchSizeConfig(true, 10, 10_000, 4104L * 100, null));
+        Assert.assertEquals(100, policy.fetchSizeForRows(5000, metaData));
+        Assert.assertEquals(50, policy.fetchSizeForRows(50, metaData));
+    }
+}
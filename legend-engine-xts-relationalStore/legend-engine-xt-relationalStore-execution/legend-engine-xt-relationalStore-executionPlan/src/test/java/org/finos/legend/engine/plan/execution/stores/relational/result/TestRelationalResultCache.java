@@ -0,0 +1,272 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalResultCacheConfig;
+import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+public class TestRelationalResultCache
+{
+    private static final String SQL = "select id, name, amount, created from trade order by id";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:testRelationalResultCache");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("create table trade (id int, name varchar(20), amount decimal(10, 2), created timestamp)");
+            statement.execute("insert into trade values (1, 'a', 10.5, '2024-01-02 03:04:05'), (2, null, 20, '2024-01-03 00:00:00')");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("drop table trade");
+        }
+        this.connection.close();
+    }
+
+    @Test
+    public void testFullyReadResultIsReplayed() throws SQLException
+    {
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1_000_000, 100_000, null, 0, null));
+
+        RelationalResultCache.Scope first = this.newScope(cache, null);
+        this.stream(first, first.executeQuery(this.connection.createStatement(), SQL, SQL));
+        Assert.assertFalse(first.isReplayed());
+
+        this.deleteRows();
+
+        RelationalResultCache.Scope second = this.newScope(cache, null);
+        ResultSet replayed = second.executeQuery(this.connection.createStatement(), SQL, SQL);
+        Assert.assertTrue(second.isReplayed());
+        Assert.assertEquals(4, replayed.getMetaData().getColumnCount());
+        Assert.assertEquals("NAME", replayed.getMetaData().getColumnLabel(2));
+        this.assertRows(replayed);
+
+        RelationalResultCache.Scope otherIdentity = cache.newScope(new Identity("other"), "connection", "H2", null);
+        ResultSet executed = otherIdentity.executeQuery(this.connection.createStatement(), SQL, SQL);
+        Assert.assertFalse(otherIdentity.isReplayed());
+        Assert.assertFalse(executed.next());
+    }
+
+    @Test
+    public void testPartiallyReadResultIsNotCached() throws SQLException
+    {
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1_000_000, 100_000, null, 0, null));
+
+        RelationalResultCache.Scope partial = this.newScope(cache, null);
+        ResultSet resultSet = partial.executeQuery(this.connection.createStatement(), SQL, SQL);
+        Assert.assertTrue(resultSet.next());
+        this.captureRow(partial, resultSet);
+        resultSet.close();
+        partial.complete(2);
+
+        RelationalResultCache.Scope scope = this.newScope(cache, null);
+        scope.executeQuery(this.connection.createStatement(), SQL, SQL).close();
+        Assert.assertFalse(scope.isReplayed());
+    }
+
+    @Test
+    public void testResultNotReadThroughEveryColumnIsNotCached() throws SQLException
+    {
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1_000_000, 100_000, null, 0, null));
+
+        RelationalResultCache.Scope first = this.newScope(cache, null);
+        ResultSet resultSet = first.executeQuery(this.connection.createStatement(), SQL, SQL);
+        long rows = 0;
+        while (resultSet.next())
+        {
+            first.capture(1, resultSet.getObject(1), null);
+            first.capture(3, resultSet.getObject(3), null);
+            rows++;
+        }
+        resultSet.close();
+        first.complete(rows);
+
+        RelationalResultCache.Scope scope = this.newScope(cache, null);
+        scope.executeQuery(this.connection.createStatement(), SQL, SQL).close();
+        Assert.assertFalse(scope.isReplayed());
+    }
+
+    @Test
+    public void testResultsBiggerThanAnEntryAreNotCached() throws SQLException
+    {
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1_000_000, 10, null, 0, null));
+
+        RelationalResultCache.Scope first = this.newScope(cache, null);
+        this.stream(first, first.executeQuery(this.connection.createStatement(), SQL, SQL));
+
+        RelationalResultCache.Scope scope = this.newScope(cache, null);
+        this.assertRows(scope.executeQuery(this.connection.createStatement(), SQL, SQL));
+        Assert.assertFalse(scope.isReplayed());
+    }
+
+    @Test
+    public void testSpilledResultsWithUnexpectedClassesAreNotReplayed() throws IOException, SQLException
+    {
+        Path directory = this.temporaryFolder.newFolder().toPath();
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1, 100_000, directory.toString(), 1_000_000, null));
+
+        RelationalResultCache.Scope first = this.newScope(cache, null);
+        this.stream(first, first.executeQuery(this.connection.createStatement(), SQL, SQL));
+
+        // too big for memory, the result has been spilled to disk: replace it with a payload of the same size
+        Path file;
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            file = files.filter(Files::isRegularFile).findFirst().orElseThrow(AssertionError::new);
+        }
+        byte[] spilled = Files.readAllBytes(file);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(payload)))
+        {
+            out.writeObject(new HashMap<>(Collections.singletonMap("id", 1)));
+        }
+        Assert.assertTrue(payload.size() < spilled.length - Long.BYTES);
+        try (OutputStream out = Files.newOutputStream(file))
+        {
+            out.write(spilled, 0, Long.BYTES);
+            out.write(Arrays.copyOf(payload.toByteArray(), spilled.length - Long.BYTES));
+        }
+
+        this.deleteRows();
+
+        RelationalResultCache.Scope scope = this.newScope(cache, null);
+        ResultSet executed = scope.executeQuery(this.connection.createStatement(), SQL, SQL);
+        Assert.assertFalse(scope.isReplayed());
+        Assert.assertFalse(executed.next());
+    }
+
+    @Test
+    public void testTimeToLivePerService()
+    {
+        RelationalResultCache cache = new RelationalResultCache(new RelationalResultCacheConfig(true, 60, 1_000_000, 100_000, null, 0, Maps.mutable.with("/api/service/uncached", 0L)));
+
+        Assert.assertNotNull(this.newScope(cache, new RequestContext("session", "/api/service/cached")));
+        Assert.assertNull(this.newScope(cache, new RequestContext("session", "/api/service/uncached")));
+    }
+
+    @Test
+    public void testTimeToLiveOfTheLongestMatchingServicePath()
+    {
+        RelationalResultCacheConfig config = new RelationalResultCacheConfig(true, 60, 1_000_000, 100_000, null, 0, Maps.mutable.with("/api/service/trades", 10L, "/api/service/trades/uncached", 0L, "/api/service/positions", 20L));
+
+        Assert.assertEquals(10, config.getTtlSeconds("/api/service/trades"));
+        Assert.assertEquals(10, config.getTtlSeconds("https://host:8080/api/service/trades/daily?date=2024-01-02"));
+        Assert.assertEquals(0, config.getTtlSeconds("https://host/api/service/trades/uncached"));
+        Assert.assertEquals(0, config.getTtlSeconds("/api/service/trades/uncached/daily#top"));
+        Assert.assertEquals(20, config.getTtlSeconds("/api/service/positions?trades=/api/service/trades"));
+        Assert.assertEquals(60, config.getTtlSeconds("/api/service/tradesByDesk"));
+        Assert.assertEquals(60, config.getTtlSeconds("https://host/"));
+        Assert.assertEquals(60, config.getTtlSeconds(null));
+    }
+
+    private RelationalResultCache.Scope newScope(RelationalResultCache cache, RequestContext requestContext)
+    {
+        return cache.newScope(Identity.makeUnknownIdentity(), "connection", "H2", requestContext);
+    }
+
+    private void stream(RelationalResultCache.Scope scope, ResultSet resultSet) throws SQLException
+    {
+        long rows = 0;
+        while (resultSet.next())
+        {
+            this.captureRow(scope, resultSet);
+            rows++;
+        }
+        resultSet.close();
+        scope.complete(rows);
+    }
+
+    private void captureRow(RelationalResultCache.Scope scope, ResultSet resultSet) throws SQLException
+    {
+        // the way RelationalResult reads the values: timestamps in the time zone of the database, the rest as objects
+        Calendar gmt = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+        for (int i = 1; i <= 3; i++)
+        {
+            scope.capture(i, resultSet.getObject(i), null);
+        }
+        scope.capture(4, resultSet.getTimestamp(4, gmt), gmt);
+    }
+
+    private void deleteRows() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("delete from trade");
+        }
+    }
+
+    private void assertRows(ResultSet resultSet) throws SQLException
+    {
+        Calendar gmt = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+
+        Assert.assertTrue(resultSet.next());
+        Assert.assertEquals(1, resultSet.getInt(1));
+        Assert.assertEquals("a", resultSet.getString("NAME"));
+        Assert.assertEquals(10.5, resultSet.getDouble(3), 0);
+        Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05"), resultSet.getTimestamp(4));
+        Assert.assertEquals(1704164645000L, resultSet.getTimestamp(4, gmt).getTime());
+
+        Assert.assertTrue(resultSet.next());
+        Assert.assertEquals(2L, resultSet.getLong(1));
+        Assert.assertNull(resultSet.getString(2));
+        Assert.assertTrue(resultSet.wasNull());
+        Assert.assertEquals(0, resultSet.getBigDecimal(3).compareTo(new BigDecimal(20)));
+
+        Assert.assertFalse(resultSet.next());
+        resultSet.close();
+    }
+}
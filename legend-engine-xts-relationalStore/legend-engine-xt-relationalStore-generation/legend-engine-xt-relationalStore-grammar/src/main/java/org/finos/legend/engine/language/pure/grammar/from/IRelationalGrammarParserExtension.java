@@ -101,7 +101,7 @@ public interface IRelationalGrammarParserExtension extends PureGrammarParserExte
         lexer.addErrorListener(errorListener);
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return transformer.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, transformer);
     }
 
     default List<Function<DataSourceSpecificationSourceCode, DatasourceSpecification>> getExtraDataSourceSpecificationParsers()
@@ -133,7 +133,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalMapperParserGrammar parser = new RelationalMapperParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, RelationalMapperParserGrammar::definition));
     }
 
 
@@ -334,7 +334,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, func);
     }
 
     private DatasourceSpecification parseDataSourceSpecification(DataSourceSpecificationSourceCode code, Function<DataSourceSpecificationParserGrammar, DatasourceSpecification> func)
@@ -349,7 +349,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, func);
     }
 
     private Milestoning parseMilestoning(MilestoningSpecificationSourceCode code, Function<RelationalParserGrammar, Milestoning> func)
@@ -364,7 +364,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, func);
     }
 
     private static SourceCodeParserInfo getRelationalParserInfo(SectionSourceCode sectionSourceCode)
@@ -377,7 +377,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalParserGrammar parser = new RelationalParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, RelationalParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getRelationalMappingElementParserInfo(MappingElementSourceCode mappingElementSourceCode)
@@ -390,7 +390,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalParserGrammar parser = new RelationalParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        RelationalParserGrammar.MappingContext mappingContext = parser.mapping();
+        RelationalParserGrammar.MappingContext mappingContext = PureGrammarParserUtility.parseWithSllFallback(parser, RelationalParserGrammar::mapping);
         ParserRuleContext associationMappingCtx = mappingContext.associationMapping();
         ParserRuleContext classMappingCtx = mappingContext.classMapping();
         return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, associationMappingCtx != null ? associationMappingCtx : classMappingCtx);
@@ -406,7 +406,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         RelationalDatabaseConnectionParserGrammar parser = new RelationalDatabaseConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, RelationalDatabaseConnectionParserGrammar::definition));
     }
 
     public static RelationalOperationElement parseRelationalOperationElement(String code, String sourceId, int lineOffset, int columnOffset, boolean returnSourceInfo)
@@ -421,7 +421,7 @@ public class RelationalGrammarParserExtension implements IRelationalGrammarParse
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         RelationalParseTreeWalker walker = new RelationalParseTreeWalker(parseTreeWalkerSourceInformation);
-        return walker.visitOperation(parser.operation(), null);
+        return walker.visitOperation(PureGrammarParserUtility.parseWithSllFallback(parser, RelationalParserGrammar::operation), null);
     }
 
     public static void propagateStorePath(RelationalAssociationMapping mapping)
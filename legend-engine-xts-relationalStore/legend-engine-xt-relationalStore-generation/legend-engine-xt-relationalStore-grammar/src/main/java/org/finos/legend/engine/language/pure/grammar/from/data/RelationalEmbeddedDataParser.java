@@ -19,6 +19,7 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.data.RelationalEmbeddedDataLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.data.RelationalEmbeddedDataParserGrammar;
@@ -55,7 +56,7 @@ public class RelationalEmbeddedDataParser implements EmbeddedDataParser
         RelationalEmbeddedDataParserGrammar parser = new RelationalEmbeddedDataParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, RelationalEmbeddedDataParserGrammar::definition));
     }
 
 }
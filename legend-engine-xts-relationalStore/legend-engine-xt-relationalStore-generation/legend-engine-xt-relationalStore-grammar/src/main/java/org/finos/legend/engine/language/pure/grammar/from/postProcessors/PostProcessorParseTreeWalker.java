@@ -24,6 +24,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.connection.postProcessor.PostProcessorLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.connection.postProcessor.PostProcessorParserGrammar;
 import org.finos.legend.engine.protocol.pure.v1.model.SourceInformation;
@@ -55,7 +56,7 @@ public class PostProcessorParseTreeWalker
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
 
-        return func.apply(parser);
+        return PureGrammarParserUtility.parseWithSllFallback(parser, func);
     }
 
     public MapperPostProcessor visitMapperPostProcessor(PostProcessorSpecificationSourceCode code, PostProcessorParserGrammar.MapperPostProcessorContext ctx)
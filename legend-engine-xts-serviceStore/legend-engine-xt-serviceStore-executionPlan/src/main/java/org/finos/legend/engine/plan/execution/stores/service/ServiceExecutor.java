@@ -60,10 +60,17 @@ import java.util.Map;
 public class ServiceExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final ServiceStoreHttpClientRegistry httpClientRegistry;
 
     public ServiceExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public ServiceExecutor(CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientRegistry httpClientRegistry)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpClientRegistry = httpClientRegistry;
     }
 
     public InputStreamResult executeHttpService(String url, List<Header> headers, StringEntity requestBodyEntity, HttpMethod httpMethod, String mimeType, List<SecurityScheme> securitySchemes, List<AuthenticationSchemeRequirement> authenticationSchemeRequirements, Identity identity)
@@ -95,7 +102,7 @@ public class ServiceExecutor
 
 
             HttpConnectionBuilder httpConnectionBuilder = serviceStoreConnectionProvider.makeConnection(connectionSpecification, authenticationSpecification, identity);
-            CloseableHttpResponse httpResponse = httpConnectionBuilder.execute();
+            CloseableHttpResponse httpResponse = this.httpClientRegistry == null ? httpConnectionBuilder.execute() : this.httpClientRegistry.execute(httpConnectionBuilder, uri);
 
             int statusCode = httpResponse.getStatusLine().getStatusCode();
 
@@ -0,0 +1,113 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionBuilder;
+import org.finos.legend.engine.plan.execution.stores.service.plugin.ServiceStoreHttpClientConfig;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares one pool of keep-alive connections between the requests made to services, instead of paying the TCP/TLS setup
+ * of a new connection for each request.
+ * <p>
+ * Only the connections are shared: every request still gets its own lightweight client, built from the
+ * {@link org.apache.http.impl.client.HttpClientBuilder} configured with the credentials of that request, so that
+ * credentials are never shared between requests and refreshed credentials are always used. Connections holding a
+ * state (e.g. authenticated with NTLM or a TLS client certificate) are only reused by requests with the same state.
+ * As the socket factories belong to the pool, the SSL context configured on a client builder is not used.
+ * <p>
+ * Responses must be closed (or their content fully read) to give their connection back to the pool.
+ */
+public class ServiceStoreHttpClientRegistry implements AutoCloseable
+{
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final IdleConnectionEvictor idleConnectionEvictor;
+
+    public ServiceStoreHttpClientRegistry(ServiceStoreHttpClientConfig config)
+    {
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(config.maxConnectionsTotal);
+        this.connectionManager.setDefaultMaxPerRoute(config.maxConnectionsPerRoute);
+        if (config.idleConnectionEvictionMillis > 0)
+        {
+            this.idleConnectionEvictor = new IdleConnectionEvictor(this.connectionManager, config.idleConnectionEvictionMillis, TimeUnit.MILLISECONDS, config.idleConnectionEvictionMillis, TimeUnit.MILLISECONDS);
+            this.idleConnectionEvictor.start();
+        }
+        else
+        {
+            this.idleConnectionEvictor = null;
+        }
+    }
+
+    public CloseableHttpResponse execute(HttpConnectionBuilder httpConnectionBuilder, URI uri) throws Exception
+    {
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        HttpHost target = new HttpHost(uri.getHost(), port, uri.getScheme());
+        String route = target.toURI();
+        // the client does not own the shared connection manager, closing it (or not) does not close the pool
+        CloseableHttpClient httpClient = httpConnectionBuilder.httpClientBuilder
+                .setConnectionManager(this.connectionManager)
+                .setConnectionManagerShared(true)
+                .build();
+        long start = System.currentTimeMillis();
+        try
+        {
+            return httpConnectionBuilder.execute(httpClient);
+        }
+        finally
+        {
+            MetricsHandler.observeServiceStoreRequest(route, start, System.currentTimeMillis());
+            int leased = 0;
+            int available = 0;
+            int pending = 0;
+            for (HttpRoute httpRoute : this.connectionManager.getRoutes())
+            {
+                if (target.equals(httpRoute.getTargetHost()))
+                {
+                    PoolStats stats = this.connectionManager.getStats(httpRoute);
+                    leased += stats.getLeased();
+                    available += stats.getAvailable();
+                    pending += stats.getPending();
+                }
+            }
+            MetricsHandler.setServiceStoreConnectionPoolStats(route, leased, available, pending);
+        }
+    }
+
+    public PoolStats getTotalStats()
+    {
+        return this.connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.idleConnectionEvictor != null)
+        {
+            this.idleConnectionEvictor.shutdown();
+        }
+        this.connectionManager.close();
+    }
+}
@@ -33,7 +33,11 @@ public class HttpConnectionBuilder
 
     public CloseableHttpResponse execute() throws Exception
     {
-        CloseableHttpClient httpClient = httpClientBuilder.build();
+        return execute(httpClientBuilder.build());
+    }
+
+    public CloseableHttpResponse execute(CloseableHttpClient httpClient) throws Exception
+    {
         HttpUriRequest request = requestBuilder.build();
         return httpClient.execute(request);
     }
@@ -31,6 +31,7 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.service.ServiceExecutor;
+import org.finos.legend.engine.plan.execution.stores.service.ServiceStoreHttpClientRegistry;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AggregationAwareExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AllocationExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
@@ -94,8 +95,10 @@ public class ServiceExecutionNodeExecutor implements ExecutionNodeVisitor<Result
                 String processedUrl = ServiceExecutor.getProcessedUrl(node.url, node.params, mappedParameters, this.executionState);
                 List<Header> headers = ServiceExecutor.getProcessedHeaders(node.params, mappedParameters, this.executionState);
                 StringEntity requestBodyEntity = ServiceExecutor.getRequestBodyEntity(node.requestBodyDescription, this.executionState);
-                CredentialProviderProvider credentialProviderProvider = ((ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service)).getCredentialProviderProvider();
-                return new ServiceExecutor(credentialProviderProvider).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
+                ServiceStoreExecutionState serviceStoreExecutionState = (ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service);
+                CredentialProviderProvider credentialProviderProvider = serviceStoreExecutionState.getCredentialProviderProvider();
+                ServiceStoreHttpClientRegistry httpClientRegistry = ((ServiceStoreState) serviceStoreExecutionState.getStoreState()).getHttpClientRegistry();
+                return new ServiceExecutor(credentialProviderProvider, httpClientRegistry).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
             }
         }
         else if (executionNode instanceof ServiceParametersResolutionExecutionNode)
@@ -21,6 +21,7 @@ import org.finos.legend.engine.plan.execution.stores.StoreType;
 public class ServiceStoreExecutionConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private ServiceStoreHttpClientConfig httpClientConfig;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +34,11 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
         return credentialProviderProvider;
     }
 
+    public ServiceStoreHttpClientConfig getHttpClientConfig()
+    {
+        return httpClientConfig;
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -41,6 +47,7 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.builder().build();
+        private ServiceStoreHttpClientConfig httpClientConfig = new ServiceStoreHttpClientConfig();
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +55,17 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
             return this;
         }
 
+        public Builder withHttpClientConfig(ServiceStoreHttpClientConfig httpClientConfig)
+        {
+            this.httpClientConfig = httpClientConfig;
+            return this;
+        }
+
         public ServiceStoreExecutionConfiguration build()
         {
             ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = new ServiceStoreExecutionConfiguration();
             serviceStoreExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
+            serviceStoreExecutionConfiguration.httpClientConfig = httpClientConfig;
             return serviceStoreExecutionConfiguration;
         }
     }
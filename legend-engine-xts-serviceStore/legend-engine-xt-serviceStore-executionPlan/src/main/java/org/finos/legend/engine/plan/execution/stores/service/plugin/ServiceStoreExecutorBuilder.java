@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilder;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.ServiceStoreHttpClientRegistry;
 
 public class ServiceStoreExecutorBuilder implements StoreExecutorBuilder
 {
@@ -48,7 +49,8 @@ public class ServiceStoreExecutorBuilder implements StoreExecutorBuilder
             throw new IllegalStateException("Incorrect store execution configuration. Please reach out to dev team");
         }
         ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = (ServiceStoreExecutionConfiguration) storeExecutorConfiguration;
-        ServiceStoreState state = new ServiceStoreState();
+        ServiceStoreHttpClientConfig httpClientConfig = serviceStoreExecutionConfiguration.getHttpClientConfig();
+        ServiceStoreState state = new ServiceStoreState(httpClientConfig != null && httpClientConfig.pooled ? new ServiceStoreHttpClientRegistry(httpClientConfig) : null);
         return new ServiceStoreExecutor(state,serviceStoreExecutionConfiguration);
     }
 }
@@ -0,0 +1,40 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.plugin;
+
+public class ServiceStoreHttpClientConfig
+{
+    // Share a pool of keep-alive connections across requests instead of opening new connections for each request
+    public boolean pooled = false;
+    // Maximum number of pooled connections, across all routes
+    public int maxConnectionsTotal = 200;
+    // Maximum number of pooled connections to a single route (scheme, host and port)
+    public int maxConnectionsPerRoute = 20;
+    // How long a pooled connection can stay idle before being closed, 0 meaning until the server closes it
+    public long idleConnectionEvictionMillis = 30_000;
+
+    public ServiceStoreHttpClientConfig()
+    {
+        // DO NOT DELETE: this resets the default constructor for Jackson
+    }
+
+    public ServiceStoreHttpClientConfig(boolean pooled, int maxConnectionsTotal, int maxConnectionsPerRoute, long idleConnectionEvictionMillis)
+    {
+        this.pooled = pooled;
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.idleConnectionEvictionMillis = idleConnectionEvictionMillis;
+    }
+}
@@ -16,9 +16,22 @@ package org.finos.legend.engine.plan.execution.stores.service.plugin;
 
 import org.finos.legend.engine.plan.execution.stores.StoreState;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.ServiceStoreHttpClientRegistry;
 
 public class ServiceStoreState implements StoreState
 {
+    private final ServiceStoreHttpClientRegistry httpClientRegistry;
+
+    public ServiceStoreState()
+    {
+        this(null);
+    }
+
+    public ServiceStoreState(ServiceStoreHttpClientRegistry httpClientRegistry)
+    {
+        this.httpClientRegistry = httpClientRegistry;
+    }
+
     @Override
     public StoreType getStoreType()
     {
@@ -30,4 +43,12 @@ public class ServiceStoreState implements StoreState
     {
         return null;
     }
+
+    /**
+     * @return the registry of pooled HTTP clients, or null if a client should be built for each request
+     */
+    public ServiceStoreHttpClientRegistry getHttpClientRegistry()
+    {
+        return this.httpClientRegistry;
+    }
 }
@@ -0,0 +1,130 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
+import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnectionBuilder;
+import org.finos.legend.engine.plan.execution.stores.service.plugin.ServiceStoreHttpClientConfig;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestServiceStoreHttpClientRegistry
+{
+    private static WireMockServer server;
+    private static URI uri;
+
+    @BeforeClass
+    public static void setupServer()
+    {
+        int port = DynamicPortGenerator.generatePort();
+        server = new WireMockServer(port);
+        server.start();
+        server.stubFor(WireMock.get("/ping").willReturn(WireMock.ok("pong")));
+        uri = URI.create("http://127.0.0.1:" + port + "/ping");
+    }
+
+    @AfterClass
+    public static void teardownServer()
+    {
+        server.stop();
+    }
+
+    @Before
+    public void resetRequests()
+    {
+        server.resetRequests();
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception
+    {
+        try (ServiceStoreHttpClientRegistry registry = new ServiceStoreHttpClientRegistry(new ServiceStoreHttpClientConfig(true, 10, 5, 0)))
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                Assert.assertEquals("pong", execute(registry, "token"));
+            }
+            Assert.assertEquals(0, registry.getTotalStats().getLeased());
+            Assert.assertEquals(1, registry.getTotalStats().getAvailable());
+        }
+    }
+
+    @Test
+    public void testCredentialsAreNotSharedBetweenRequests() throws Exception
+    {
+        try (ServiceStoreHttpClientRegistry registry = new ServiceStoreHttpClientRegistry(new ServiceStoreHttpClientConfig(true, 10, 5, 0)))
+        {
+            execute(registry, "user1");
+            execute(registry, "user2");
+            // refreshed credentials of the same user are used by later requests
+            execute(registry, "user1-refreshed");
+
+            List<String> authorizations = server.findAll(WireMock.getRequestedFor(WireMock.urlEqualTo("/ping"))).stream()
+                    .map(request -> request.getHeader("Authorization"))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(Arrays.asList("Bearer user1", "Bearer user2", "Bearer user1-refreshed"), authorizations);
+            Assert.assertEquals(1, registry.getTotalStats().getAvailable());
+        }
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvicted() throws Exception
+    {
+        try (ServiceStoreHttpClientRegistry registry = new ServiceStoreHttpClientRegistry(new ServiceStoreHttpClientConfig(true, 10, 5, 50)))
+        {
+            execute(registry, "token");
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (registry.getTotalStats().getAvailable() > 0 && System.currentTimeMillis() < deadline)
+            {
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(0, registry.getTotalStats().getAvailable());
+
+            // a new connection is opened for the next request
+            Assert.assertEquals("pong", execute(registry, "token"));
+            List<LoggedRequest> requests = server.findAll(WireMock.getRequestedFor(WireMock.urlEqualTo("/ping")));
+            Assert.assertEquals(2, requests.size());
+        }
+    }
+
+    private static String execute(ServiceStoreHttpClientRegistry registry, String token) throws Exception
+    {
+        HttpConnectionBuilder httpConnectionBuilder = new HttpConnectionBuilder(
+                HttpClients.custom().setDefaultHeaders(Collections.singletonList(new BasicHeader("Authorization", "Bearer " + token))),
+                RequestBuilder.get(uri));
+        try (CloseableHttpResponse response = registry.execute(httpConnectionBuilder, uri))
+        {
+            return EntityUtils.toString(response.getEntity());
+        }
+    }
+}
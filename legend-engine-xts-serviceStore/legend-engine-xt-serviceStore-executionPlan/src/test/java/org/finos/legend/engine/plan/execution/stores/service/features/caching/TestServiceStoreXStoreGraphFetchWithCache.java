@@ -24,6 +24,7 @@ import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.result.json.JsonStreamToJsonDefaultSerializer;
 import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
 
@@ -175,6 +176,63 @@ public class TestServiceStoreXStoreGraphFetchWithCache extends ServiceStoreTestS
         assertCacheStats(firmCache, 3, 10, 7, 3);
     }
 
+    /**
+     * Same as XStoreServiceWithSingleCrossPropertyAccess, with batches of several parents whose children are fetched in parallel
+     */
+    @Test
+    public void XStoreServiceWithSingleCrossPropertyAccessFetchedInParallel() throws JavaCompileException
+    {
+        String query = "###Pure\n" +
+                "function testfetch2parallel::query(): Any[1]\n" +
+                "{\n" +
+                "  {|test::Person.all()\n" +
+                "    ->graphFetch(#{\n" +
+                "      test::Person {\n" +
+                "        fullName,\n" +
+                "        firm {\n" +
+                "          name\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }#, 5)\n" +
+                "    ->serialize(#{\n" +
+                "      test::Person {\n" +
+                "        fullName,\n" +
+                "        firm {\n" +
+                "          name\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }#)};\n" +
+                "}";
+
+        String expectedJson = jsonPrepend + "[" +
+                "{\"fullName\":\"P1\",\"firm\":{\"name\":\"F1\"}}," +
+                "{\"fullName\":\"P2\",\"firm\":{\"name\":\"F2\"}}," +
+                "{\"fullName\":\"P3\",\"firm\":null}," +
+                "{\"fullName\":\"P4\",\"firm\":null}," +
+                "{\"fullName\":\"P5\",\"firm\":{\"name\":\"F1\"}}" +
+                "]}";
+
+        SingleExecutionPlan fetchPlan = buildPlanForQuery(pureGrammar + "\n\n" + query, mapping, runtime);
+        PlanExecutorHelper planExecutorHelper = new PlanExecutorHelper(fetchPlan, Collections.emptyMap());
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "Pool for parallel cross store fetch testing"))
+        {
+            planExecutorHelper.executor.injectConcurrentExecutionNodeExecutorPool(pool);
+            JsonAssert.assertJsonEquals(expectedJson, planExecutorHelper.executePlan());
+            Assert.assertTrue(pool.toString(), pool.toString().contains("pool size = 0"));
+
+            System.setProperty("org.finos.legend.engine.inMemoryCrossStoreParallelFetch", "true");
+            try
+            {
+                JsonAssert.assertJsonEquals(expectedJson, planExecutorHelper.executePlan());
+            }
+            finally
+            {
+                System.clearProperty("org.finos.legend.engine.inMemoryCrossStoreParallelFetch");
+            }
+            Assert.assertFalse(pool.toString(), pool.toString().contains("pool size = 0"));
+        }
+    }
+
     /**
      * A GraphFetch query which touches the same property across two services (one cross-store access)
      * Fetch2 was testing 2:1 multiplicity; this case tests 1:2 multiplicity
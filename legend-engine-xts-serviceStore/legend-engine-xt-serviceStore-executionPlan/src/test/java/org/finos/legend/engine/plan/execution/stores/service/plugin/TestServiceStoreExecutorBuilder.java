@@ -32,6 +32,17 @@ public class TestServiceStoreExecutorBuilder
         ServiceStoreExecutor executor = new ServiceStoreExecutorBuilder().build();
         ServiceStoreState state = executor.getStoreState();
         Assert.assertNull(state.getStoreExecutionInfo());
+        Assert.assertNull(state.getHttpClientRegistry());
+    }
+
+    @Test
+    public void testPooledHttpClientBuilder()
+    {
+        ServiceStoreExecutionConfiguration config = ServiceStoreExecutionConfiguration.builder().withHttpClientConfig(new ServiceStoreHttpClientConfig(true, 50, 5, 10_000)).build();
+        ServiceStoreExecutor executor = (ServiceStoreExecutor) new ServiceStoreExecutorBuilder().build(config);
+        ServiceStoreState state = executor.getStoreState();
+        Assert.assertNotNull(state.getHttpClientRegistry());
+        Assert.assertEquals(50, state.getHttpClientRegistry().getTotalStats().getMax());
     }
 
     @Test
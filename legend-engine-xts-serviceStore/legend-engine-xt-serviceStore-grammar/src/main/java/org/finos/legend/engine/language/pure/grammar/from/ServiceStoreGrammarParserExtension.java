@@ -125,7 +125,7 @@ public class ServiceStoreGrammarParserExtension implements IServiceStoreGrammarP
         ServiceStoreParserGrammar parser = new ServiceStoreParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        ServiceStoreParserGrammar.MappingContext mappingContext = parser.mapping();
+        ServiceStoreParserGrammar.MappingContext mappingContext = PureGrammarParserUtility.parseWithSllFallback(parser, ServiceStoreParserGrammar::mapping);
         ParserRuleContext classMappingCtx = mappingContext.classMapping();
         return new SourceCodeParserInfo(mappingElementSourceCode.code, input, mappingElementSourceCode.mappingParseTreeWalkerSourceInformation.getSourceInformation(mappingElementSourceCode.mappingElementParserRuleContext), mappingElementSourceCode.mappingElementParseTreeWalkerSourceInformation, lexer, parser, classMappingCtx);
     }
@@ -140,7 +140,7 @@ public class ServiceStoreGrammarParserExtension implements IServiceStoreGrammarP
         ServiceStoreConnectionParserGrammar parser = new ServiceStoreConnectionParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(connectionValueSourceCode.code, input, connectionValueSourceCode.sourceInformation, connectionValueSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ServiceStoreConnectionParserGrammar::definition));
     }
 
     private static SourceCodeParserInfo getServiceStoreParserInfo(SectionSourceCode sectionSourceCode)
@@ -153,6 +153,6 @@ public class ServiceStoreGrammarParserExtension implements IServiceStoreGrammarP
         ServiceStoreParserGrammar parser = new ServiceStoreParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(sectionSourceCode.code, input, sectionSourceCode.sourceInformation, sectionSourceCode.walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ServiceStoreParserGrammar::definition));
     }
 }
@@ -19,6 +19,7 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.finos.legend.engine.language.pure.grammar.from.ParseTreeWalkerSourceInformation;
 import org.finos.legend.engine.language.pure.grammar.from.ParserErrorListener;
+import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParserUtility;
 import org.finos.legend.engine.language.pure.grammar.from.SourceCodeParserInfo;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.data.embedded.serviceStore.ServiceStoreEmbeddedDataLexerGrammar;
 import org.finos.legend.engine.language.pure.grammar.from.antlr4.data.embedded.serviceStore.ServiceStoreEmbeddedDataParserGrammar;
@@ -56,6 +57,6 @@ public class ServiceStoreEmbeddedDataParser implements EmbeddedDataParser
         ServiceStoreEmbeddedDataParserGrammar parser = new ServiceStoreEmbeddedDataParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, ServiceStoreEmbeddedDataParserGrammar::definition));
     }
 }
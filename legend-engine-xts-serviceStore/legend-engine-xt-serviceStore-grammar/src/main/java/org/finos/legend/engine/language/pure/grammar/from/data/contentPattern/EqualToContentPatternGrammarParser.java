@@ -62,6 +62,6 @@ public class EqualToContentPatternGrammarParser implements ContentPatternGrammar
         EqualToContentPatternParserGrammar parser = new EqualToContentPatternParserGrammar(new CommonTokenStream(lexer));
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
-        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, parser.definition());
+        return new SourceCodeParserInfo(code, input, sourceInformation, walkerSourceInformation, lexer, parser, PureGrammarParserUtility.parseWithSllFallback(parser, EqualToContentPatternParserGrammar::definition));
     }
 }
@@ -0,0 +1,82 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.PlanCacheKey;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+import java.util.List;
+
+/**
+ * Plan cache key for SQL queries. The query is expected to be realiased, so that queries differing only by
+ * alias names share a plan, and positional arguments only contribute their types, since their values are bound
+ * as plan parameters at execution time. The model is identified by its loader cache key, which pins the
+ * project version, so a new version of the model never hits plans generated against a previous one.
+ */
+public class SQLExecutionCacheKey implements PlanCacheKey
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final String query;
+    private final List<String> parameterTypes;
+    private final String modelSource;
+
+    public SQLExecutionCacheKey(Query query, List<SQLQueryParameter> parameters, PureModelContext model) throws JsonProcessingException
+    {
+        this.query = objectMapper.writeValueAsString(query);
+        this.parameterTypes = ListIterate.collect(parameters, p -> p.getValue().getClass().getSimpleName());
+        this.modelSource = objectMapper.writeValueAsString(model);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        SQLExecutionCacheKey that = (SQLExecutionCacheKey) o;
+
+        if (!query.equals(that.query))
+        {
+            return false;
+        }
+        if (!parameterTypes.equals(that.parameterTypes))
+        {
+            return false;
+        }
+        return modelSource.equals(that.modelSource);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = query.hashCode();
+        result = 31 * result + parameterTypes.hashCode();
+        result = 31 * result + modelSource.hashCode();
+        return result;
+    }
+}
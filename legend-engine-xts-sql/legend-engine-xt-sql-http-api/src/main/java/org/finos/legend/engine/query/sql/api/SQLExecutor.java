@@ -21,6 +21,7 @@ import io.opentracing.Span;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function3;
+import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
@@ -36,8 +37,10 @@ import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.ExecutionPlanCache;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
@@ -120,18 +123,30 @@ public class SQLExecutor
     private final Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions;
     private final Iterable<? extends PlanTransformer> transformers;
     private final MutableMap<String, SQLSourceProvider> providers;
+    private final ExecutionPlanCache planCache;
 
     public SQLExecutor(ModelManager modelManager,
                        PlanExecutor planExecutor,
                        Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
                        List<SQLSourceProvider> providers,
                        Iterable<? extends PlanTransformer> transformers)
+    {
+        this(modelManager, planExecutor, routerExtensions, providers, transformers, null);
+    }
+
+    public SQLExecutor(ModelManager modelManager,
+                       PlanExecutor planExecutor,
+                       Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
+                       List<SQLSourceProvider> providers,
+                       Iterable<? extends PlanTransformer> transformers,
+                       ExecutionPlanCache planCache)
     {
         this.modelManager = modelManager;
         this.planExecutor = planExecutor;
         this.routerExtensions = routerExtensions;
         this.transformers = transformers;
         this.providers = ListIterate.groupByUniqueKey(providers, SQLSourceProvider::getType);
+        this.planCache = planCache;
     }
 
     public Result execute(Query query, String user, SQLContext context, Identity identity)
@@ -141,27 +156,28 @@ public class SQLExecutor
 
     public Result execute(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) ->
+        return TraceUtils.trace("execute", span ->
         {
             long start = System.currentTimeMillis();
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
 
-            Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
+            PreparedQuery prepared = prepare(query, positionalArguments, context, identity, span);
+            PureModel pureModel = prepared.pureModel;
+            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(prepared.parameters, pureModel);
 
-            Map<String, Result> arguments = getPlanArguments(plans._arguments(), pureModel, user, identity);
+            Map<String, Result> arguments = Maps.mutable.empty();
+            SingleExecutionPlan transformedPlan = generatePlan(prepared, positionals, identity, span, plans -> arguments.putAll(getPlanArguments(plans._arguments(), pureModel, user, identity)));
 
             RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
             Map<String, Result> positionalArgumentPlans = getPlanArguments(positionalPlans, pureModel, user, identity);
 
-            SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
-
             arguments.putAll(positionalArgumentPlans);
             Result result = planExecutor.execute(transformedPlan, arguments, user, identity);
 
             MetricsHandler.observe("execute", start, System.currentTimeMillis());
 
             return result;
-        }, "execute", context, identity);
+        });
     }
 
     private Map<String, Result> getPlanArguments(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, PureModel pureModel, String user, Identity identity)
@@ -201,7 +217,7 @@ public class SQLExecutor
                     org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction<? extends Object> lambda = transformedContext.lambda(pureModel.getExecutionSupport());
                     return transformLambda(lambda, pureModel);
                 },
-                (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport())._scopeWithFrom(false),
+                (sources, extensions, pureModel) -> rootContext(sources, extensions, pureModel)._scopeWithFrom(false),
                 "lambda", context, identity);
     }
 
@@ -212,7 +228,14 @@ public class SQLExecutor
 
     public SingleExecutionPlan plan(Query query, List<Object> positionalArguments, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) -> transformExecutionPlan(planResult(transformedContext, pureModel, sources)._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers), "plan", context, identity);
+        return TraceUtils.trace("plan", span ->
+        {
+            PreparedQuery prepared = prepare(query, positionalArguments, context, identity, span);
+            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(prepared.parameters, prepared.pureModel);
+            return generatePlan(prepared, positionals, identity, span, plans ->
+            {
+            });
+        });
     }
 
     public Schema schema(Query query, Identity identity)
@@ -253,9 +276,69 @@ public class SQLExecutor
         return result;
     }
 
+    private SingleExecutionPlan generatePlan(PreparedQuery prepared,
+                                             RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals,
+                                             Identity identity,
+                                             Span span,
+                                             Procedure<Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult> planResultProcedure)
+    {
+        SQLExecutionCacheKey cacheKey = planCacheKey(prepared, identity);
+        if (cacheKey != null)
+        {
+            SingleExecutionPlan cachedPlan = this.planCache.getCache().getIfPresent(cacheKey);
+            span.setTag("planCacheHit", cachedPlan != null);
+            if (cachedPlan != null)
+            {
+                return cachedPlan;
+            }
+        }
+
+        PureModel pureModel = prepared.pureModel;
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(prepared.sources, pureModel);
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = transform(prepared, compiledSources, positionals, this::rootContext, identity);
+
+        Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, compiledSources);
+        planResultProcedure.value(plans);
+
+        SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+
+        // source arguments are resolved outside of the plan, so plans that need them cannot be replayed from the cache
+        if (cacheKey != null && plans._arguments().isEmpty())
+        {
+            this.planCache.getCache().put(cacheKey, transformedPlan);
+        }
+
+        return transformedPlan;
+    }
+
+    private SQLExecutionCacheKey planCacheKey(PreparedQuery prepared, Identity identity)
+    {
+        if (this.planCache == null || !(prepared.pureModelContext instanceof PureModelContextPointer))
+        {
+            return null;
+        }
+
+        // only pointers to immutable model versions are cacheable, and their cache key pins the resolved version
+        ModelLoader loader = this.modelManager.modelLoaderForContext(prepared.pureModelContext);
+        if (!loader.shouldCache(prepared.pureModelContext))
+        {
+            return null;
+        }
+
+        try
+        {
+            return new SQLExecutionCacheKey(prepared.query, prepared.parameters, loader.cacheKey(prepared.pureModelContext, identity));
+        }
+        catch (JsonProcessingException e)
+        {
+            LOGGER.warn("Unable to build plan cache key, plan will not be cached", e);
+            return null;
+        }
+    }
+
     private <T> T process(Query query, List<Object> positionalArguments, Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func, String name, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, func, (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport()), name, context, identity);
+        return process(query, positionalArguments, func, this::rootContext, name, context, identity);
     }
 
     private <T> T process(Query query,
@@ -268,45 +351,67 @@ public class SQLExecutor
     {
         return TraceUtils.trace(name, span ->
         {
-            span.setTag("queryHash", hash(query));
+            PreparedQuery prepared = prepare(query, positionalArguments, context, identity, span);
+            PureModel pureModel = prepared.pureModel;
 
-            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
-            RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
-            PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(prepared.sources, pureModel);
+            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(prepared.parameters, pureModel);
 
-            PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
+            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = transform(prepared, compiledSources, positionals, transformContextFunc, identity);
 
-            List<SQLQueryParameter> parameters = ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
-            {
-                Expression expression = createParameterValueExpression(argument);
-                Variable variable = new Variable();
-                variable.name = "_" + (index + 1);
-                variable.multiplicity = Multiplicity.PURE_ONE;
-                variable.genericType = new GenericType(new PackageableType(LITERAL_TO_PURE_TYPES.get(expression.getClass())));
+            return func.value(transformedContext, pureModel, compiledSources, positionals, span);
+        });
+    }
 
-                return new SQLQueryParameter(variable, expression);
-            });
+    private PreparedQuery prepare(Query query, List<Object> positionalArguments, SQLContext context, Identity identity, Span span)
+    {
+        span.setTag("queryHash", hash(query));
 
-            Query finalQuery = QueryRealiaser.realias(query);
-            span.setTag("realiasedQueryHash", hash(finalQuery));
+        Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
+        RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
+        PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
 
-            Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(finalQuery, pureModel);
+        PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
 
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(sources, pureModel);
-            LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
+        List<SQLQueryParameter> parameters = ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
+        {
+            Expression expression = createParameterValueExpression(argument);
+            Variable variable = new Variable();
+            variable.name = "_" + (index + 1);
+            variable.multiplicity = Multiplicity.PURE_ONE;
+            variable.genericType = new GenericType(new PackageableType(LITERAL_TO_PURE_TYPES.get(expression.getClass())));
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(parameters, pureModel);
+            return new SQLQueryParameter(variable, expression);
+        });
 
-            transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
+        Query finalQuery = QueryRealiaser.realias(query);
+        span.setTag("realiasedQueryHash", hash(finalQuery));
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
-                    compiledQuery, transformContext, pureModel.getExecutionSupport());
+        return new PreparedQuery(finalQuery, sources, pureModelContext, pureModel, parameters);
+    }
 
-            return func.value(transformedContext, pureModel, compiledSources, positionals, span);
-        });
+    private Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transform(PreparedQuery prepared,
+                                                                                                 RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources,
+                                                                                                 RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals,
+                                                                                                 Function3<RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<? extends Root_meta_pure_extension_Extension>, PureModel, Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext> transformContextFunc,
+                                                                                                 Identity identity)
+    {
+        PureModel pureModel = prepared.pureModel;
+        Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(prepared.query, pureModel);
+
+        LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
+
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
+        transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
+
+        return core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
+                compiledQuery, transformContext, pureModel.getExecutionSupport());
     }
 
+    private Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext rootContext(RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources, RichIterable<? extends Root_meta_pure_extension_Extension> extensions, PureModel pureModel)
+    {
+        return core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport());
+    }
 
     private Expression createParameterValueExpression(Object o)
     {
@@ -458,4 +563,22 @@ public class SQLExecutor
             return null;
         }
     }
+
+    private static class PreparedQuery
+    {
+        private final Query query;
+        private final RichIterable<SQLSource> sources;
+        private final PureModelContext pureModelContext;
+        private final PureModel pureModel;
+        private final List<SQLQueryParameter> parameters;
+
+        private PreparedQuery(Query query, RichIterable<SQLSource> sources, PureModelContext pureModelContext, PureModel pureModel, List<SQLQueryParameter> parameters)
+        {
+            this.query = query;
+            this.sources = sources;
+            this.pureModelContext = pureModelContext;
+            this.pureModel = pureModel;
+            this.parameters = parameters;
+        }
+    }
 }
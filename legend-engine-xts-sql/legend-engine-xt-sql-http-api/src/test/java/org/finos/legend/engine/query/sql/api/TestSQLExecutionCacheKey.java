@@ -0,0 +1,86 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.sql.metamodel.Expression;
+import org.finos.legend.engine.protocol.sql.metamodel.IntegerLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.protocol.sql.metamodel.StringLiteral;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TestSQLExecutionCacheKey
+{
+    private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+
+    @Test
+    public void testRealiasedQueriesShareKey() throws JsonProcessingException
+    {
+        SQLExecutionCacheKey key1 = key("select myTable.a from myTable where myTable.b = $1", pointer("1.0.0"), new StringLiteral());
+        SQLExecutionCacheKey key2 = key("select t1.a from myTable as t1 where t1.b = $1", pointer("1.0.0"), new StringLiteral());
+
+        Assert.assertEquals(key1, key2);
+        Assert.assertEquals(key1.hashCode(), key2.hashCode());
+    }
+
+    @Test
+    public void testParameterValuesDoNotAffectKey() throws JsonProcessingException
+    {
+        StringLiteral first = new StringLiteral();
+        first.value = "first";
+        StringLiteral second = new StringLiteral();
+        second.value = "second";
+
+        Assert.assertEquals(key("select a from myTable where b = $1", pointer("1.0.0"), first), key("select a from myTable where b = $1", pointer("1.0.0"), second));
+    }
+
+    @Test
+    public void testParameterTypesAffectKey() throws JsonProcessingException
+    {
+        Assert.assertNotEquals(key("select a from myTable where b = $1", pointer("1.0.0"), new StringLiteral()), key("select a from myTable where b = $1", pointer("1.0.0"), new IntegerLiteral()));
+    }
+
+    @Test
+    public void testModelVersionAffectsKey() throws JsonProcessingException
+    {
+        Assert.assertNotEquals(key("select a from myTable", pointer("1.0.0")), key("select a from myTable", pointer("1.0.1")));
+    }
+
+    private static SQLExecutionCacheKey key(String sql, PureModelContextPointer pointer, Expression... parameterValues) throws JsonProcessingException
+    {
+        List<SQLQueryParameter> parameters = Lists.mutable.with(parameterValues).collect(v -> new SQLQueryParameter(null, v));
+        return new SQLExecutionCacheKey(QueryRealiaser.realias((Query) PARSER.parseStatement(sql)), parameters, pointer);
+    }
+
+    private static PureModelContextPointer pointer(String version)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "org.finos.legend";
+        sdlc.artifactId = "test";
+        sdlc.version = version;
+
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+}
@@ -44,6 +44,7 @@ import org.finos.legend.engine.query.sql.api.CatchAllExceptionMapper;
 import org.finos.legend.engine.query.sql.api.MockPac4jFeature;
 import org.finos.legend.engine.query.sql.api.TestSQLSourceProvider;
 import org.finos.legend.engine.shared.core.api.grammar.RenderStyle;
+import org.finos.legend.engine.shared.core.api.result.BinaryTDSFormat;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.glassfish.jersey.test.grizzly.GrizzlyWebTestContainerFactory;
@@ -52,6 +53,13 @@ import org.junit.ClassRule;
 import org.junit.Test;
 
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ServiceLoader;
 
@@ -271,6 +279,29 @@ public class SqlExecuteTest
         Assert.assertEquals("Name\r\nAlice\r\nBob\r\nCurtis\r\nDanielle\r\n", results);
     }
 
+    @Test
+    public void testExecuteWithBinaryFormat() throws IOException
+    {
+        Response response = resources.target("sql/v1/execution/executeQueryString")
+                .queryParam("serializationFormat", SerializationFormat.BINARY)
+                .request(MediaType.APPLICATION_OCTET_STREAM)
+                .post(Entity.text("SELECT Name FROM service('/personServiceForNames') ORDER BY Name"));
+        Assert.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, response.getMediaType());
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(response.readEntity(InputStream.class))))
+        {
+            String[][] columns = BinaryTDSFormat.readHeader(in);
+            Assert.assertEquals(1, columns.length);
+            Assert.assertEquals("Name", columns[0][0]);
+            List<Object> names = Lists.mutable.empty();
+            while (in.readByte() == BinaryTDSFormat.ROW)
+            {
+                names.add(BinaryTDSFormat.readValue(in));
+            }
+            Assert.assertEquals(Arrays.asList("Alice", "Bob", "Curtis", "Danielle"), names);
+        }
+    }
+
     private void allSchemaTests(List<String> sqls, List<Object> arguments, Schema expected) throws JsonProcessingException
     {
         for (String sql: sqls)
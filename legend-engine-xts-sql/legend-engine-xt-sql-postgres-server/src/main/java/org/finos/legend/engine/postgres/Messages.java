@@ -353,10 +353,14 @@ public class Messages
      * <p>
      * ByteN The value of the column, in the format indicated by the associated format code. n is the
      * above length.
+     * <p>
+     * The row is written without being flushed, so that rows can be flushed in batches.
+     *
+     * @return the number of bytes of the DataRow message
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    void sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
-                     FormatCodes.FormatCode[] formatCodes) throws Exception
+    int sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
+                    FormatCodes.FormatCode[] formatCodes) throws Exception
     {
         int length = 4 + 2;
         Assert.assertTrue(columnTypes.size() == rs.getMetaData().getColumnCount(),
@@ -406,7 +410,8 @@ public class Messages
         }
 
         buffer.setInt(1, length);
-        channel.writeAndFlush(buffer);
+        channel.write(buffer);
+        return length + 1;
     }
 
     void writeCString(ByteBuf buffer, byte[] valBytes)
@@ -21,8 +21,10 @@
 
 package org.finos.legend.engine.postgres;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
@@ -44,6 +46,9 @@ import org.slf4j.Logger;
 class ResultSetReceiver
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ResultSetReceiver.class);
+    // data rows are flushed together once this many bytes are written, rather than one by one
+    private static final int FLUSH_BYTES = 32 * 1024;
+    private static final long WRITABILITY_WAIT_MILLIS = 1000;
     private final String query;
     private final DelayableWriteChannel channel;
     private final boolean isSimpleQuery;
@@ -68,8 +73,15 @@ class ResultSetReceiver
     }
 
 
-    public void sendResultSet(PostgresResultSet rs, int maxRows) throws Exception
+    /**
+     * Sends up to maxRows rows (0 meaning all of them) of the result set. Rows are flushed in batches, and rows stop being
+     * read from the result set while the channel is not writable, i.e. while the client is not reading fast enough.
+     *
+     * @return true if the result set has no more rows
+     */
+    public boolean sendResultSet(PostgresResultSet rs, int maxRows) throws Exception
     {
+        boolean exhausted = true;
         Tracer tracer = OpenTelemetryUtil.getTracer();
         Span span = tracer.spanBuilder("ResultSet Receiver Send ResultSet").startSpan();
         try (Scope ignored = span.makeCurrent())
@@ -91,16 +103,29 @@ class ResultSetReceiver
                 }
                 //TODO add column types to the span
                 span.addEvent("startSendingData");
-                while ((maxRows == 0 || rowCount < maxRows) && rs.next())
+                long unflushedBytes = 0;
+                exhausted = false;
+                while (maxRows == 0 || rowCount < maxRows)
                 {
+                    if (!rs.next())
+                    {
+                        exhausted = true;
+                        break;
+                    }
                     rowCount++;
-                    messages.sendDataRow(directChannel, rs, columnTypes, null);
-                    if ((maxRows != 0 && rowCount % maxRows == 0) || rowCount % 10000 == 0)
-                    {   //TODO REMOVE FLASH FROM essages.sendDataRow
-                        directChannel.flush();
-                        span.addEvent("sentRows", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
+                    unflushedBytes += messages.sendDataRow(directChannel, rs, columnTypes, null);
+                    if (unflushedBytes >= FLUSH_BYTES || !directChannel.isWritable())
+                    {
+                        flushRows();
+                        unflushedBytes = 0;
+                        if (!directChannel.isWritable())
+                        {
+                            span.addEvent("pausedForSlowClient", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
+                            awaitWritable();
+                        }
                     }
                 }
+                flushRows();
                 span.addEvent("finishedSendingData", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
             }
         }
@@ -109,6 +134,31 @@ class ResultSetReceiver
             span.end();
         }
         LOGGER.info("Query complete with row count {}", rowCount);
+        return exhausted;
+    }
+
+    private void flushRows()
+    {
+        directChannel.flush();
+        ChannelOutboundBuffer outboundBuffer = directChannel.unsafe().outboundBuffer();
+        if (outboundBuffer != null)
+        {
+            OpenTelemetryUtil.DATA_ROWS_BYTES_IN_FLIGHT.record(outboundBuffer.totalPendingWriteBytes());
+        }
+    }
+
+    void awaitWritable() throws InterruptedException
+    {
+        OpenTelemetryUtil.TOTAL_DATA_ROWS_BACKPRESSURE_PAUSES.add(1);
+        // an empty write completes once the rows written before it are sent, the channel being writable again by then
+        while (!directChannel.isWritable())
+        {
+            if (!directChannel.isActive())
+            {
+                throw new ClientInterrupted();
+            }
+            directChannel.writeAndFlush(Unpooled.EMPTY_BUFFER).await(WRITABILITY_WAIT_MILLIS);
+        }
     }
 
     public void allFinished()
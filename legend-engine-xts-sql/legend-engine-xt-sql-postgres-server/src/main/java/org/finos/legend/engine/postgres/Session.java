@@ -560,8 +560,8 @@ public class Session implements AutoCloseable
                 {
                     PostgresResultSet rs = preparedStatement.getResultSet();
                     int maxRows = preparedStatement.getMaxRows();
-                    resultSetReceiver.sendResultSet(rs, maxRows);
-                    if (maxRows == 0)
+                    // a portal which has no more rows completes, otherwise it is suspended until the next execute
+                    if (resultSetReceiver.sendResultSet(rs, maxRows))
                     {
                         resultSetReceiver.allFinished();
                     }
@@ -27,6 +27,7 @@ public class LegendHandlerConfig implements HandlerConfig
     private String protocol;
     private String host;
     private String port;
+    private boolean binaryResults;
 
     public LegendHandlerConfig()
     {
@@ -55,11 +56,16 @@ public class LegendHandlerConfig implements HandlerConfig
         return port;
     }
 
+    public boolean isBinaryResults()
+    {
+        return binaryResults;
+    }
+
 
     @Override
     public SessionsFactory buildSessionsFactory()
     {
-        LegendExecutionService client = new LegendExecutionService(new LegendHttpClient(getProtocol(), getHost(), getPort()));
+        LegendExecutionService client = new LegendExecutionService(new LegendHttpClient(getProtocol(), getHost(), getPort(), isBinaryResults()));
         return new LegendSessionFactory(client);
     }
 
@@ -70,6 +76,7 @@ public class LegendHandlerConfig implements HandlerConfig
                 "protocol='" + protocol + '\'' +
                 ", host='" + host + '\'' +
                 ", port='" + port + '\'' +
+                ", binaryResults=" + binaryResults +
                 '}';
     }
 }
@@ -24,7 +24,9 @@ import io.opentelemetry.context.Scope;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.postgres.utils.OpenTelemetryUtil;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.api.result.BinaryTDSFormat;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
@@ -78,8 +80,12 @@ public class LegendExecutionService
         try (Scope scope = span.makeCurrent();)
         {
             span.setAttribute("query", query);
-            InputStream inputStream = executionClient.executeQueryApi(query);
+            InputStream inputStream = new BufferedInputStream(executionClient.executeQueryApi(query));
             span.addEvent("receivedResponse");
+            if (BinaryTDSFormat.isBinaryTDS(inputStream))
+            {
+                return new LegendTdsBinaryResultParser(inputStream);
+            }
             LegendTdsResultParser parser = new LegendTdsResultParser(inputStream);
 
             return new LegendExecutionResult()
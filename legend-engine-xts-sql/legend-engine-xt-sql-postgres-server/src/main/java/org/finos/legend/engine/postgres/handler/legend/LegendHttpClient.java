@@ -55,18 +55,29 @@ public class LegendHttpClient implements LegendClient
     private final String protocol;
     private final String host;
     private final String port;
+    private final boolean binaryResults;
 
     public LegendHttpClient(String protocol, String host, String port)
+    {
+        this(protocol, host, port, false);
+    }
+
+    /**
+     * @param binaryResults request query results in the engine's binary TDS format rather than JSON; the format of
+     *                      the response is detected by {@link LegendExecutionService}
+     */
+    public LegendHttpClient(String protocol, String host, String port, boolean binaryResults)
     {
         this.protocol = protocol;
         this.host = host;
         this.port = port;
+        this.binaryResults = binaryResults;
     }
 
     public InputStream executeQueryApi(String query)
     {
         LOGGER.info("executing query {}", query);
-        String apiPath = "/api/sql/v1/execution/executeQueryString";
+        String apiPath = "/api/sql/v1/execution/executeQueryString" + (binaryResults ? "?serializationFormat=BINARY" : "");
         return executeApi(query, apiPath);
     }
 
@@ -70,6 +70,11 @@ public class LegendResultSet implements PostgresResultSet
 
             //2020-06-07T04:15:27.000000000+0000
             case STRICT_DATE:
+                if (value instanceof Number)
+                {
+                    // binary results already carry dates as epoch millis
+                    return ((Number) value).longValue();
+                }
                 return extractValue(value, legendColumn, String.class, "Date (YYYY-MM-DD)",
                         f ->
                         {
@@ -79,6 +84,10 @@ public class LegendResultSet implements PostgresResultSet
                         });
             case DATE:
             case DATE_TIME:
+                if (value instanceof Number)
+                {
+                    return ((Number) value).longValue();
+                }
                 return extractValue(value, legendColumn, String.class, "Date (YYYY-MM-DD) or Timestamp (YYYY-MM-DDThh:mm:ss.000000000+0000)",
                         f ->
                         {
@@ -0,0 +1,110 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import org.finos.legend.engine.shared.core.api.result.BinaryTDSFormat;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads results streamed by the engine in {@link BinaryTDSFormat}. Values come out already typed, so unlike
+ * {@link LegendTdsResultParser} there is no token-level parsing per value.
+ */
+public class LegendTdsBinaryResultParser implements LegendExecutionResult
+{
+    private final DataInputStream inputStream;
+    private final List<LegendColumn> legendColumns;
+    private List<Object> currentRow;
+
+    private boolean finishedReading = false;
+
+    public LegendTdsBinaryResultParser(InputStream inputStream) throws IOException
+    {
+        requireNonNull(inputStream, "TDS InputStream can't be null");
+        this.inputStream = new DataInputStream(inputStream);
+        this.legendColumns = new ArrayList<>();
+        for (String[] column : BinaryTDSFormat.readHeader(this.inputStream))
+        {
+            this.legendColumns.add(new LegendColumn(column[0], column[1]));
+        }
+    }
+
+    @Override
+    public List<LegendColumn> getLegendColumns()
+    {
+        return Collections.unmodifiableList(legendColumns);
+    }
+
+    @Override
+    public synchronized boolean hasNext()
+    {
+        if (finishedReading)
+        {
+            return false;
+        }
+        try
+        {
+            byte marker = inputStream.readByte();
+            if (marker == BinaryTDSFormat.END)
+            {
+                finishedReading = true;
+                inputStream.close();
+                return false;
+            }
+            if (marker != BinaryTDSFormat.ROW)
+            {
+                throw new LegendTdsClientException("Unexpected row marker in binary result: " + marker);
+            }
+            Object[] row = new Object[legendColumns.size()];
+            for (int i = 0; i < row.length; i++)
+            {
+                row[i] = BinaryTDSFormat.readValue(inputStream);
+            }
+            currentRow = Arrays.asList(row);
+            return true;
+        }
+        catch (IOException e)
+        {
+            throw new LegendTdsClientException("Error while retrieving a row", e);
+        }
+    }
+
+    @Override
+    public synchronized List<Object> next()
+    {
+        return Collections.unmodifiableList(currentRow);
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        try
+        {
+            inputStream.close();
+        }
+        catch (IOException e)
+        {
+            throw new LegendTdsClientException("Error while closing parser", e);
+        }
+    }
+}
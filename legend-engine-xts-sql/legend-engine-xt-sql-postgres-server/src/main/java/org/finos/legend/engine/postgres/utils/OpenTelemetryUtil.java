@@ -104,6 +104,18 @@ public class OpenTelemetryUtil
             .setDescription(("Execute duration"))
             .build();
 
+    public static final DoubleHistogram DATA_ROWS_BYTES_IN_FLIGHT = OPEN_TELEMETRY
+            .getMeter(LEGEND_ENGINE_XTS_SQL)
+            .histogramBuilder("data_rows_bytes_in_flight")
+            .setDescription("Bytes of data rows written but not yet sent to the client, measured at each flush")
+            .build();
+
+    public static final LongCounter TOTAL_DATA_ROWS_BACKPRESSURE_PAUSES = OPEN_TELEMETRY
+            .getMeter(LEGEND_ENGINE_XTS_SQL)
+            .counterBuilder("total_data_rows_backpressure_pauses")
+            .setDescription("Total of pauses in reading results until a slow client caught up")
+            .build();
+
     private OpenTelemetryUtil()
     {
     }
@@ -320,6 +320,31 @@ public class PostgresServerTest
         }
     }
 
+    @Test
+    public void testFetchSizeDividingTheRows() throws SQLException
+    {
+        // the portal is suspended with exactly fetch size rows remaining, and the next execute completes it with no rows
+        for (int fetchSize : new int[]{2, 3, 4, 5})
+        {
+            try (
+                    Connection connection = DriverManager.getConnection("jdbc:postgresql://127.0.0.1:" + testPostgresServer.getLocalAddress().getPort() + "/postgres",
+                            "dummy", "dummy")
+            )
+            {
+                connection.setAutoCommit(false);
+                PreparedStatement statement = connection.prepareStatement("SELECT * FROM service('/personService')");
+                statement.setFetchSize(fetchSize);
+                ResultSet resultSet = statement.executeQuery();
+                int rows = 0;
+                while (resultSet.next())
+                {
+                    rows++;
+                }
+                Assert.assertEquals("fetch size " + fetchSize, 4, rows);
+            }
+        }
+    }
+
     @Test
     public void testTableFunctionwithDecimal() throws SQLException
     {
@@ -0,0 +1,220 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.postgres;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.finos.legend.engine.postgres.handler.PostgresResultSet;
+import org.finos.legend.engine.postgres.handler.PostgresResultSetMetaData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResultSetReceiverTest
+{
+    private static final String QUERY = "SELECT * FROM service('/personService')";
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final Messages messages = new Messages(Throwable::getMessage);
+
+    @Test
+    public void testAllRowsSentEndWithCommandComplete() throws Exception
+    {
+        ResultSetReceiver receiver = newReceiver();
+        Assert.assertTrue(receiver.sendResultSet(new TestResultSet(3), 0));
+        receiver.allFinished();
+
+        Assert.assertEquals(Arrays.asList("D", "D", "D", "SELECT 3"), sentMessages());
+    }
+
+    @Test
+    public void testPortalIsSuspendedWhileRowsRemain() throws Exception
+    {
+        TestResultSet resultSet = new TestResultSet(3);
+        ResultSetReceiver receiver = newReceiver();
+        Assert.assertFalse(receiver.sendResultSet(resultSet, 2));
+        receiver.batchFinished();
+        Assert.assertEquals(Arrays.asList("D", "D", "s"), sentMessages());
+
+        // the next execute of the portal sends the remaining row and completes
+        receiver = newReceiver();
+        Assert.assertTrue(receiver.sendResultSet(resultSet, 2));
+        receiver.allFinished();
+        Assert.assertEquals(Arrays.asList("D", "SELECT 1"), sentMessages());
+    }
+
+    @Test
+    public void testPortalWithExactlyMaxRowsRemaining() throws Exception
+    {
+        TestResultSet resultSet = new TestResultSet(2);
+        ResultSetReceiver receiver = newReceiver();
+
+        // as by PostgreSQL, rows are not read ahead, so the portal is suspended once maxRows rows are sent
+        Assert.assertFalse(receiver.sendResultSet(resultSet, 2));
+        receiver.batchFinished();
+        Assert.assertEquals(Arrays.asList("D", "D", "s"), sentMessages());
+
+        receiver = newReceiver();
+        Assert.assertTrue(receiver.sendResultSet(resultSet, 2));
+        receiver.allFinished();
+        Assert.assertEquals(Collections.singletonList("SELECT 0"), sentMessages());
+    }
+
+    @Test
+    public void testRowsAreNotReadWhileTheChannelIsNotWritable() throws Exception
+    {
+        TestResultSet resultSet = new TestResultSet(5);
+        ResultSetReceiver receiver = newReceiver();
+        this.channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        CompletableFuture<Boolean> sent = CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return receiver.sendResultSet(resultSet, 0);
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(e);
+            }
+        });
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (resultSet.nextCalls.get() == 0 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        Assert.assertEquals(1, resultSet.nextCalls.get());
+        Assert.assertFalse(sent.isDone());
+
+        this.channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        Assert.assertTrue(sent.get(10, TimeUnit.SECONDS));
+        Assert.assertEquals(6, resultSet.nextCalls.get());
+    }
+
+    @Test
+    public void testDisconnectedClientInterruptsTheQuery() throws Exception
+    {
+        ResultSetReceiver receiver = newReceiver();
+        this.channel.close();
+        try
+        {
+            receiver.awaitWritable();
+            Assert.fail("Expected the query to be interrupted");
+        }
+        catch (ClientInterrupted e)
+        {
+            // expected
+        }
+    }
+
+    private ResultSetReceiver newReceiver()
+    {
+        return new ResultSetReceiver(QUERY, new DelayableWriteChannel(this.channel), false, null, this.messages);
+    }
+
+    private List<String> sentMessages()
+    {
+        List<String> sent = new ArrayList<>();
+        ByteBuf buffer;
+        while ((buffer = this.channel.readOutbound()) != null)
+        {
+            if (buffer.isReadable())
+            {
+                char type = (char) buffer.readByte();
+                buffer.readInt();
+                sent.add(type == 'C' ? buffer.readCharSequence(buffer.bytesBefore((byte) 0), StandardCharsets.UTF_8).toString() : String.valueOf(type));
+            }
+            buffer.release();
+        }
+        return sent;
+    }
+
+    private static class TestResultSet implements PostgresResultSet
+    {
+        private final int rows;
+        private final AtomicInteger nextCalls = new AtomicInteger();
+        private int row;
+
+        private TestResultSet(int rows)
+        {
+            this.rows = rows;
+        }
+
+        @Override
+        public PostgresResultSetMetaData getMetaData()
+        {
+            return new PostgresResultSetMetaData()
+            {
+                @Override
+                public int getColumnCount()
+                {
+                    return 1;
+                }
+
+                @Override
+                public String getColumnName(int i)
+                {
+                    return "id";
+                }
+
+                @Override
+                public int getColumnType(int i)
+                {
+                    return Types.INTEGER;
+                }
+
+                @Override
+                public int getScale(int i)
+                {
+                    return 0;
+                }
+            };
+        }
+
+        @Override
+        public Object getObject(int i)
+        {
+            return this.row;
+        }
+
+        @Override
+        public boolean next()
+        {
+            this.nextCalls.incrementAndGet();
+            if (this.row < this.rows)
+            {
+                this.row++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.finos.legend.engine.shared.core.api.result.BinaryTDSFormat;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LegendTdsBinaryResultParserTest
+{
+    @Test
+    public void testParseDataValidateResults() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryTDSFormat.writeHeader(out, Arrays.asList("name", "age", "score", "active", "joined"), Arrays.asList("String", "Integer", "Float", "Boolean", "StrictDate"));
+        out.writeByte(BinaryTDSFormat.ROW);
+        BinaryTDSFormat.writeValue(out, "Joëlle");
+        BinaryTDSFormat.writeValue(out, 42);
+        BinaryTDSFormat.writeValue(out, 1.5d);
+        BinaryTDSFormat.writeValue(out, true);
+        BinaryTDSFormat.writeValue(out, 1591488000000L);
+        out.writeByte(BinaryTDSFormat.ROW);
+        for (int i = 0; i < 5; i++)
+        {
+            BinaryTDSFormat.writeValue(out, null);
+        }
+        out.writeByte(BinaryTDSFormat.END);
+        out.flush();
+
+        InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertTrue(BinaryTDSFormat.isBinaryTDS(inputStream));
+
+        LegendTdsBinaryResultParser parser = new LegendTdsBinaryResultParser(inputStream);
+        Assert.assertEquals(5, parser.getLegendColumns().size());
+        Assert.assertEquals("StrictDate", parser.getLegendColumns().get(4).getType());
+
+        LegendResultSet resultSet = new LegendResultSet(parser);
+        Assert.assertTrue(resultSet.next());
+        Assert.assertEquals("Joëlle", resultSet.getObject(1));
+        Assert.assertEquals(42L, resultSet.getObject(2));
+        Assert.assertEquals(1.5d, resultSet.getObject(3));
+        Assert.assertEquals(true, resultSet.getObject(4));
+        Assert.assertEquals(1591488000000L, resultSet.getObject(5));
+        Assert.assertTrue(resultSet.next());
+        Assert.assertNull(resultSet.getObject(1));
+        Assert.assertNull(resultSet.getObject(5));
+        Assert.assertFalse(resultSet.next());
+    }
+
+    @Test
+    public void testNumbersAreWrittenExactly() throws Exception
+    {
+        BigDecimal decimal = new BigDecimal("12345678901234567890.123456789");
+        BigInteger bigInteger = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryTDSFormat.writeValue(out, decimal);
+        BinaryTDSFormat.writeValue(out, new BigDecimal("-0.10"));
+        BinaryTDSFormat.writeValue(out, bigInteger);
+        BinaryTDSFormat.writeValue(out, bigInteger.negate());
+        BinaryTDSFormat.writeValue(out, BigInteger.valueOf(Long.MIN_VALUE));
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(decimal, BinaryTDSFormat.readValue(in));
+        Assert.assertEquals(new BigDecimal("-0.10"), BinaryTDSFormat.readValue(in));
+        Assert.assertEquals(bigInteger, BinaryTDSFormat.readValue(in));
+        Assert.assertEquals(bigInteger.negate(), BinaryTDSFormat.readValue(in));
+        // integers within the range of a long are sent as longs
+        Assert.assertEquals(Long.MIN_VALUE, BinaryTDSFormat.readValue(in));
+    }
+
+    @Test
+    public void testJsonResultIsNotDetectedAsBinary() throws IOException
+    {
+        try (InputStream inputStream = new BufferedInputStream(ClassLoader.getSystemClassLoader().getResourceAsStream("org/finos/legend/engine/postgres/handler/legend/legendTdsResult.json")))
+        {
+            Assert.assertFalse(BinaryTDSFormat.isBinaryTDS(inputStream));
+            Assert.assertEquals(8, new LegendTdsResultParser(inputStream).getLegendColumns().size());
+        }
+    }
+}